@@ -75,6 +75,17 @@ public enum CacheType {
      */
     CACHE,
 
+    /**
+     * Similar to the CACHE identity map, it maintains a fixed number of objects
+     * specified by the application, but the least-recently-used order is
+     * approximated by sampling so that concurrent reads do not contend on a lock.
+     * This cache type should be used instead of CACHE for heavily read classes.
+     * WARNING: Furnishes caching and identity, but does not guarantee
+     * identity.  This cache type is not recommend and should normally not be used,
+     * except for objects that have no relationships to them.
+     */
+    CONCURRENT_CACHE,
+
     /**
      * WARNING: Does not preserve object identity and does not cache
      * objects.  This cache type is not recommend and should normally not be used.
@@ -33,6 +33,10 @@ import org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism;
  * <li>JDBC - JDBC batch API's are used (dynamic, or parameterized).
  * <li>Bufferred - dynamic SQL is concatenated into a batch SQL string.
  * <li>Oracle-JDBC - Oracle JDBC batch API's are used (allows row count to be returned for optimistic locking).
+ * <li>Pipelined - JDBC batch API's are used, and each full parameterized batch is executed by another thread
+ * while the next batch is built, on the same connection and transaction.
+ * <li>Multi-Row-Insert - JDBC batch API's are used, and batched inserts into the same table are executed
+ * as multi-row INSERT statements on platforms that support them (MySQL, PostgreSQL, H2, SQL Server, Oracle).
  * <li>&lt;custom-class&gt; - A custom class that extends the BatchWritingMechanism class.
  * </ul>
  * @see BatchWritingMechanism
@@ -42,6 +46,8 @@ public class BatchWriting {
     public static final String  JDBC = "JDBC";
     public static final String  Buffered = "Buffered";
     public static final String  OracleJDBC = "Oracle-JDBC";
+    public static final String  Pipelined = "Pipelined";
+    public static final String  MultiRowInsert = "Multi-Row-Insert";
 
     public static final String DEFAULT = None;
 }
@@ -78,6 +78,14 @@ public class CacheType {
      */
     public static final String  Full = "Full";
 
+    /**
+     * A ConcurrentCache holds a fixed size number of objects read by the application,
+     * removing the least recently used objects once the size is reached.
+     * The least recently used order is approximated by sampling so that concurrent reads are not serialized.
+     * <p>WARNING: This cache type does not guarantee object identity for objects that are removed from the cache.
+     */
+    public static final String  ConcurrentCache = "ConcurrentCache";
+
     /**
      * NONE does not cache any objects.
      * It allows any un-referenced objects to be free to garbage collection.
@@ -296,6 +296,22 @@ public class PersistenceUnitProperties {
      */
     public static final String JPQL_VALIDATION = "eclipselink.jpql.validation";
 
+    /**
+     * The "<code>eclipselink.jpql.parse-cache.size</code>" property
+     * specifies the number of parsed JPQL queries held in the JPQL parse cache.
+     * When the size is exceeded the least frequently used queries are removed.
+     * <p>
+     * Default: 200
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a zero or greater integer value, 0 disables the cache.
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setJPQLParseCacheMaxSize(int)
+     */
+    public static final String JPQL_PARSE_CACHE_SIZE = "eclipselink.jpql.parse-cache.size";
+
     /**
      * The "<code>wait</code>" property.<br>
      * This can be append to any connection pool property,
@@ -459,6 +475,67 @@ public class PersistenceUnitProperties {
      */
     public static final String CONNECTION_POOL_FAILOVER = "failover";
 
+    /**
+     * The "<code>concurrent</code>" property.<br>
+     * This can be append to any connection pool property,
+     * i.e. "<code>eclipselink.connection-pool.default.concurrent</code>".<br>
+     * Configures the pool to borrow and return connections without locking.
+     * Threads waiting for a connection are served in order and fail after the wait timeout,
+     * idle connections are validated and kept alive in the background,
+     * and connections in use longer than the leak detection threshold are reported.
+     * <p>
+     * Ignored in case external connection pools are used.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - the standard connection pool is used
+     * <li>"<code>true</code>" - a concurrent connection pool is used
+     * </ul>
+     *
+     * @see #CONNECTION_POOL
+     * @see org.eclipse.persistence.sessions.server.ConcurrentConnectionPool
+     */
+    public static final String CONNECTION_POOL_CONCURRENT = "concurrent";
+
+    /**
+     * The "<code>idleTimeout</code>" property.<br>
+     * This can be append to any connection pool property,
+     * i.e. "<code>eclipselink.connection-pool.default.idleTimeout</code>".<br>
+     * Specifies the time in milliseconds a connection above the minimum can be idle
+     * before it is disconnected. Setting it implies a concurrent connection pool.
+     * <p>
+     * Default: 600000 ms (10 minutes).
+     *
+     * @see #CONNECTION_POOL_CONCURRENT
+     */
+    public static final String CONNECTION_POOL_IDLE_TIMEOUT = "idleTimeout";
+
+    /**
+     * The "<code>keepAliveTime</code>" property.<br>
+     * This can be append to any connection pool property,
+     * i.e. "<code>eclipselink.connection-pool.default.keepAliveTime</code>".<br>
+     * Specifies the time in milliseconds after which an idle connection is validated,
+     * which also keeps it alive. Setting it implies a concurrent connection pool.
+     * <p>
+     * Default: 120000 ms (2 minutes).
+     *
+     * @see #CONNECTION_POOL_CONCURRENT
+     */
+    public static final String CONNECTION_POOL_KEEP_ALIVE_TIME = "keepAliveTime";
+
+    /**
+     * The "<code>leakDetectionThreshold</code>" property.<br>
+     * This can be append to any connection pool property,
+     * i.e. "<code>eclipselink.connection-pool.default.leakDetectionThreshold</code>".<br>
+     * Specifies the time in milliseconds a connection can be in use before a warning
+     * with the stack of the borrowing thread is logged. Setting it implies a concurrent connection pool.
+     * <p>
+     * Default: 0, leak detection is disabled.
+     *
+     * @see #CONNECTION_POOL_CONCURRENT
+     */
+    public static final String CONNECTION_POOL_LEAK_DETECTION_THRESHOLD = "leakDetectionThreshold";
+
     /**
      * Allow configuring a "<code>eclipselink.connection-pool.</code>" properties.
      * The name of the connection pool must be appended to configure the pool,
@@ -487,6 +564,10 @@ public class PersistenceUnitProperties {
      * <li> "<code>nonJtaDataSource</code>" - non JTA DataSource name to use for the connection, if different than the default.
      * <li> "<code>user</code>" - user to use for the connection, if different than the default.
      * <li> "<code>password</code>" - password to use for the connection, if different than the default.
+     * <li> "<code>concurrent</code>" - use a concurrent connection pool.
+     * <li> "<code>idleTimeout</code>" - idle time before a connection above the minimum is disconnected, concurrent pools only.
+     * <li> "<code>keepAliveTime</code>" - idle time before a connection is validated, concurrent pools only.
+     * <li> "<code>leakDetectionThreshold</code>" - time in use before a connection is reported as leaked, concurrent pools only.
      * </ul>
      * <p>
      * <b>Persistence XML example:</b><pre>
@@ -506,6 +587,10 @@ public class PersistenceUnitProperties {
      * @see #CONNECTION_POOL_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_NON_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_SHARED
+     * @see #CONNECTION_POOL_CONCURRENT
+     * @see #CONNECTION_POOL_IDLE_TIMEOUT
+     * @see #CONNECTION_POOL_KEEP_ALIVE_TIME
+     * @see #CONNECTION_POOL_LEAK_DETECTION_THRESHOLD
      * @see org.eclipse.persistence.sessions.server.ConnectionPool
      */
     public static final String CONNECTION_POOL = "eclipselink.connection-pool.";
@@ -1050,6 +1135,41 @@ public class PersistenceUnitProperties {
      */
     public static final String JDBC_ALLOW_PARTIAL_PARAMETERS = "eclipselink.jdbc.allow-partial-bind-parameters";
 
+    /**
+     * Property "<code>eclipselink.jdbc.in-parameter-padding</code>" configures whether the values
+     * of bound IN parameters are padded to the next power of two by repeating the last value.
+     * <p>
+     * Without padding each number of values in an IN clause (including IN batch fetching) generates different SQL,
+     * each using its own prepared statement and database execution plan.
+     * With padding, for example, 5 to 8 values share the same SQL.
+     * The padding does not exceed the database platform's IN clause limit.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - the values are not padded
+     * <li>"<code>true</code>" - the values are padded
+     * </ul>
+     * @see QueryHints#IN_PARAMETER_PADDING
+     */
+    public static final String JDBC_IN_PARAMETER_PADDING = "eclipselink.jdbc.in-parameter-padding";
+
+    /**
+     * Property "<code>eclipselink.jdbc.in-array-parameter-threshold</code>" configures the minimum number of values
+     * of a bound IN parameter (including IN batch fetching) to bind as a single JDBC array, instead of a parameter for each value.
+     * <p>
+     * This is only used on database platforms that support array IN parameters:
+     * PostgreSQL and H2 compare the value to the array with "= ANY (?)",
+     * Oracle requires the collection types to be set on the platform, and selects from "TABLE(?)".
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>0</code>" (DEFAULT) - the values are always bound as a parameter for each value
+     * <li>a positive number - the minimum number of values to bind as an array
+     * </ul>
+     * @see org.eclipse.persistence.internal.databaseaccess.DatabasePlatform#setINArrayParameterThreshold(int)
+     */
+    public static final String JDBC_IN_ARRAY_PARAMETER_THRESHOLD = "eclipselink.jdbc.in-array-parameter-threshold";
+
     /**
      * Property "<code>eclipselink.jdbc.force-bind-parameters</code>" enables parameter binding
      * in the creation of JDBC prepared statements. Some database platforms disable parameter binding
@@ -2417,6 +2537,23 @@ public class PersistenceUnitProperties {
      */
     public static final String SEQUENCING_START_AT_NEXTVAL = "eclipselink.sequencing.start-sequence-at-nextval";
 
+    /**
+     * The "<code>eclipselink.sequencing.prefetch</code>" property configures if the next block of
+     * preallocated sequence values is allocated in the background when a quarter of the current block is left,
+     * instead of by the inserting thread when it runs out.
+     * The allocation size of table sequences grows with the rate ids are used, up to 16 times the allocationSize.
+     * This applies to sequences using the sequence connection pool, and native sequence objects.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" - (DEFAULT) allocate sequence values when they run out
+     * <li>"<code>true</code>"
+     * </ul>
+     * @see #JDBC_SEQUENCE_CONNECTION_POOL
+     * @see org.eclipse.persistence.sequencing.SequencingControl#setShouldPrefetch(boolean)
+     */
+    public static final String SEQUENCING_PREFETCH = "eclipselink.sequencing.prefetch";
+
     /**
      * The "<code>eclipselink.session.customizer</code>" property configures a
      * {@link SessionCustomizer} used to alter the runtime configuration through
@@ -2506,6 +2643,12 @@ public class PersistenceUnitProperties {
      * batch writing.
      * <li>"<code>Oracle-JDBC</code>" - use Oracle's native batch writing. This requires the
      * use of an Oracle JDBC driver.
+     * <li>"<code>Pipelined</code>" - use JDBC batch writing, executing each full parameterized
+     * batch on another thread while the next batch is built, on the same connection and transaction.
+     * Statement order is preserved, a batch failure is thrown on the next use of the connection
+     * or at the end of the writes.
+     * <li>"<code>Multi-Row-Insert</code>" - use JDBC batch writing, executing batched inserts into
+     * the same table as multi-row INSERT statements on platforms that support them.
      * <li>"<code>None</code>" (DEFAULT): do not use batch writing (turn it off).
      * <li>the fully qualified name for a class that extends {@link BatchWritingMechanism} abstract class
      * </ul>
@@ -3948,6 +4091,36 @@ public class PersistenceUnitProperties {
      */
     public static final String JPQL_TOLERATE = "eclipselink.tolerate-invalid-jpql";
 
+    /**
+     * The "<code>eclipselink.concurrent-processing</code>" property enables the session's concurrent processing.
+     * When enabled, the rows of large read-all query results are fetched by a thread from the server platform's
+     * thread pool, concurrently to the objects being built from them,
+     * and weak identity map cleanup is done on a separate thread.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     * @see org.eclipse.persistence.internal.sessions.AbstractSession#setIsConcurrent(boolean)
+     */
+    public static final String CONCURRENT_PROCESSING = "eclipselink.concurrent-processing";
+
+    /**
+     * The "<code>eclipselink.generate-attribute-accessors</code>" property configures if accessors are generated
+     * for attributes using property (get and set method) access.
+     * A generated accessor calls the methods directly instead of through reflection.
+     * Attributes using field access, or weaved classes, do not use reflective method calls so are not affected.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     * @see org.eclipse.persistence.sessions.Project#setShouldGenerateAttributeAccessors(boolean)
+     */
+    public static final String GENERATE_ATTRIBUTE_ACCESSORS = "eclipselink.generate-attribute-accessors";
+
     /**
      * The "<code>eclipselink.locking.timestamp.local</code>" property defines if locking policies
      * should default to local time(true) or server time(false).
@@ -65,6 +65,18 @@ public class QueryHints {
      */
     public static final String PARAMETER_DELIMITER = "eclipselink.jdbc.parameter-delimiter";
 
+    /**
+     * "eclipselink.jdbc.in-parameter-padding"
+     * <p>Configures the values of bound IN parameters to be padded to the next power of two by repeating the last value
+     * just for this query (overrides persistent unit setting, which default to false).
+     * This includes the IN batch fetching queries of the query.
+     * Valid values are:  HintValues.PERSISTENCE_UNIT_DEFAULT, HintValues.TRUE, HintValues.FALSE,
+     * "" could be used instead of default value HintValues.PERSISTENCE_UNIT_DEFAULT
+     * @see PersistenceUnitProperties#JDBC_IN_PARAMETER_PADDING
+     * @see org.eclipse.persistence.queries.DatabaseQuery#setShouldPadINParameters(Boolean)
+     */
+    public static final String IN_PARAMETER_PADDING = "eclipselink.jdbc.in-parameter-padding";
+
     /**
      * "jakarta.persistence.cache.retrieveMode"
      * <p>Configures the behavior when data is retrieved by the find methods and
@@ -330,6 +342,19 @@ public class QueryHints {
      */
     public static final String BATCH_SIZE = "eclipselink.batch.size";
 
+    /**
+     * "eclipselink.batch.adaptive"
+     * <p>Configures the batch size for batch fetching using the IN batch type to adapt to the accesses of each relationship.
+     * The batch size is the initial and maximum size, later batches of a relationship read fewer rows if most of the
+     * relationships of a batch are not accessed, and more rows again if nearly all of them are accessed.
+     * The adapted sizes are reported to the session's profiler.
+     * Valid values are defined in HintValues ("TRUE", "FALSE"), the default is "FALSE".
+     * @see #BATCH_TYPE
+     * @see #BATCH_SIZE
+     * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#setIsBatchFetchAdaptive(boolean)
+     */
+    public static final String BATCH_ADAPTIVE = "eclipselink.batch.adaptive";
+
     /**
      * "eclipselink.join-fetch"
      * <p>Configures the query to optimize the retrieval of the related objects,
@@ -623,6 +648,20 @@ public class QueryHints {
      */
     public static final String SCROLLABLE_CURSOR = "eclipselink.cursor.scrollable";
 
+    /**
+     * "eclipselink.cursor.stream-release"
+     * <p>Configures the stream of the results of a read all query, from JPA getResultStream(),
+     * to release the objects it has advanced past, so a large result can be read in constant memory.
+     * An object read in a persistence context is detached once the stream has passed it, unless it was changed,
+     * so any change made to it after that, i.e. after an operation buffering the stream such as sorted(), is not committed.
+     * By default the objects remain managed.
+     * Valid values are:  HintValues.FALSE, HintValues.TRUE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see org.eclipse.persistence.queries.ReadAllQuery#setShouldReleaseStreamedObjects(boolean)
+     * @see org.eclipse.persistence.queries.Cursor#stream()
+     */
+    public static final String CURSOR_STREAM_RELEASE = "eclipselink.cursor.stream-release";
+
     /**
      * "eclipselink.cursor.scrollable.result-set-type"
      * <p>This can be used on ScrollableCursor queries to set the JDBC ResultSet scroll type.
@@ -923,6 +962,17 @@ public class QueryHints {
      */
     public static final String SERIALIZED_OBJECT = "eclipselink.serialized-object";
 
+    /**
+     * "eclipselink.parallel-build"
+     * <p>Configures if the objects of a large result of this read object(s) query are built by multiple threads.
+     * The result keeps the order of the rows. It is not used for objects registered in a transactional persistence context,
+     * so it is normally combined with the read-only hint. It is not used with join or batch fetching.
+     * Valid values are:  HintValues.TRUE, HintValues.FALSE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#setShouldBuildObjectsInParallel(boolean)
+     */
+    public static final String PARALLEL_BUILD = "eclipselink.parallel-build";
+
     /**
      * "eclipselink.query-return-name-value-pairs"
      * <p>Configures a ResultSetMappingQuery to return populated DatabaseRecord(s)
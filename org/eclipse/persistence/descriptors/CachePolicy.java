@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.io.*;
 
 import org.eclipse.persistence.exceptions.*;
@@ -124,6 +125,14 @@ public class CachePolicy implements Cloneable, Serializable {
     /** Allows configuration of database change event notification. */
     protected DatabaseChangeNotificationType databaseChangeNotificationType;
 
+    /** Size in bytes of the off-heap tier of the shared cache, 0 if objects evicted from the cache are not kept off-heap. */
+    protected int offHeapCacheSize;
+
+    /** Statistics of the off-heap tier, maintained on the root descriptor's policy for an inheritance hierarchy. */
+    protected AtomicLong offHeapCacheHits = new AtomicLong();
+    protected AtomicLong offHeapCacheMisses = new AtomicLong();
+    protected AtomicLong offHeapCacheEvictions = new AtomicLong();
+
     /**
      * PUBLIC:
      * Return a new descriptor.
@@ -324,7 +333,12 @@ public class CachePolicy implements Cloneable, Serializable {
 
     public CachePolicy clone() {
         try {
-            return (CachePolicy)super.clone();
+            CachePolicy clone = (CachePolicy)super.clone();
+            // The off-heap cache statistics are per descriptor.
+            clone.offHeapCacheHits = new AtomicLong();
+            clone.offHeapCacheMisses = new AtomicLong();
+            clone.offHeapCacheEvictions = new AtomicLong();
+            return clone;
         } catch (CloneNotSupportedException ignore) {
             throw new InternalError(ignore.getMessage());
         }
@@ -1025,6 +1039,18 @@ public class CachePolicy implements Cloneable, Serializable {
         setIdentityMapClass(ClassConstants.FullIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the concurrent cache identity map.
+     * This map caches a fixed number of instances, approximating LRU eviction
+     * so that concurrent reads are not serialized.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useConcurrentCacheIdentityMap() {
+        setIdentityMapClass(ClassConstants.ConcurrentCacheIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the hard cache weak identity map.
@@ -1070,6 +1096,77 @@ public class CachePolicy implements Cloneable, Serializable {
         setIdentityMapClass(ClassConstants.WeakIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Return the size in bytes of the off-heap tier of the shared cache.
+     * @see #setOffHeapCacheSize(int)
+     */
+    public int getOffHeapCacheSize() {
+        return offHeapCacheSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the size in bytes of the off-heap tier of the shared cache, 0 (the default) disables it.
+     * Objects evicted from the shared identity map are stored as their database row in a direct buffer
+     * of this size, and are rebuilt from it when read by primary key instead of being read from the database.
+     * Once the buffer is full the oldest rows are overwritten.
+     * Only the identity maps that evict objects to keep their size use it,
+     * the CacheIdentityMap and ConcurrentCacheIdentityMap.
+     * As with IdentityMaps an entire class inheritance hierarchy will share the tier of the root descriptor.
+     */
+    public void setOffHeapCacheSize(int offHeapCacheSize) {
+        this.offHeapCacheSize = offHeapCacheSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of reads by primary key that were rebuilt from the off-heap tier.
+     */
+    public long getOffHeapCacheHits() {
+        return offHeapCacheHits.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of reads by primary key that missed the off-heap tier and accessed the database.
+     */
+    public long getOffHeapCacheMisses() {
+        return offHeapCacheMisses.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of rows that were dropped from the off-heap tier because they were overwritten.
+     */
+    public long getOffHeapCacheEvictions() {
+        return offHeapCacheEvictions.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Record a hit of the off-heap tier.
+     */
+    public void incrementOffHeapCacheHits() {
+        offHeapCacheHits.incrementAndGet();
+    }
+
+    /**
+     * INTERNAL:
+     * Record a miss of the off-heap tier.
+     */
+    public void incrementOffHeapCacheMisses() {
+        offHeapCacheMisses.incrementAndGet();
+    }
+
+    /**
+     * INTERNAL:
+     * Record a row dropped from the off-heap tier.
+     */
+    public void incrementOffHeapCacheEvictions() {
+        offHeapCacheEvictions.incrementAndGet();
+    }
+
     public void setPrefetchCacheKeys(boolean prefetchCacheKeys) {
         this.prefetchCacheKeys = prefetchCacheKeys;
     }
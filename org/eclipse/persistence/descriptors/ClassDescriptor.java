@@ -85,6 +85,7 @@ import org.eclipse.persistence.internal.databaseaccess.DatasourceCall;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
 import org.eclipse.persistence.internal.descriptors.CascadeLockingPolicy;
 import org.eclipse.persistence.internal.descriptors.InstantiationPolicy;
+import org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
 import org.eclipse.persistence.internal.descriptors.PersistenceObject;
@@ -4208,6 +4209,16 @@ public class ClassDescriptor extends CoreDescriptor<AttributeGroup, DescriptorEv
             }
         }
 
+        // PERF: Avoid reflection for method access if configured, subclasses of the accessor are left as is.
+        if (session.getProject().shouldGenerateAttributeAccessors()) {
+            for (DatabaseMapping mapping : getMappings()) {
+                AttributeAccessor accessor = mapping.getAttributeAccessor();
+                if ((accessor != null) && (accessor.getClass() == MethodAttributeAccessor.class) && accessor.isInitialized()) {
+                    ((MethodAttributeAccessor)accessor).generateAccessors();
+                }
+            }
+        }
+
         validateBeforeInitialization(session);
 
         preInitializeInheritancePolicy(session);
@@ -5711,6 +5722,14 @@ public class ClassDescriptor extends CoreDescriptor<AttributeGroup, DescriptorEv
         return (getIdentityMapClass() == ClassConstants.CacheIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using ConcurrentCacheIdentityMap
+     */
+    public boolean shouldUseConcurrentCacheIdentityMap() {
+        return (getIdentityMapClass() == ClassConstants.ConcurrentCacheIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Return true if this descriptor is using FullIdentityMap
@@ -5886,6 +5905,18 @@ public class ClassDescriptor extends CoreDescriptor<AttributeGroup, DescriptorEv
         setIdentityMapClass(ClassConstants.CacheIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the concurrent cache identity map.
+     * This map caches a fixed number of instances, approximating LRU eviction
+     * so that concurrent reads are not serialized.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useConcurrentCacheIdentityMap() {
+        getCachePolicy().useConcurrentCacheIdentityMap();
+    }
+
     /**
      * PUBLIC:
      * Set the locking policy a changed fields locking policy.
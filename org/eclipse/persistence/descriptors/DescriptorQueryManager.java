@@ -1830,4 +1830,21 @@ public class DescriptorQueryManager implements Cloneable, Serializable {
         getCachedExpressionQueries().remove(query);
     }
 
+    /**
+     * INTERNAL:
+     * Return the hits, misses and evictions of the update call and expression query caches.
+     * Used by the PerformanceMonitor.
+     */
+    public long[] getQueryCacheStatistics() {
+        long[] statistics = new long[3];
+        for (ConcurrentFixedCache cache : new ConcurrentFixedCache[] {this.cachedUpdateCalls, this.cachedExpressionQueries}) {
+            if (cache != null) {
+                statistics[0] += cache.getHits();
+                statistics[1] += cache.getMisses();
+                statistics[2] += cache.getEvictions();
+            }
+        }
+        return statistics;
+    }
+
 }
@@ -37,7 +37,8 @@ public class ConcurrencyExceptionResource extends ListResourceBundle {
                                            { "2007", "Max number of attempts to lock object: {0} exceeded.  Failed to clone the object." },
                                            { "2008", "Max number of attempts to lock object: {0} exceeded.  Failed to merge the transaction." },
                                            { "2009", "Max number of attempts to lock object exceeded.  Failed to build the object. Thread: {0} has a lock on the object but thread: {1} is building the object."},
-                                           { "2010", "Lock has already been transitioned to a Deferred Lock.  A second attempt to transition the lock has been requested by thread: {0} during merge."}
+                                           { "2010", "Lock has already been transitioned to a Deferred Lock.  A second attempt to transition the lock has been requested by thread: {0} during merge."},
+                                           { "2011", "No connection became available in connection pool [{0}] within the wait timeout of {1} milliseconds."}
 
     };
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * INTERNAL:
+ * Binds the values of an IN parameter as a single JDBC Array.
+ * The Array is created from the statement's connection when bound, through the platform.
+ * @see DatabasePlatform#buildINArrayParameter(java.util.Collection)
+ */
+public class ArrayBindCallCustomParameter extends BindCallCustomParameter {
+    /** The database type name of the array's elements, or the array type, depending on the platform. */
+    protected String elementDataTypeName;
+
+    public ArrayBindCallCustomParameter(String elementDataTypeName, Object[] elements) {
+        super(elements);
+        this.elementDataTypeName = elementDataTypeName;
+    }
+
+    /**
+     * Return the database type name of the array's elements, or the array type, depending on the platform.
+     */
+    public String getElementDataTypeName() {
+        return elementDataTypeName;
+    }
+
+    @Override
+    public void set(DatabasePlatform platform, PreparedStatement statement, int parameterIndex, AbstractSession session) throws SQLException {
+        statement.setArray(parameterIndex, platform.createArray(this.elementDataTypeName, (Object[])this.obj, session, statement.getConnection()));
+    }
+
+    @Override
+    public void set(DatabasePlatform platform, CallableStatement statement, String parameterName, AbstractSession session) throws SQLException {
+        statement.setObject(parameterName, platform.createArray(this.elementDataTypeName, (Object[])this.obj, session, statement.getConnection()));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString((Object[])this.obj);
+    }
+}
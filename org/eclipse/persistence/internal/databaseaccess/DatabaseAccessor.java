@@ -47,16 +47,14 @@ import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.List;
-import java.util.Map;
 import java.util.Vector;
 
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.DatabaseFieldIndex;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.LOBValueWriter;
 import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
@@ -103,8 +101,14 @@ public class DatabaseAccessor extends DatasourceAccessor {
     /** PERF: Backdoor to disabling dynamic statements. Reverts to old prepared statement usage if set. */
     public static boolean shouldUseDynamicStatements = true;
 
+    /**
+     * The number of rows fetched by the query's thread before the rest are fetched concurrently,
+     * small results are not worth handing off to another thread.
+     */
+    public static final int CONCURRENT_FETCH_MINIMUM_ROWS = 256;
+
     /** Stores statement handles for common used prepared statements. */
-    protected Map<String, Statement> statementCache;
+    protected StatementCache statementCache;
 
     /** Cache of the connection's java.sql.DatabaseMetaData */
     protected DatabaseMetaData metaData;
@@ -348,7 +352,7 @@ public class DatabaseAccessor extends DatasourceAccessor {
      */
     public void clearStatementCache(AbstractSession session) {
         if (hasStatementCache()) {
-            for (Statement statement : getStatementCache().values()) {
+            for (Statement statement : getStatementCache().removeAll()) {
                 try {
                     statement.close();
                 } catch (SQLException exception) {
@@ -474,6 +478,26 @@ public class DatabaseAccessor extends DatasourceAccessor {
         }
     }
 
+    /**
+     * Advance the result set and return a Record populated
+     * with values from the next valid row in the result set. Intended solely
+     * for cursored stream support.
+     * The rows share the cursor's field index.
+     */
+    public AbstractRecord cursorRetrieveNextRow(DatabaseFieldIndex fieldIndex, ResultSet resultSet, AbstractSession session) throws DatabaseException {
+        try {
+            if (resultSet.next()) {
+                return fetchRow(fieldIndex, resultSet, resultSet.getMetaData(), session);
+            } else {
+                return null;
+            }
+        } catch (SQLException exception) {
+            DatabaseException commException = processExceptionForCommError(session, exception, null);
+            if (commException != null) throw commException;
+            throw DatabaseException.sqlException(exception, this, session, false);
+        }
+    }
+
     /**
      * Advance the result set and return a DatabaseRow populated
      * with values from the next valid row in the result set. Intended solely
@@ -493,6 +517,26 @@ public class DatabaseAccessor extends DatasourceAccessor {
         }
     }
 
+    /**
+     * Advance the result set and return a DatabaseRow populated
+     * with values from the next valid row in the result set. Intended solely
+     * for scrollable cursor support.
+     * The rows share the cursor's field index.
+     */
+    public AbstractRecord cursorRetrievePreviousRow(DatabaseFieldIndex fieldIndex, ResultSet resultSet, AbstractSession session) throws DatabaseException {
+        try {
+            if (resultSet.previous()) {
+                return fetchRow(fieldIndex, resultSet, resultSet.getMetaData(), session);
+            } else {
+                return null;
+            }
+        } catch (SQLException exception) {
+            DatabaseException commException = processExceptionForCommError(session, exception, null);
+            if (commException != null) throw commException;
+            throw DatabaseException.sqlException(exception, this, session, false);
+        }
+    }
+
     /**
      * Close the connection.
      */
@@ -617,6 +661,8 @@ public class DatabaseAccessor extends DatasourceAccessor {
                 getActiveBatchWritingMechanism(session).executeBatchedStatements(session);
             }
         }
+        // A pipelined batch may still be executing on the connection.
+        awaitPipelinedBatch(session, true);
 
         try {
             incrementCallCount(session);
@@ -774,16 +820,18 @@ public class DatabaseAccessor extends DatasourceAccessor {
                     boolean hasNext = resultSet.next();
                     // PERF: Optimize out simple empty case.
                     if (hasNext) {
-                        if (session.isConcurrent()) {
-                            // If using threading return the cursored list,
-                            // do not close the result or statement as the rows are being fetched by the thread.
-                            return buildThreadCursoredResult(call, resultSet, statement, metaData, session);
-                        } else {
-                            results = new Vector(16);
-                            while (hasNext) {
-                                results.add(fetchRow(call.getFields(), call.getFieldsArray(), resultSet, metaData, session));
-                                hasNext = resultSet.next();
+                        results = new Vector(16);
+                        // If using threading, fetch the first rows, and if there are more return the cursored list,
+                        // do not close the result or statement as the rows are being fetched by the thread.
+                        int concurrentFetchRows = (session.isConcurrent() && !hasMultipleResultsSets) ? CONCURRENT_FETCH_MINIMUM_ROWS : -1;
+                        // PERF: The rows share the call's field index.
+                        DatabaseFieldIndex fieldIndex = call.getFieldIndex();
+                        while (hasNext) {
+                            if (results.size() == concurrentFetchRows) {
+                                return buildThreadCursoredResult(call, resultSet, statement, metaData, session, results);
                             }
+                            results.add(fetchRow(fieldIndex, resultSet, metaData, session));
+                            hasNext = resultSet.next();
                         }
                     } else {
                         results = new Vector(0);
@@ -824,67 +872,91 @@ public class DatabaseAccessor extends DatasourceAccessor {
 
     /**
      * This allows for the rows to be fetched concurrently to the objects being built.
-     * This code is not currently publicly supported.
-     */
-    protected Vector buildThreadCursoredResult(final DatabaseCall dbCall, final ResultSet resultSet, final Statement statement, final ResultSetMetaData metaData, final AbstractSession session) {
-        final ThreadCursoredList results = new ThreadCursoredList(20);
+     * The rows already fetched are returned in a ThreadCursoredList, and the remaining rows are fetched into it
+     * by a task launched on the server platform's thread pool, the result set must be on the next row.
+     * The task can only fetch ahead of the object building by the list's buffer size,
+     * and stops fetching if the list is cancelled or no longer used.
+     * If the thread pool has not started the task when the next row is needed, it is run by the query's thread.
+     * Concurrent processing is enabled using the session's isConcurrent setting.
+     * @see AbstractSession#setIsConcurrent(boolean)
+     */
+    protected Vector buildThreadCursoredResult(final DatabaseCall dbCall, final ResultSet resultSet, final Statement statement,
+            final ResultSetMetaData metaData, final AbstractSession session, List<AbstractRecord> fetchedRows) {
+        ThreadCursoredList results = new ThreadCursoredList(fetchedRows.size() * 2);
+        results.addAll(fetchedRows);
+        // The task must only reference the buffer, so the rows can be garbage collected if the list is not used.
+        final ThreadCursoredList.Buffer buffer = results.getBuffer();
+        final DatabaseFieldIndex fieldIndex = dbCall.getFieldIndex();
         Runnable runnable = new Runnable() {
             @Override
             public void run() {
+                RuntimeException exception = null;
                 try {
                     session.startOperationProfile(SessionProfiler.RowFetch, dbCall.getQuery(), SessionProfiler.ALL);
+                    boolean isFetched = false;
                     try {
-                        // Initial next was already validated before this method is called.
-                        boolean hasNext = true;
-                        while (hasNext) {
-                            results.add(fetchRow(dbCall.getFields(), dbCall.getFieldsArray(), resultSet, metaData, session));
+                        // The first next was already validated before this method is called.
+                        boolean hasNext = !buffer.isCancelled();
+                        while (hasNext && buffer.add(fetchRow(fieldIndex, resultSet, metaData, session))) {
                             hasNext = resultSet.next();
                         }
-                        resultSet.close();// This must be closed in case the statement is cached and not closed.
-                    } catch (SQLException exception) {
+                        isFetched = !hasNext;
+                        if (isFetched) {
+                            resultSet.close();// This must be closed in case the statement is cached and not closed.
+                        } else {
+                            // Cancelled, the statement is closed as the result was not read to its end.
+                            closeStatement(statement, session, dbCall);
+                        }
+                    } catch (SQLException sqlException) {
                         //If this is a connection from an external pool then closeStatement will close the connection.
                         //we must test the connection before that happens.
-                        RuntimeException exceptionToThrow = processExceptionForCommError(session, exception, dbCall);
+                        exception = processExceptionForCommError(session, sqlException, dbCall);
                         try {// Ensure that the statement is closed, but still ensure that the real exception is thrown.
                             closeStatement(statement, session, dbCall);
                         } catch (Exception closeException) {
                         }
-                        if (exceptionToThrow == null){
-                            results.throwException(DatabaseException.sqlException(exception, dbCall, DatabaseAccessor.this, session, false));
+                        if (exception == null) {
+                            exception = DatabaseException.sqlException(sqlException, dbCall, DatabaseAccessor.this, session, false);
                         }
-                        results.throwException(exceptionToThrow);
-                    } catch (RuntimeException exception) {
+                    } catch (RuntimeException runtimeException) {
                         try {// Ensure that the statement is closed, but still ensure that the real exception is thrown.
                             closeStatement(statement, session, dbCall);
                         } catch (Exception closeException) {
                         }
-                        if (exception instanceof DatabaseException) {
-                            ((DatabaseException)exception).setCall(dbCall);
+                        if (runtimeException instanceof DatabaseException) {
+                            ((DatabaseException)runtimeException).setCall(dbCall);
                         }
-                        results.throwException(exception);
+                        exception = runtimeException;
                     } finally {
                         session.endOperationProfile(SessionProfiler.RowFetch, dbCall.getQuery(), SessionProfiler.ALL);
                     }
 
                     // This is in a separate try block to ensure that the real exception is not masked by the close exception.
-                    try {
-                        // Allow for caching of statement, forced closes are not cache as they failed execution so are most likely bad.
-                        DatabaseAccessor.this.releaseStatement(statement, dbCall.getSQLString(), dbCall, session);
-                    } catch (SQLException exception) {
-                        //With an external connection pool the connection may be null after this call, if it is we will
-                        //be unable to determine if it is a connection based exception so treat it as if it wasn't.
-                        DatabaseException commException = processExceptionForCommError(session, exception, dbCall);
-                        if (commException != null) results.throwException(commException);
-                        results.throwException(DatabaseException.sqlException(exception, DatabaseAccessor.this, session, false));
+                    if (isFetched) {
+                        try {
+                            // Allow for caching of statement, forced closes are not cache as they failed execution so are most likely bad.
+                            DatabaseAccessor.this.releaseStatement(statement, dbCall.getSQLString(), dbCall, session);
+                        } catch (SQLException sqlException) {
+                            //With an external connection pool the connection may be null after this call, if it is we will
+                            //be unable to determine if it is a connection based exception so treat it as if it wasn't.
+                            exception = processExceptionForCommError(session, sqlException, dbCall);
+                            if (exception == null) {
+                                exception = DatabaseException.sqlException(sqlException, DatabaseAccessor.this, session, false);
+                            }
+                        }
                     }
                 } finally {
-                    results.setIsComplete(true);
-                    session.releaseReadConnection(DatabaseAccessor.this);
+                    try {
+                        session.releaseReadConnection(DatabaseAccessor.this);
+                    } finally {
+                        buffer.complete(exception);
+                    }
                 }
             }
         };
+        buffer.setTask(runnable);
         dbCall.returnCursor();
-        session.getServerPlatform().launchContainerRunnable(runnable);
+        session.getServerPlatform().launchContainerRunnable(buffer);
 
         return results;
     }
@@ -1098,6 +1170,31 @@ public class DatabaseAccessor extends DatasourceAccessor {
         // Row creation is optimized through sharing the same fields for the entire result set.
         return new ArrayRecord(fields, fieldsArray, values);
     }
+
+    /**
+     * Return a new ArrayRecord.<p>
+     * Populate the row from the data in cursor. The fields representing the results
+     * and the order of the results are stored in the field index, which is shared by all of the rows of the result.
+     * PERF: This method must be highly optimized.
+     */
+    public AbstractRecord fetchRow(DatabaseFieldIndex fieldIndex, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session) throws DatabaseException {
+        DatabaseField[] fieldsArray = fieldIndex.getFieldsArray();
+        int size = fieldsArray.length;
+        Object[] values = new Object[size];
+        // PERF: Pass platform and optimize data flag.
+        DatabasePlatform platform = getPlatform();
+        boolean optimizeData = platform.shouldOptimizeDataConversion();
+        for (int index = 0; index < size; index++) {
+            DatabaseField field = fieldsArray[index];
+            // Field can be null for fetch groups.
+            if (field != null) {
+                values[index] = getObject(resultSet, field, metaData, index + 1, platform, optimizeData, session);
+            }
+        }
+
+        return new ArrayRecord(fieldIndex, values);
+    }
+
     public void populateRow(DatabaseField[] fieldsArray, Object[] values, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session, int startIndex, int endIndex) throws DatabaseException {
         // PERF: Pass platform and optimize data flag.
         DatabasePlatform platform = getPlatform();
@@ -1459,9 +1556,9 @@ public class DatabaseAccessor extends DatasourceAccessor {
     /**
      * The statement cache stores a fixed sized number of prepared statements.
      */
-    protected synchronized Map<String, Statement> getStatementCache() {
+    protected synchronized StatementCache getStatementCache() {
         if (statementCache == null) {
-            statementCache = new HashMap<String, Statement>(50);
+            statementCache = new StatementCache(getPlatform().getStatementCacheSize());
         }
         return statementCache;
     }
@@ -1567,14 +1664,10 @@ public class DatabaseAccessor extends DatasourceAccessor {
     public Statement prepareStatement(DatabaseCall call, AbstractSession session, boolean unwrapConnection) throws SQLException {
         Statement statement = null;
         if (call.usesBinding(session) && call.shouldCacheStatement(session)) {
-            // Check the cache by sql string, must synchronize check and removal.
-            Map statementCache = getStatementCache();
-            synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(call.getSQLString());
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(call.getSQLString());
-                }
+            // Check the cache by sql string, need to remove to allow concurrent statement execution.
+            statement = getStatementCache().remove(call.getSQLString());
+            if (session.isInProfile()) {
+                session.incrementProfile((statement == null) ? SessionProfiler.StatementCacheMisses : SessionProfiler.StatementCacheHits);
             }
         }
 
@@ -1623,13 +1716,10 @@ public class DatabaseAccessor extends DatasourceAccessor {
         PreparedStatement statement = null;
         // Check the cache by sql string, must synchronize check and removal.
         if (getPlatform().shouldCacheAllStatements()) {
-            Map statementCache = getStatementCache();
-            synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(sql);
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(sql);
-                }
+            // Need to remove to allow concurrent statement execution.
+            statement = (PreparedStatement)getStatementCache().remove(sql);
+            if (session.isInProfile()) {
+                session.incrementProfile((statement == null) ? SessionProfiler.StatementCacheMisses : SessionProfiler.StatementCacheHits);
             }
         }
 
@@ -1687,7 +1777,7 @@ public class DatabaseAccessor extends DatasourceAccessor {
     public void releaseStatement(Statement statement, String sqlString, DatabaseCall call, AbstractSession session) throws SQLException {
         if (((call == null) && getPlatform().shouldCacheAllStatements())
                 || ((call != null) && call.usesBinding(session) && call.shouldCacheStatement(session))) {
-            Map<String, Statement> statementCache = getStatementCache();
+            StatementCache statementCache = getStatementCache();
             synchronized (statementCache) {
                 PreparedStatement preparedStatement = (PreparedStatement)statement;
                 if (!statementCache.containsKey(sqlString)) {// May already be there by other thread.
@@ -1696,14 +1786,15 @@ public class DatabaseAccessor extends DatasourceAccessor {
                     if (call != null) {
                         resetStatementFromCall(preparedStatement, call);
                     }
-                    if (statementCache.size() > getPlatform().getStatementCacheSize()) {
-                        // Currently one is removed at random...
-                        PreparedStatement removedStatement = (PreparedStatement)statementCache.remove(statementCache.keySet().iterator().next());
+                    statementCache.setMaxSize(getPlatform().getStatementCacheSize());
+                    // The least recently used statement that was not reused is evicted.
+                    Statement removedStatement = statementCache.put(sqlString, preparedStatement);
+                    if (removedStatement != null) {
+                        session.incrementProfile(SessionProfiler.StatementCacheEvictions);
                         closeStatement(removedStatement, session, call);
                     } else {
                         decrementCallCount();
                     }
-                    statementCache.put(sqlString, preparedStatement);
                 } else {
                     // CR... Must close the statement if not cached.
                     closeStatement(statement, session, call);
@@ -1744,6 +1835,8 @@ public class DatabaseAccessor extends DatasourceAccessor {
      */
     @Override
     public void rollbackTransaction(AbstractSession session) throws DatabaseException {
+        // The failure of a pipelined batch is the likely cause of the rollback, so is not thrown again.
+        awaitPipelinedBatch(session, false);
         getActiveBatchWritingMechanism(session).clear();
         super.rollbackTransaction(session);
     }
@@ -1803,7 +1896,7 @@ public class DatabaseAccessor extends DatasourceAccessor {
     /**
      * The statement cache stores a fixed sized number of prepared statements.
      */
-    protected void setStatementCache(Hashtable statementCache) {
+    protected void setStatementCache(StatementCache statementCache) {
         this.statementCache = statementCache;
     }
 
@@ -1895,5 +1988,16 @@ public class DatabaseAccessor extends DatasourceAccessor {
         if (isConnected && isInBatchWritingMode(session)) {
             getActiveBatchWritingMechanism(session).executeBatchedStatements(session);
         }
+        awaitPipelinedBatch(session, true);
+    }
+
+    /**
+     * Wait for the batch being executed by another thread when using pipelined batch writing.
+     * This must be called before the connection is used.
+     */
+    protected void awaitPipelinedBatch(AbstractSession session, boolean shouldThrow) {
+        if ((this.parameterizedMechanism != null) && this.parameterizedMechanism.hasPipelinedBatch()) {
+            this.parameterizedMechanism.awaitPipelinedBatch(session, shouldThrow);
+        }
     }
 }
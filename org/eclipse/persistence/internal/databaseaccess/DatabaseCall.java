@@ -39,10 +39,13 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Struct;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
@@ -50,6 +53,7 @@ import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.expressions.ParameterExpression;
 import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.DatabaseFieldIndex;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.queries.CallQueryMechanism;
 import org.eclipse.persistence.internal.queries.DatabaseQueryMechanism;
@@ -117,6 +121,19 @@ public abstract class DatabaseCall extends DatasourceCall {
     // PERF: fields array
     transient protected DatabaseField[] fieldsArray;
 
+    /** Index of the fields shared by the rows of the call's result, built when first needed. */
+    transient protected DatabaseFieldIndex fieldIndex;
+
+    /**
+     * The SQL translated for the IN list parameters of the prepared call, by the shape of the parameters,
+     * shared by the clones of the call that are executed.
+     * Each value is the SQL translated from and the translated SQL.
+     */
+    transient protected Map<ParameterShape, String[]> translatedQueryStrings;
+
+    /** The maximum number of parameter shapes that the translated SQL of a call is cached for. */
+    protected static final int MAX_TRANSLATED_QUERY_STRINGS = 64;
+
     // Field matching is required for custom SQL when the fields order is not known.
     protected boolean isFieldMatchingRequired;
 
@@ -352,6 +369,20 @@ public abstract class DatabaseCall extends DatasourceCall {
         return fieldsArray;
     }
 
+    /**
+     * INTERNAL:
+     * Return the index of the fields returned by the call, shared by the rows of its result.
+     * The index is immutable, so it is safe for concurrent executions of the call to build it.
+     */
+    public DatabaseFieldIndex getFieldIndex() {
+        DatabaseFieldIndex fieldIndex = this.fieldIndex;
+        if ((fieldIndex == null) && (this.fieldsArray != null)) {
+            fieldIndex = new DatabaseFieldIndex(this.fields, this.fieldsArray);
+            this.fieldIndex = fieldIndex;
+        }
+        return fieldIndex;
+    }
+
     /**
      * INTERNAL:
      * Unfortunately can't avoid referencing query and descriptor:
@@ -636,6 +667,10 @@ public abstract class DatabaseCall extends DatasourceCall {
             return;
         }
         prepareInternal(session);
+        // The cache must be created before the call is cloned to be shared by its executions.
+        if ((this.parameters != null) && !this.parameters.isEmpty()) {
+            this.translatedQueryStrings = new ConcurrentHashMap<ParameterShape, String[]>();
+        }
         this.isPrepared = true;
     }
 
@@ -806,6 +841,7 @@ public abstract class DatabaseCall extends DatasourceCall {
      */
     public void setFields(Vector fields) {
         this.fields = fields;
+        this.fieldIndex = null;
         if (fields != null) {
             int size = fields.size();
             this.fieldsArray = new DatabaseField[size];
@@ -1135,6 +1171,7 @@ public abstract class DatabaseCall extends DatasourceCall {
                         if (translatedValue instanceof Collection) {
                             // Must re-translate IN parameters.
                             hasParameterizedIN = true;
+                            translatedValue = padINParameter((Collection)translatedValue, session);
                         }
                         // If the value is null, the field is passed as the value so the type can be obtained from the field.
                         if ((translatedValue == null) && (field != null)) {
@@ -1178,13 +1215,104 @@ public abstract class DatabaseCall extends DatasourceCall {
             setParameters(translatedParametersValues);
             // If an IN parameter was found must translate SQL.
             if (hasParameterizedIN) {
-                translateQueryStringForParameterizedIN(translationRow, modifyRow, session);
+                translateQueryStringForParameterizedINUsingCache(translationRow, modifyRow, session);
             }
         } else {
             translateQueryString(translationRow, modifyRow, session);
         }
     }
 
+    /**
+     * INTERNAL:
+     * Translate the IN() parameter values (List parameters), reusing the SQL translated by a previous execution
+     * of the prepared call with the same shape of parameters, the number of parameters and the size of each list.
+     * For a repeated shape only the parameter values are built, the SQL is not translated again.
+     */
+    protected void translateQueryStringForParameterizedINUsingCache(AbstractRecord translationRow, AbstractRecord modifyRow, AbstractSession session) {
+        Map<ParameterShape, String[]> translatedQueryStrings = this.translatedQueryStrings;
+        if (translatedQueryStrings == null) {
+            translateQueryStringForParameterizedIN(translationRow, modifyRow, session);
+            return;
+        }
+        DatasourcePlatform platform = (DatasourcePlatform)session.getDatasourcePlatform();
+        List<Object> parameters = getParameters();
+        int size = parameters.size();
+        int[] sizes = new int[size + 1];
+        int valuesSize = 0;
+        for (int index = 0; index < size; index++) {
+            Object parameter = parameters.get(index);
+            if (parameter instanceof Collection) {
+                Collection values = (Collection)parameter;
+                // Nested lists, and array parameters, are not cached.
+                if (((values.size() > 0) && (values.iterator().next() instanceof List)) || platform.shouldBindINParameterAsArray(values)) {
+                    translateQueryStringForParameterizedIN(translationRow, modifyRow, session);
+                    return;
+                }
+                sizes[index] = values.size();
+                valuesSize = valuesSize + sizes[index];
+            } else {
+                sizes[index] = -1;
+                valuesSize++;
+            }
+        }
+        // The platform's IN clause limit changes the SQL, and the call may be executed on another session's platform.
+        sizes[size] = platform.getINClauseLimit();
+        ParameterShape shape = new ParameterShape(sizes);
+        String queryString = getQueryString();
+        String[] translatedQueryString = translatedQueryStrings.get(shape);
+        if ((translatedQueryString != null) && (translatedQueryString[0] == queryString)) {
+            List<Object> parametersValues = new ArrayList<Object>(valuesSize);
+            for (int index = 0; index < size; index++) {
+                Object parameter = parameters.get(index);
+                if (parameter instanceof Collection) {
+                    parametersValues.addAll((Collection)parameter);
+                } else {
+                    parametersValues.add(parameter);
+                }
+            }
+            setParameters(parametersValues);
+            setQueryString(translatedQueryString[1]);
+            return;
+        }
+        translateQueryStringForParameterizedIN(translationRow, modifyRow, session);
+        // Only cache the SQL if every parameter had a marker, so the values can be built without it.
+        if ((getParameters().size() == valuesSize) && (translatedQueryStrings.size() < MAX_TRANSLATED_QUERY_STRINGS)) {
+            translatedQueryStrings.put(shape, new String[] {queryString, getQueryString()});
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * The shape of the parameters of an execution of a call, that determines the SQL translated for its IN list parameters.
+     * This is the size of each list parameter, or -1 for a single value, followed by the platform's IN clause limit.
+     */
+    protected static final class ParameterShape {
+        protected final int[] sizes;
+        protected final int hash;
+
+        protected ParameterShape(int[] sizes) {
+            this.sizes = sizes;
+            this.hash = Arrays.hashCode(sizes);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof ParameterShape)) {
+                return false;
+            }
+            ParameterShape shape = (ParameterShape)object;
+            return (this.hash == shape.hash) && Arrays.equals(this.sizes, shape.sizes);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
     /**
      * INTERNAL:
      * Return if the locator is required for the LOB (BLOB and CLOB) writing.
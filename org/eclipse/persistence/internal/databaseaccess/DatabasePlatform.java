@@ -147,6 +147,13 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** Bind some arguments to any SQL statement. */
     protected boolean shouldBindPartialParameters;
 
+    /**
+     * The minimum number of values of a bound IN parameter to bind as a single array,
+     * 0 (the default) if the values are always bound as a parameter for each value.
+     * Only used if the platform supports array IN parameters.
+     */
+    protected int inArrayParameterThreshold;
+
     /** Cache all prepared statements, this requires full parameter binding as well. */
     protected boolean shouldCacheAllStatements;
 
@@ -180,6 +187,12 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** bug 4241441: Allow custom batch writing to enable batching with optimistic locking. **/
     protected boolean usesNativeBatchWriting;
 
+    /** Allow parameterized batches to be executed while the next batch is being built. **/
+    protected boolean usesPipelinedBatchWriting;
+
+    /** Allow batched inserts into the same table to be executed as multi-row inserts. **/
+    protected boolean usesMultiRowInsertBatchWriting;
+
     /** Allow for a custom batch writing mechanism. **/
     protected BatchWritingMechanism batchWritingMechanism;
 
@@ -1003,6 +1016,7 @@ public class DatabasePlatform extends DatasourcePlatform {
         databasePlatform.shouldBindAllParameters = this.shouldBindAllParameters;
         databasePlatform.shouldForceBindAllParameters = this.shouldForceBindAllParameters;
         databasePlatform.shouldBindPartialParameters = this.shouldBindPartialParameters;
+        databasePlatform.inArrayParameterThreshold = this.inArrayParameterThreshold;
         databasePlatform.setShouldCacheAllStatements(shouldCacheAllStatements());
         databasePlatform.setStatementCacheSize(getStatementCacheSize());
         databasePlatform.setTransactionIsolation(getTransactionIsolation());
@@ -1014,6 +1028,8 @@ public class DatabasePlatform extends DatasourcePlatform {
         databasePlatform.setUsesBatchWriting(usesBatchWriting());
         databasePlatform.setUsesJDBCBatchWriting(usesJDBCBatchWriting());
         databasePlatform.setUsesNativeBatchWriting(usesNativeBatchWriting());
+        databasePlatform.setUsesPipelinedBatchWriting(usesPipelinedBatchWriting());
+        databasePlatform.setUsesMultiRowInsertBatchWriting(usesMultiRowInsertBatchWriting());
         databasePlatform.setUsesStreamsForBinding(usesStreamsForBinding());
         databasePlatform.shouldCreateIndicesOnForeignKeys = this.shouldCreateIndicesOnForeignKeys;
         databasePlatform.printOuterJoinInWhereClause = this.printOuterJoinInWhereClause;
@@ -2025,6 +2041,113 @@ public class DatabasePlatform extends DatasourcePlatform {
         this.shouldBindAllParameters = shouldBindAllParameters;
     }
 
+    /**
+     * PUBLIC:
+     * Return the minimum number of values of a bound IN parameter to bind as a single array,
+     * 0 if the values are always bound as a parameter for each value.
+     */
+    public int getINArrayParameterThreshold() {
+        return inArrayParameterThreshold;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the minimum number of values of a bound IN parameter to bind as a single array,
+     * on platforms that support array IN parameters.
+     * A large IN parameter, or IN batch fetch, otherwise uses a parameter for each value,
+     * which is slow to bind, and generates large SQL for each number of values.
+     * By default (0) the values are always bound as a parameter for each value.
+     * @see #supportsINArrayParameters()
+     */
+    public void setINArrayParameterThreshold(int inArrayParameterThreshold) {
+        this.inArrayParameterThreshold = inArrayParameterThreshold;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the platform can bind the values of an IN parameter as a single array.
+     * Platforms that support arrays, and comparing a value to the elements of an array, may override this method.
+     * @see #writeINArrayParameter(Writer, boolean)
+     */
+    public boolean supportsINArrayParameters() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the database type name used to create an array of the java class for an array IN parameter,
+     * or null if values of the class cannot be bound as an array.
+     * By default this is the name of the class's field type.
+     */
+    public String getINArrayParameterTypeName(Class javaClass) {
+        FieldTypeDefinition definition = getFieldTypeDefinition(javaClass);
+        if (definition == null) {
+            return null;
+        }
+        return definition.getName();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the values of a bound IN parameter should be bound as a single array parameter.
+     * This requires the platform to support array IN parameters, the number of values to be at least the threshold,
+     * and the values to be of a single (non collection) class with an array type name.
+     */
+    @Override
+    public boolean shouldBindINParameterAsArray(Collection values) {
+        return getINArrayParameterTypeName(values) != null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the array type name for the values of a bound IN parameter,
+     * or null if the values should be bound as a parameter for each value.
+     */
+    protected String getINArrayParameterTypeName(Collection values) {
+        if ((this.inArrayParameterThreshold <= 0) || (values.size() < this.inArrayParameterThreshold) || !supportsINArrayParameters()) {
+            return null;
+        }
+        Class javaClass = null;
+        for (Object value : values) {
+            if (value != null) {
+                if (javaClass == null) {
+                    javaClass = value.getClass();
+                } else if (value.getClass() != javaClass) {
+                    return null;
+                }
+            }
+        }
+        // Nested lists are used for composite keys.
+        if ((javaClass == null) || Collection.class.isAssignableFrom(javaClass)) {
+            return null;
+        }
+        return getINArrayParameterTypeName(javaClass);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the values of a bound IN parameter as a single array parameter,
+     * or null if the values should be bound as a parameter for each value.
+     */
+    @Override
+    public Object buildINArrayParameter(Collection values) {
+        String typeName = getINArrayParameterTypeName(values);
+        if (typeName == null) {
+            return null;
+        }
+        return new ArrayBindCallCustomParameter(typeName, values.toArray());
+    }
+
+    /**
+     * INTERNAL:
+     * Write the comparison of an array parameter that replaces an IN, or NOT IN, of a parameter for each value.
+     * By default this compares the value to any (or all for NOT IN) of the array's elements.
+     */
+    @Override
+    public void writeINArrayParameter(Writer writer, boolean isNotIN) throws IOException {
+        writer.write(isNotIN ? " <> ALL (?)" : " = ANY (?)");
+    }
+
     /**
      * Cache all prepared statements, this requires full parameter binding as well.
      */
@@ -2147,6 +2270,19 @@ public class DatabasePlatform extends DatasourcePlatform {
         this.usesNativeBatchWriting = usesNativeBatchWriting;
     }
 
+    /**
+     * ADVANCED:
+     * Set if a full parameterized batch should be executed by another thread while the next batch
+     * is being built by the committing thread, on the same connection and transaction.
+     * Only one batch is executed at a time, any other use of the connection waits for it to complete,
+     * so the order of the statements is preserved. A failure of the batch, including an optimistic lock
+     * row count failure, is thrown with the batch's call on the next statement written, or at the end of the writes.
+     * This requires JDBC batch writing.
+     */
+    public void setUsesPipelinedBatchWriting(boolean usesPipelinedBatchWriting) {
+        this.usesPipelinedBatchWriting = usesPipelinedBatchWriting;
+    }
+
     public void setUsesNativeSQL(boolean usesNativeSQL) {
         this.usesNativeSQL = usesNativeSQL;
     }
@@ -2877,6 +3013,83 @@ public class DatabasePlatform extends DatasourcePlatform {
         return usesNativeBatchWriting;
     }
 
+    /**
+     * ADVANCED:
+     * Return if a full parameterized batch is executed by another thread while the next batch is being built.
+     */
+    public boolean usesPipelinedBatchWriting() {
+        return usesPipelinedBatchWriting;
+    }
+
+    /**
+     * ADVANCED:
+     * Set if a parameterized batch of inserts into the same table should be executed as
+     * multi-row INSERT statements, instead of a JDBC batch of single row inserts.
+     * This is only used if the platform supportsMultiRowInsert(), the number of rows per statement
+     * is limited by the batch size, getMaxBindParameters() and getMaxMultiRowInsertRows().
+     * This requires JDBC batch writing.
+     */
+    public void setUsesMultiRowInsertBatchWriting(boolean usesMultiRowInsertBatchWriting) {
+        this.usesMultiRowInsertBatchWriting = usesMultiRowInsertBatchWriting;
+    }
+
+    /**
+     * ADVANCED:
+     * Return if a parameterized batch of inserts into the same table is executed as multi-row INSERT statements.
+     */
+    public boolean usesMultiRowInsertBatchWriting() {
+        return usesMultiRowInsertBatchWriting;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the platform supports inserting multiple rows in a single INSERT statement,
+     * used by multi-row insert batch writing.
+     * Platforms that do not use the INSERT ... VALUES (...), (...) syntax must also override buildMultiRowInsertSQL.
+     */
+    public boolean supportsMultiRowInsert() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the maximum number of bind parameters allowed in a single statement,
+     * used to limit the number of rows of a multi-row insert.
+     */
+    public int getMaxBindParameters() {
+        return 32767;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the maximum number of rows allowed in a single multi-row insert,
+     * independent of the number of bind parameters of each row.
+     */
+    public int getMaxMultiRowInsertRows() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * INTERNAL:
+     * Build the SQL to insert the number of rows, from the SQL of the single row insert.
+     * The values clause of the insert is repeated for each row.
+     * Return null if the SQL is not a single row INSERT ... VALUES (...) statement.
+     */
+    public String buildMultiRowInsertSQL(String insertSQL, int rows) {
+        int valuesIndex = insertSQL.lastIndexOf(") VALUES (");
+        if (!insertSQL.startsWith("INSERT ") || (valuesIndex == -1) || !insertSQL.endsWith(")")) {
+            return null;
+        }
+        String values = insertSQL.substring(valuesIndex + 9);
+        StringBuilder sql = new StringBuilder(insertSQL.length() + ((values.length() + 2) * (rows - 1)));
+        sql.append(insertSQL);
+        for (int row = 1; row < rows; row++) {
+            sql.append(", ");
+            sql.append(values);
+        }
+        return sql.toString();
+    }
+
     public boolean usesNativeSQL() {
         return usesNativeSQL;
     }
@@ -1213,6 +1213,7 @@ public abstract class DatasourceCall implements Call {
                         if (translatedValue instanceof Collection && !Boolean.FALSE.equals(canBind)) {
                             // Must re-translate IN parameters.
                             hasParameterizedIN = true;
+                            translatedValue = padINParameter((Collection)translatedValue, session);
                         }
 
                         // If the value is null, the field is passed as the value so the type can be obtained from the field.
@@ -1335,6 +1336,56 @@ public abstract class DatasourceCall implements Call {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the values of a bound IN parameter padded to the next power of two by repeating the last value,
+     * if IN parameter padding is enabled for the query, or its platform.
+     * This allows executions with different numbers of values to share the same SQL,
+     * the padding does not exceed the platform's IN clause limit.
+     */
+    protected Collection padINParameter(Collection values, AbstractSession session) {
+        int size = values.size();
+        if (size < 2) {
+            return values;
+        }
+        DatasourcePlatform platform = (DatasourcePlatform)session.getDatasourcePlatform();
+        Boolean shouldPadINParameters = (this.query == null) ? null : this.query.getShouldPadINParameters();
+        if ((shouldPadINParameters == null) ? !platform.shouldPadINParameters() : !shouldPadINParameters.booleanValue()) {
+            return values;
+        }
+        // An array parameter does not change the SQL with the number of values.
+        if (platform.shouldBindINParameterAsArray(values)) {
+            return values;
+        }
+        int paddedSize = Integer.highestOneBit(size - 1) << 1;
+        int limit = platform.getINClauseLimit();
+        if ((limit > 0) && (paddedSize > limit)) {
+            paddedSize = Math.max(size, limit);
+        }
+        if (paddedSize == size) {
+            return values;
+        }
+        List paddedValues = new ArrayList(paddedSize);
+        paddedValues.addAll(values);
+        Object lastValue = paddedValues.get(size - 1);
+        for (int index = size; index < paddedSize; index++) {
+            paddedValues.add(lastValue);
+        }
+        return paddedValues;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the values of the IN parameter following the token as a single array parameter,
+     * or null if the parameter is not an IN collection parameter the platform binds as an array.
+     */
+    protected Object buildINArrayParameter(String token, Object parameter, AbstractSession session) {
+        if (!(parameter instanceof Collection) || !token.endsWith(" IN ")) {
+            return null;
+        }
+        return ((DatasourcePlatform)session.getDatasourcePlatform()).buildINArrayParameter((Collection)parameter);
+    }
+
     /**
      * INTERNAL:
      * Translate only IN() parameter values (List parameters).
@@ -1356,6 +1407,17 @@ public abstract class DatasourceCall implements Call {
                     lastIndex = -1;
                 } else {
                     token = queryString.substring(lastIndex, tokenIndex);
+                    // Large IN parameters may be bound as a single array instead of a parameter for each value.
+                    Object arrayParameter = buildINArrayParameter(token, parameters.get(parameterIndex), session);
+                    if (arrayParameter != null) {
+                        boolean isNotIN = token.endsWith(" NOT IN ");
+                        writer.write(token.substring(0, token.length() - (isNotIN ? " NOT IN " : " IN ").length()));
+                        ((DatasourcePlatform)session.getDatasourcePlatform()).writeINArrayParameter(writer, isNotIN);
+                        parametersValues.add(arrayParameter);
+                        lastIndex = tokenIndex + 1;
+                        parameterIndex++;
+                        continue;
+                    }
                 }
                 writer.write(token);
                 if (tokenIndex != -1) {
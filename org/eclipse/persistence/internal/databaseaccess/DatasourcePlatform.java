@@ -23,6 +23,7 @@ package org.eclipse.persistence.internal.databaseaccess;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
@@ -113,6 +114,12 @@ public class DatasourcePlatform implements Platform {
      */
     protected boolean supportsReturnGeneratedKeys;
 
+    /**
+     * If the values of bound IN parameters are padded to the next power of two by repeating the last value,
+     * so executions with different numbers of values share the same SQL and prepared statements.
+     */
+    protected boolean shouldPadINParameters;
+
     public DatasourcePlatform() {
         this.tableQualifier = "";
         this.startDelimiter = "";
@@ -263,6 +270,7 @@ public class DatasourcePlatform implements Platform {
         datasourcePlatform.sequencesAfterCloneCleanup();
         datasourcePlatform.setDefaultNativeSequenceToTable(getDefaultNativeSequenceToTable());
         datasourcePlatform.setDefaultSeqenceAtNextValue(getDefaultSeqenceAtNextValue());
+        datasourcePlatform.setShouldPadINParameters(shouldPadINParameters());
     }
 
     /**
@@ -1141,4 +1149,56 @@ public class DatasourcePlatform implements Platform {
     public int getINClauseLimit() {
         return 0;
     }
+
+    /**
+     * PUBLIC:
+     * Return if the values of bound IN parameters are padded to the next power of two by repeating the last value.
+     * This allows queries, and IN batch fetching, with different numbers of values to share the same SQL,
+     * instead of each number of values using its own prepared statement and database execution plan.
+     * The padding does not exceed the platform's IN clause limit. A query may override the platform setting.
+     * @see org.eclipse.persistence.queries.DatabaseQuery#setShouldPadINParameters(Boolean)
+     */
+    public boolean shouldPadINParameters() {
+        return shouldPadINParameters;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the values of bound IN parameters are padded to the next power of two by repeating the last value.
+     * This allows queries, and IN batch fetching, with different numbers of values to share the same SQL,
+     * instead of each number of values using its own prepared statement and database execution plan.
+     * By default the values are not padded.
+     */
+    public void setShouldPadINParameters(boolean shouldPadINParameters) {
+        this.shouldPadINParameters = shouldPadINParameters;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the values of a bound IN parameter should be bound as a single array parameter,
+     * instead of a parameter for each value.
+     * @see #buildINArrayParameter(Collection)
+     */
+    public boolean shouldBindINParameterAsArray(Collection values) {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the values of a bound IN parameter as a single array parameter,
+     * or null if the values should be bound as a parameter for each value.
+     */
+    public Object buildINArrayParameter(Collection values) {
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the comparison of an array parameter that replaces an IN, or NOT IN, of a parameter for each value.
+     */
+    public void writeINArrayParameter(Writer writer, boolean isNotIN) throws IOException {
+        writer.write(isNotIN ? " NOT IN (" : " IN (");
+        writer.write("?");
+        writer.write(")");
+    }
 }
@@ -20,6 +20,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.persistence.descriptors.DescriptorQueryManager;
 import org.eclipse.persistence.exceptions.DatabaseException;
@@ -51,6 +53,18 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
     protected List<List> parameters;
     protected DatabaseCall lastCallAppended;
 
+    /**
+     * If full batches are executed by another thread while the next batch is built.
+     * Only one batch is executed at a time, so the order of the statements is preserved.
+     */
+    protected boolean isPipelined;
+
+    /** The batch being executed by another thread, when pipelined. */
+    protected volatile PipelinedBatch pipelinedBatch;
+
+    /** The thread executing the pipelined batches of the accessor, shared with the clones of the mechanism. */
+    protected PipelineWorker pipelineWorker;
+
     public ParameterizedSQLBatchWritingMechanism() {
         super();
     }
@@ -63,6 +77,7 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
             // the max size was not set on the platform - use default
             this.maxBatchSize = DatabasePlatform.DEFAULT_PARAMETERIZED_MAX_BATCH_WRITING_SIZE;
         }
+        this.isPipelined = this.databaseAccessor.getLogin().getPlatform().usesPipelinedBatchWriting();
     }
 
     /**
@@ -72,6 +87,11 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
      * possibly, switching out the mechanisms
      */
     public void appendCall(AbstractSession session, DatabaseCall dbCall) {
+        PipelinedBatch batch = this.pipelinedBatch;
+        if ((batch != null) && (batch.failure != null)) {
+            // Report the failure of the pipelined batch as soon as it is known, instead of on the next flush.
+            awaitPipelinedBatch(session, true);
+        }
         if (dbCall.hasParameters()) {
             //make an equality check on the String, because if we are caching statements then
             //we will not have to perform the string comparison multiple times.
@@ -82,7 +102,8 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
                 if (this.previousCall.getSQLString().equals(dbCall.getSQLString()) && (this.parameters.size() < this.maxBatchSize)) {
                     this.parameters.add(dbCall.getParameters());
                 } else {
-                    executeBatchedStatements(session);
+                    // The connection is not used until the next flush, so the batch can be pipelined.
+                    executeBatchedStatements(session, this.isPipelined);
                     this.previousCall = dbCall;
                     this.parameters.add(dbCall.getParameters());
                 }
@@ -126,6 +147,17 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
      * case that a non batchable statement is being executed
      */
     public void executeBatchedStatements(AbstractSession session) {
+        executeBatchedStatements(session, false);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batched statements, after any pipelined batch has completed.
+     * If pipelined, the batch is executed by another thread and this returns immediately,
+     * the caller must not use the connection until awaitPipelinedBatch is called.
+     */
+    protected void executeBatchedStatements(AbstractSession session, boolean pipelined) {
+        awaitPipelinedBatch(session, true);
         if (this.parameters.isEmpty()) {
             return;
         }
@@ -134,7 +166,55 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
         //is not visible to recursive calls to executeBatchedStatements(session).
         ParameterizedSQLBatchWritingMechanism currentBatch = (ParameterizedSQLBatchWritingMechanism) this.clone();
         this.clear();
-        currentBatch.executeBatch(session);
+        if (pipelined && (currentBatch.parameters.size() > 1)) {
+            PipelinedBatch batch = new PipelinedBatch(currentBatch, session);
+            this.pipelinedBatch = batch;
+            if (this.pipelineWorker == null) {
+                this.pipelineWorker = new PipelineWorker();
+            }
+            if (this.pipelineWorker.submit(batch)) {
+                // The worker is launched for a batch if it stopped after its previous batch.
+                try {
+                    session.getServerPlatform().launchContainerRunnable(this.pipelineWorker);
+                } catch (RuntimeException exception) {
+                    // i.e. the platform's pool was shut down, the batch is executed by this thread.
+                    this.pipelineWorker.stop();
+                    batch.run();
+                }
+            }
+        } else {
+            currentBatch.executeBatch(session);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for the batch being executed by another thread to complete.
+     * This must be called before the connection is used by the accessor.
+     * @param shouldThrow if the batch's failure should be thrown, it is ignored on rollback.
+     */
+    public void awaitPipelinedBatch(AbstractSession session, boolean shouldThrow) {
+        PipelinedBatch batch = this.pipelinedBatch;
+        // The pipelined batch itself uses the connection.
+        if ((batch == null) || (batch.thread == Thread.currentThread())) {
+            return;
+        }
+        this.pipelinedBatch = null;
+        Throwable failure = batch.await();
+        if ((failure != null) && shouldThrow) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException)failure;
+            }
+            throw (Error)failure;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if a batch is being executed by another thread.
+     */
+    public boolean hasPipelinedBatch() {
+        return this.pipelinedBatch != null;
     }
 
     /**
@@ -161,6 +241,18 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
             return;
         }
 
+        if (session.getPlatform().usesMultiRowInsertBatchWriting()) {
+            try {
+                if (executeMultiRowInserts(session)) {
+                    return;
+                }
+            } finally {
+                if (this.parameters.isEmpty()) {
+                    clear();
+                }
+            }
+        }
+
         try {
             this.databaseAccessor.incrementCallCount(session);// Decrement occurs in close.
 
@@ -192,6 +284,53 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
         }
     }
 
+    /**
+     * INTERNAL:
+     * Execute a batch of inserts into the same table as multi-row inserts.
+     * Each statement inserts the most rows allowed by the batch size and the platform's bind parameter and row limits,
+     * the remaining rows are inserted in chunks of a power of 2 rows, to limit the number of distinct
+     * statements to prepare and cache.
+     * Return false if the batch is not of inserts that can be executed as multi-row inserts,
+     * or if the platform does not support them.
+     */
+    protected boolean executeMultiRowInserts(AbstractSession session) {
+        DatabasePlatform platform = session.getPlatform();
+        DatabaseCall call = this.previousCall;
+        if (!platform.supportsMultiRowInsert() || (call.getQuery() == null) || !call.getQuery().isInsertObjectQuery()
+                || call.isCallableStatementRequired() || call.shouldReturnGeneratedKeys() || call.hasOptimisticLock()) {
+            return false;
+        }
+        String sql = call.getSQLString();
+        int parametersPerRow = this.parameters.get(0).size();
+        int maxRows = Math.min(Math.min(this.maxBatchSize, platform.getMaxMultiRowInsertRows()), platform.getMaxBindParameters() / Math.max(parametersPerRow, 1));
+        if ((maxRows < 2) || (platform.buildMultiRowInsertSQL(sql, 2) == null)) {
+            return false;
+        }
+        List<List> rowParameters = this.parameters;
+        // Clear now, so any failure leaves the mechanism empty.
+        this.parameters = new ArrayList();
+        int size = rowParameters.size();
+        int index = 0;
+        while (index < size) {
+            int remaining = size - index;
+            int rows = (remaining >= maxRows) ? maxRows : Integer.highestOneBit(remaining);
+            DatabaseCall rowsCall = (DatabaseCall)call.clone();
+            if (rows == 1) {
+                rowsCall.setParameters(rowParameters.get(index));
+            } else {
+                rowsCall.setSQLStringInternal(platform.buildMultiRowInsertSQL(sql, rows));
+                List values = new ArrayList(rows * parametersPerRow);
+                for (int row = index; row < (index + rows); row++) {
+                    values.addAll(rowParameters.get(row));
+                }
+                rowsCall.setParameters(values);
+            }
+            this.databaseAccessor.basicExecuteCall(rowsCall, null, session, false);
+            index += rows;
+        }
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Swaps out the Mechanism for the other Mechanism
@@ -283,4 +422,147 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
     public void setLastCallAppended(DatabaseCall lastCallAppended) {
         this.lastCallAppended = lastCallAppended;
     }
+
+    /**
+     * INTERNAL:
+     * Return if full batches are executed by another thread while the next batch is built.
+     */
+    public boolean isPipelined() {
+        return isPipelined;
+    }
+
+    /**
+     * INTERNAL:
+     * Set if full batches are executed by another thread while the next batch is built.
+     */
+    public void setIsPipelined(boolean isPipelined) {
+        this.isPipelined = isPipelined;
+    }
+
+    /**
+     * The thread executing the pipelined batches of an accessor, one batch at a time.
+     * The worker stops as soon as it has no batch to execute, so it only holds a thread of the server platform
+     * while the accessor has a batch executing.
+     */
+    protected static class PipelineWorker implements Runnable {
+        protected PipelinedBatch batch;
+        protected boolean isRunning;
+
+        /**
+         * Submit the batch to execute, return true if the worker is not running and must be launched.
+         * The previous batch must have completed.
+         */
+        protected synchronized boolean submit(PipelinedBatch batch) {
+            this.batch = batch;
+            if (this.isRunning) {
+                return false;
+            }
+            this.isRunning = true;
+            return true;
+        }
+
+        /**
+         * Stop the worker, as it could not be launched.
+         */
+        protected synchronized void stop() {
+            this.batch = null;
+            this.isRunning = false;
+        }
+
+        /**
+         * Return the next batch to execute, or null and stop if none was submitted.
+         */
+        protected synchronized PipelinedBatch next() {
+            PipelinedBatch next = this.batch;
+            this.batch = null;
+            if (next == null) {
+                this.isRunning = false;
+            }
+            return next;
+        }
+
+        @Override
+        public void run() {
+            PipelinedBatch next;
+            while ((next = next()) != null) {
+                next.run();
+            }
+        }
+    }
+
+    /**
+     * A batch executed by another thread, the committing thread waits for it before it next uses the connection.
+     */
+    protected static class PipelinedBatch implements Runnable {
+        protected final ParameterizedSQLBatchWritingMechanism batch;
+        protected final AbstractSession session;
+        protected final CountDownLatch completed;
+        /** Set by the first of the worker or the waiting committing thread to execute the batch. */
+        protected final AtomicBoolean isStarted;
+        protected volatile Throwable failure;
+        protected volatile Thread thread;
+
+        protected PipelinedBatch(ParameterizedSQLBatchWritingMechanism batch, AbstractSession session) {
+            this.batch = batch;
+            this.session = session;
+            this.completed = new CountDownLatch(1);
+            this.isStarted = new AtomicBoolean();
+        }
+
+        /**
+         * Execute the batch, unless already started by another thread.
+         */
+        @Override
+        public void run() {
+            if (this.isStarted.compareAndSet(false, true)) {
+                execute();
+            }
+        }
+
+        protected void execute() {
+            this.thread = Thread.currentThread();
+            // The failure is thrown by the committing thread, so must identify the batch that caused it.
+            DatabaseCall call = this.batch.lastCallAppended;
+            try {
+                this.batch.executeBatch(this.session);
+            } catch (DatabaseException exception) {
+                if (exception.getCall() == null) {
+                    exception.setCall(call);
+                }
+                if ((exception.getQuery() == null) && (call != null)) {
+                    exception.setQuery(call.getQuery());
+                }
+                this.failure = exception;
+            } catch (RuntimeException exception) {
+                this.failure = exception;
+            } catch (Error error) {
+                this.failure = error;
+            } finally {
+                this.completed.countDown();
+            }
+        }
+
+        /**
+         * Wait for the batch to complete and return its failure, or null.
+         * If no thread has started the batch it is executed by the waiting thread, so the wait does not depend on
+         * a thread of the server platform being available.
+         * The wait is not interruptible, as the connection must not be used until the batch completes.
+         */
+        protected Throwable await() {
+            run();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    this.completed.await();
+                    break;
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return this.failure;
+        }
+    }
 }
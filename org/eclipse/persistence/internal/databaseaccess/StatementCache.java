@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Bounded cache of the prepared statements of an accessor keyed by SQL string.
+ * <p>
+ * A statement is removed from the cache while it is executing and put back when it is released,
+ * so concurrent executions of the same SQL each use their own statement.
+ * Statements are evicted in least recently used order, but a statement that has been reused
+ * is given a second chance for each reuse (up to MAX_FREQUENCY) before it is evicted,
+ * so the hot statements stay cached for the life of the connection while one off SQL is evicted.
+ * The entry of an executing SQL string is kept (without its statement) to remember its reuse,
+ * up to maxSize of such entries.
+ * <p>
+ * The SQL string of a call is built once, and String caches its hash, so lookups do not rehash the SQL.
+ * All methods are synchronized, the cache is normally only used by the thread holding the accessor.
+ * @see DatabaseAccessor#prepareStatement(DatabaseCall, org.eclipse.persistence.internal.sessions.AbstractSession)
+ * @see DatabaseAccessor#releaseStatement(Statement, String, DatabaseCall, org.eclipse.persistence.internal.sessions.AbstractSession)
+ */
+public class StatementCache {
+
+    /** The maximum number of second chances a reused statement is given. */
+    public static final int MAX_FREQUENCY = 3;
+
+    /** Entries by SQL string, in access order. */
+    protected LinkedHashMap<String, Entry> entries;
+
+    /** The maximum number of cached statements. */
+    protected int maxSize;
+
+    /** The number of cached statements, entries of executing or evicted statements are not counted. */
+    protected int size;
+
+    protected long hits;
+    protected long misses;
+    protected long evictions;
+
+    public StatementCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<String, Entry>(64, 0.75f, true);
+    }
+
+    /**
+     * Remove and return the cached statement for the SQL string, or null if none is cached.
+     */
+    public synchronized Statement remove(String sql) {
+        Entry entry = this.entries.get(sql);
+        if ((entry == null) || (entry.statement == null)) {
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        Statement statement = entry.statement;
+        entry.statement = null;
+        if (entry.frequency < MAX_FREQUENCY) {
+            entry.frequency++;
+        }
+        this.size--;
+        return statement;
+    }
+
+    /**
+     * Return if a statement is cached for the SQL string.
+     */
+    public synchronized boolean containsKey(String sql) {
+        Entry entry = this.entries.get(sql);
+        return (entry != null) && (entry.statement != null);
+    }
+
+    /**
+     * Cache the statement for the SQL string, this must not already be cached.
+     * Return the statement that was evicted to make room, which must be closed, or null.
+     */
+    public synchronized Statement put(String sql, Statement statement) {
+        Entry entry = this.entries.get(sql);
+        if (entry == null) {
+            entry = new Entry();
+            this.entries.put(sql, entry);
+        }
+        entry.statement = statement;
+        this.size++;
+        if (this.size <= this.maxSize) {
+            return null;
+        }
+        return evict(entry);
+    }
+
+    /**
+     * Remove the least recently used statement that has no second chance left, other than the one just put.
+     * Statements given a second chance, and the entries passed over, are moved to the most recently used end.
+     * Entries without a statement are dropped while there are more than maxSize of them.
+     */
+    protected Statement evict(Entry newEntry) {
+        List<String> secondChances = new ArrayList<String>();
+        List<Entry> secondChanceEntries = new ArrayList<Entry>();
+        Statement evicted = null;
+        int emptyEntries = this.entries.size() - this.size;
+        while (evicted == null) {
+            Iterator<java.util.Map.Entry<String, Entry>> iterator = this.entries.entrySet().iterator();
+            while ((evicted == null) && iterator.hasNext()) {
+                java.util.Map.Entry<String, Entry> next = iterator.next();
+                Entry entry = next.getValue();
+                if (entry.statement == null) {
+                    if (emptyEntries > this.maxSize) {
+                        iterator.remove();
+                        emptyEntries--;
+                    }
+                } else if (entry != newEntry) {
+                    if (entry.frequency > 0) {
+                        entry.frequency--;
+                        secondChances.add(next.getKey());
+                        secondChanceEntries.add(entry);
+                        iterator.remove();
+                    } else {
+                        evicted = entry.statement;
+                        entry.statement = null;
+                        iterator.remove();
+                    }
+                }
+            }
+            for (int index = 0; index < secondChances.size(); index++) {
+                this.entries.put(secondChances.get(index), secondChanceEntries.get(index));
+            }
+            secondChances.clear();
+            secondChanceEntries.clear();
+            if ((evicted == null) && (this.entries.size() - emptyEntries) <= 1) {
+                // Only the new statement is cached, this means the maxSize is 0.
+                evicted = newEntry.statement;
+                newEntry.statement = null;
+            }
+        }
+        this.size--;
+        this.evictions++;
+        return evicted;
+    }
+
+    /**
+     * Remove and return all of the cached statements, they must be closed by the caller.
+     */
+    public synchronized List<Statement> removeAll() {
+        List<Statement> statements = new ArrayList<Statement>(this.size);
+        for (Entry entry : this.entries.values()) {
+            if (entry.statement != null) {
+                statements.add(entry.statement);
+            }
+        }
+        this.entries.clear();
+        this.size = 0;
+        return statements;
+    }
+
+    /**
+     * Return the number of cached statements.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Set the maximum number of cached statements, this is applied on the next put.
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Return the number of lookups that found a cached statement.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Return the number of lookups that did not find a cached statement.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Return the number of statements evicted to keep the cache within its maxSize.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * The cached statement of a SQL string, and the number of second chances it has left.
+     */
+    protected static class Entry {
+        protected Statement statement;
+        protected int frequency;
+    }
+}
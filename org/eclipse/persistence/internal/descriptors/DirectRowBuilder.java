@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.DatabaseFieldIndex;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.queries.JoinedAttributeManager;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.queries.ObjectBuildingQuery;
+
+/**
+ * INTERNAL:
+ * Builds the attributes of a descriptor's objects from the rows of a result, when all of the mappings are read.
+ * <p>
+ * Built once by the object builder when the descriptor is initialized.
+ * The index of each direct to field mapping's field in a result's rows is computed once for the result,
+ * and shared by its rows through the result's field index.
+ * Each row's value is then converted and set directly, avoiding the field lookup,
+ * and the cache isolation and serialized object checks of each mapping, for each row.
+ * Other mappings are built through the mapping, in mapping order.
+ * <p>
+ * This is only used for rows with a field index (rows fetched from a result set)
+ * and descriptors without protected isolation or a serialized object policy.
+ * @see ObjectBuilder#buildAttributesIntoObject
+ * @see ObjectBuilder#buildAttributesIntoWorkingCopyClone
+ */
+public class DirectRowBuilder {
+
+    /** The descriptor's mappings, in mapping order. */
+    protected final DatabaseMapping[] mappings;
+
+    /** The direct to field mapping of each mapping, or null if built through the mapping. */
+    protected final DirectToFieldMapping[] directMappings;
+
+    /** The field of each direct mapping, or null, this is the key of the fields' indexes in each result. */
+    protected final DatabaseField[] fields;
+
+    protected DirectRowBuilder(DatabaseMapping[] mappings, DirectToFieldMapping[] directMappings, DatabaseField[] fields) {
+        this.mappings = mappings;
+        this.directMappings = directMappings;
+        this.fields = fields;
+    }
+
+    /**
+     * Return a builder for the descriptor, or null if it has no direct to field mappings that can be built directly.
+     */
+    public static DirectRowBuilder buildFor(ClassDescriptor descriptor) {
+        if (descriptor.hasSerializedObjectPolicy() || descriptor.getCachePolicy().isProtectedIsolation()) {
+            return null;
+        }
+        List<DatabaseMapping> descriptorMappings = descriptor.getMappings();
+        int size = descriptorMappings.size();
+        DatabaseMapping[] mappings = new DatabaseMapping[size];
+        DirectToFieldMapping[] directMappings = new DirectToFieldMapping[size];
+        DatabaseField[] fields = new DatabaseField[size];
+        boolean hasDirectMapping = false;
+        for (int index = 0; index < size; index++) {
+            DatabaseMapping mapping = descriptorMappings.get(index);
+            mappings[index] = mapping;
+            // Subclasses may read the row differently.
+            if ((mapping.getClass() == DirectToFieldMapping.class) && (mapping.getField() != null)) {
+                directMappings[index] = (DirectToFieldMapping)mapping;
+                fields[index] = mapping.getField();
+                hasDirectMapping = true;
+            }
+        }
+        if (!hasDirectMapping) {
+            return null;
+        }
+        return new DirectRowBuilder(mappings, directMappings, fields);
+    }
+
+    /**
+     * Return the indexes of the direct mappings' fields in the row, or null if the row cannot be built directly.
+     */
+    protected int[] indexesIn(AbstractRecord row) {
+        if (!(row instanceof ArrayRecord) || row.hasSopObject()) {
+            return null;
+        }
+        DatabaseFieldIndex fieldIndex = ((ArrayRecord)row).getFieldIndex();
+        if (fieldIndex == null) {
+            return null;
+        }
+        return fieldIndex.indexesOf(this.fields);
+    }
+
+    /**
+     * Set all of the attributes of the object from the row.
+     * Return false if the row cannot be built directly, and nothing was built.
+     */
+    public boolean buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, AbstractRecord databaseRow, ObjectBuildingQuery query, JoinedAttributeManager joinManager, AbstractSession targetSession) {
+        int[] indexes = indexesIn(databaseRow);
+        if (indexes == null) {
+            return false;
+        }
+        ArrayRecord arrayRow = (ArrayRecord)databaseRow;
+        boolean isTargetProtected = targetSession.isProtectedSession();
+        DatabaseMapping[] mappings = this.mappings;
+        DirectToFieldMapping[] directMappings = this.directMappings;
+        for (int index = 0; index < mappings.length; index++) {
+            DirectToFieldMapping directMapping = directMappings[index];
+            if (directMapping == null) {
+                mappings[index].readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+            } else {
+                int valueIndex = indexes[index];
+                Object fieldValue = (valueIndex == -1) ? null : arrayRow.getValueAtIndex(valueIndex);
+                directMapping.setAttributeValueInObject(domainObject, directMapping.getObjectValue(fieldValue, targetSession));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Set all of the attributes of the working copy clone from the row.
+     * Return false if the row cannot be built directly, and nothing was built.
+     */
+    public boolean buildAttributesIntoWorkingCopyClone(Object clone, CacheKey sharedCacheKey, AbstractRecord databaseRow, ObjectBuildingQuery query, JoinedAttributeManager joinManager, UnitOfWorkImpl unitOfWork) {
+        int[] indexes = indexesIn(databaseRow);
+        if (indexes == null) {
+            return false;
+        }
+        ArrayRecord arrayRow = (ArrayRecord)databaseRow;
+        DatabaseMapping[] mappings = this.mappings;
+        DirectToFieldMapping[] directMappings = this.directMappings;
+        for (int index = 0; index < mappings.length; index++) {
+            DirectToFieldMapping directMapping = directMappings[index];
+            if (directMapping == null) {
+                mappings[index].buildCloneFromRow(databaseRow, joinManager, clone, sharedCacheKey, query, unitOfWork, unitOfWork);
+            } else {
+                int valueIndex = indexes[index];
+                Object fieldValue = (valueIndex == -1) ? null : arrayRow.getValueAtIndex(valueIndex);
+                directMapping.setAttributeValueInObject(clone, directMapping.getObjectValue(fieldValue, unitOfWork));
+            }
+        }
+        return true;
+    }
+}
@@ -234,4 +234,72 @@ public class InstanceVariableAttributeAccessor extends AttributeAccessor {
             }
         }
     }
+
+    /**
+     * Set the long value directly into the field, without boxing.
+     * Any error is handled by the boxed set.
+     */
+    @Override
+    public void setLongAttributeValueInObject(Object anObject, long value) throws DescriptorException {
+        if (!PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
+            try {
+                this.attributeField.setLong(anObject, value);
+                return;
+            } catch (Exception exception) {
+                // Fall through to the boxed set, to throw the appropriate exception.
+            }
+        }
+        setAttributeValueInObject(anObject, Long.valueOf(value));
+    }
+
+    /**
+     * Set the int value directly into the field, without boxing.
+     * Any error is handled by the boxed set.
+     */
+    @Override
+    public void setIntAttributeValueInObject(Object anObject, int value) throws DescriptorException {
+        if (!PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
+            try {
+                this.attributeField.setInt(anObject, value);
+                return;
+            } catch (Exception exception) {
+                // Fall through to the boxed set, to throw the appropriate exception.
+            }
+        }
+        setAttributeValueInObject(anObject, Integer.valueOf(value));
+    }
+
+    /**
+     * Set the double value directly into the field, without boxing.
+     * Any error is handled by the boxed set.
+     */
+    @Override
+    public void setDoubleAttributeValueInObject(Object anObject, double value) throws DescriptorException {
+        if (!PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
+            try {
+                this.attributeField.setDouble(anObject, value);
+                return;
+            } catch (Exception exception) {
+                // Fall through to the boxed set, to throw the appropriate exception.
+            }
+        }
+        setAttributeValueInObject(anObject, Double.valueOf(value));
+    }
+
+    /**
+     * Set the boolean value directly into the field, without boxing.
+     * Any error is handled by the boxed set.
+     */
+    @Override
+    public void setBooleanAttributeValueInObject(Object anObject, boolean value) throws DescriptorException {
+        if (!PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
+            try {
+                this.attributeField.setBoolean(anObject, value);
+                return;
+            } catch (Exception exception) {
+                // Fall through to the boxed set, to throw the appropriate exception.
+            }
+        }
+        setAttributeValueInObject(anObject, Boolean.valueOf(value));
+    }
 }
@@ -20,10 +20,17 @@
 //                       will also need an override in SDO.
 package org.eclipse.persistence.internal.descriptors;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.eclipse.persistence.exceptions.DescriptorException;
 import org.eclipse.persistence.internal.helper.ConversionManager;
@@ -50,6 +57,13 @@ public class MethodAttributeAccessor extends AttributeAccessor {
     protected transient Method setMethod;
     protected transient Method getMethod;
 
+    /** PERF: Generated accessors calling the get and set methods directly, used instead of reflection when set. */
+    protected transient Function<Object, Object> getter;
+    protected transient BiConsumer<Object, Object> setter;
+    /** The type of value the generated set accessor accepts, the wrapper of a primitive parameter type, and if it accepts null. */
+    protected transient Class setterValueType;
+    protected transient boolean setterAcceptsNull;
+
     /**
      * Return the return type of the method accessor.
      */
@@ -67,6 +81,15 @@ public class MethodAttributeAccessor extends AttributeAccessor {
      */
     @Override
     public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        Function<Object, Object> getter = this.getter;
+        // An object of the wrong class is left to reflection to report.
+        if ((getter != null) && this.getMethod.getDeclaringClass().isInstance(anObject)) {
+            try {
+                return getter.apply(anObject);
+            } catch (Throwable exception) {
+                throw DescriptorException.targetInvocationWhileGettingValueThruMethodAccessor(getGetMethodName(), anObject.getClass().getName(), new InvocationTargetException(exception));
+            }
+        }
         return getAttributeValueFromObject(anObject, (Object[]) null);
     }
 
@@ -217,6 +240,86 @@ public class MethodAttributeAccessor extends AttributeAccessor {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Generate accessors calling the initialized get and set methods directly, to use instead of reflection.
+     * The accessors are built with the LambdaMetafactory, so are classes the JIT can inline the methods into.
+     * This is only done for public methods of public classes visible to EclipseLink's class loader,
+     * as the generated classes are defined by it, otherwise reflection continues to be used.
+     * Reflection is still used for values the set method's parameter type does not accept (i.e. a null for a primitive
+     * or a String to convert) and objects of another class, so these are converted and reported the same as without generation.
+     * An exception thrown by the method is reported the same as through reflection, and the method is not called again.
+     */
+    public void generateAccessors() {
+        if (PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
+            return;
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        if (canGenerateAccessor(this.getMethod)) {
+            try {
+                MethodHandle handle = lookup.unreflect(this.getMethod);
+                this.getter = (Function<Object, Object>)LambdaMetafactory.metafactory(lookup, "apply",
+                        MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class),
+                        handle, handle.type().wrap().changeReturnType(Object.class)).getTarget().invoke();
+            } catch (Throwable exception) {
+                this.getter = null;
+            }
+        }
+        if (canGenerateAccessor(this.setMethod)) {
+            try {
+                MethodHandle handle = lookup.unreflect(this.setMethod);
+                MethodType setterType = handle.type().wrap().changeReturnType(void.class);
+                this.setterValueType = setterType.parameterType(1);
+                this.setterAcceptsNull = !handle.type().parameterType(1).isPrimitive();
+                this.setter = (BiConsumer<Object, Object>)LambdaMetafactory.metafactory(lookup, "accept",
+                        MethodType.methodType(BiConsumer.class), MethodType.methodType(void.class, Object.class, Object.class),
+                        handle, setterType).getTarget().invoke();
+            } catch (Throwable exception) {
+                this.setter = null;
+            }
+        }
+    }
+
+    /**
+     * Return if the method takes the object and at most one value,
+     * and it and the types of its signature are public and visible to EclipseLink's class loader.
+     */
+    protected boolean canGenerateAccessor(Method method) {
+        if ((method == null) || Modifier.isStatic(method.getModifiers()) || (method.getParameterTypes().length > 1)
+                || !Modifier.isPublic(method.getModifiers()) || !isVisible(method.getDeclaringClass())
+                || !isVisible(method.getReturnType())) {
+            return false;
+        }
+        for (Class type : method.getParameterTypes()) {
+            if (!isVisible(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return if the class, and any class it is nested in, is public and can be loaded by EclipseLink's class loader.
+     */
+    protected boolean isVisible(Class type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        for (Class declaringClass = type; declaringClass != null; declaringClass = declaringClass.getDeclaringClass()) {
+            if (!Modifier.isPublic(declaringClass.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(type.getName(), false, MethodAttributeAccessor.class.getClassLoader()) == type;
+        } catch (Throwable notVisible) {
+            return false;
+        }
+    }
+
     /**
      * Returns true if this attribute accessor has been initialized and now stores a reference to the
      * class's attribute.  An attribute accessor can become uninitialized on serialization.
@@ -236,6 +339,17 @@ public class MethodAttributeAccessor extends AttributeAccessor {
      */
     @Override
     public void setAttributeValueInObject(Object domainObject, Object attributeValue) throws DescriptorException {
+        BiConsumer<Object, Object> setter = this.setter;
+        // A null value for a primitive, a value needing conversion, or an object of the wrong class is left to reflection.
+        if ((setter != null) && ((attributeValue == null) ? this.setterAcceptsNull : this.setterValueType.isInstance(attributeValue))
+                && this.setMethod.getDeclaringClass().isInstance(domainObject)) {
+            try {
+                setter.accept(domainObject, attributeValue);
+                return;
+            } catch (Throwable exception) {
+                throw DescriptorException.targetInvocationWhileSettingValueThruMethodAccessor(getSetMethodName(), attributeValue, new InvocationTargetException(exception));
+            }
+        }
         setAttributeValueInObject(domainObject, attributeValue, new Object[] {attributeValue});
     }
 
@@ -329,6 +443,7 @@ public class MethodAttributeAccessor extends AttributeAccessor {
      */
     protected void setGetMethod(Method getMethod) {
         this.getMethod = getMethod;
+        this.getter = null;
     }
 
     /**
@@ -343,6 +458,7 @@ public class MethodAttributeAccessor extends AttributeAccessor {
      */
     protected void setSetMethod(Method setMethod) {
         this.setMethod = setMethod;
+        this.setter = null;
     }
 
     /**
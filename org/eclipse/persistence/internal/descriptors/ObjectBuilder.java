@@ -31,6 +31,8 @@ package org.eclipse.persistence.internal.descriptors;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.Semaphore;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -129,11 +131,15 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
     protected boolean shouldKeepRow = false;
     /** PERF: is there an cache index field that's would not be selected by SOP query. Ignored unless descriptor uses SOP and CachePolicy has cache indexes. */
     protected boolean hasCacheIndexesInSopObject = false;
+    /** PERF: Builds the attributes from rows fetched from a result set when all mappings are read, null if not used. */
+    protected DirectRowBuilder directRowBuilder;
     /** Semaphore related properties. Transient to avoid serialization in clustered/replicated environments see CORBA tests*/
     private static final transient ThreadLocal<Boolean> SEMAPHORE_THREAD_LOCAL_VAR = new ThreadLocal<>();
     private static final transient int SEMAPHORE_MAX_NUMBER_THREADS = ConcurrencyUtil.SINGLETON.getNoOfThreadsAllowedToObjectBuildInParallel();
     private static final transient Semaphore SEMAPHORE_LIMIT_MAX_NUMBER_OF_THREADS_OBJECT_BUILDING = new Semaphore(SEMAPHORE_MAX_NUMBER_THREADS);
     private transient ConcurrencySemaphore objectBuilderSemaphore = new ConcurrencySemaphore(SEMAPHORE_THREAD_LOCAL_VAR, SEMAPHORE_MAX_NUMBER_THREADS, SEMAPHORE_LIMIT_MAX_NUMBER_OF_THREADS_OBJECT_BUILDING, this, "object_builder_semaphore_acquired_01");
+    /** The minimum number of rows each thread builds when a query builds its objects in parallel. */
+    protected static final int PARALLEL_BUILD_MINIMUM_ROWS = 1000;
 
     public ObjectBuilder(ClassDescriptor descriptor) {
         this.descriptor = descriptor;
@@ -479,17 +485,20 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
                 return;
             }
         }
-        // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
-        List mappings = this.descriptor.getMappings();
-
         // PERF: Cache if all mappings should be read.
         boolean readAllMappings = query.shouldReadAllMappings();
-        boolean isTargetProtected = targetSession.isProtectedSession();
-        int size = mappings.size();
-        for (int index = 0; index < size; index++) {
-            DatabaseMapping mapping = (DatabaseMapping)mappings.get(index);
-            if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
-                mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+        // PERF: Build the direct mappings from the row's values by index if all mappings are read.
+        if (!readAllMappings || (this.directRowBuilder == null)
+                || !this.directRowBuilder.buildAttributesIntoObject(domainObject, cacheKey, databaseRow, query, joinManager, targetSession)) {
+            // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
+            List mappings = this.descriptor.getMappings();
+            boolean isTargetProtected = targetSession.isProtectedSession();
+            int size = mappings.size();
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = (DatabaseMapping)mappings.get(index);
+                if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
+                    mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+                }
             }
         }
 
@@ -1373,6 +1382,13 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
                     }
                     query.setPrefetchedCacheKeys(session.getIdentityMapAccessorInstance().getAllCacheKeysFromIdentityMapWithEntityPK(pkList, descriptor));
                 }
+                // The objects built by other threads, by row index, if the query builds in parallel.
+                Object[] builtObjects = null;
+                if (query.shouldBuildObjectsInParallel() && (joinManager == null) && (size >= (2 * PARALLEL_BUILD_MINIMUM_ROWS))
+                        && canBuildObjectsInParallel(query, session)) {
+                    builtObjects = buildObjectsInParallel(query, databaseRows, session, inheritancePolicy,
+                            isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                }
                 ContainerPolicy policy = query.getContainerPolicy();
                 if (policy.shouldAddAll()) {
                     List domainObjectsIn = new ArrayList(size);
@@ -1381,8 +1397,12 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
-                                    isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
+                            if (builtObjects == null) {
+                                domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                                        isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
+                            } else {
+                                domainObjectsIn.add(builtObjects[index]);
+                            }
                             databaseRowsIn.add(databaseRow);
                         }
                     }
@@ -1393,8 +1413,13 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            Object domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
-                                    isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                            Object domainObject;
+                            if (builtObjects == null) {
+                                domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                                        isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                            } else {
+                                domainObject = builtObjects[index];
+                            }
                             if (quickAdd) {
                                 ((Collection)domainObjects).add(domainObject);
                             } else {
@@ -1411,6 +1436,144 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
         return domainObjects;
     }
 
+    /**
+     * Return if the objects of the query can be built by multiple threads in the session.
+     * The session must be a ServerSession or ClientSession not in a transaction, so relationships
+     * read by the threads use their own pooled connections, and objects are only put in the cache.
+     * The objects must not batch fetch relationships, as the batch queries are shared through the query's properties.
+     */
+    protected boolean canBuildObjectsInParallel(ObjectLevelReadQuery query, AbstractSession session) {
+        if (query.hasBatchReadAttributes() || hasBatchFetchedMappings(this.descriptor)) {
+            return false;
+        }
+        if (session.isServerSession()) {
+            return true;
+        }
+        return session.isClientSession() && !session.isInTransaction() && !session.isExclusiveIsolatedClientSession();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the descriptor, its aggregates or its subclasses have relationships using batch fetching.
+     */
+    public static boolean hasBatchFetchedMappings(ClassDescriptor descriptor) {
+        if (descriptor.getObjectBuilder().hasBatchFetchedAttributes()) {
+            return true;
+        }
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            if (mapping.isAggregateObjectMapping() && (mapping.getReferenceDescriptor() != null)
+                    && hasBatchFetchedMappings(mapping.getReferenceDescriptor())) {
+                return true;
+            }
+        }
+        if (descriptor.hasInheritance()) {
+            for (ClassDescriptor childDescriptor : descriptor.getInheritancePolicy().getChildDescriptors()) {
+                if (hasBatchFetchedMappings(childDescriptor)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Build the objects for the rows by partitioning the rows across the server platform's threads,
+     * the calling thread builds the first partition, and any partition no thread has started.
+     * Return the objects by row index, with null for the null rows.
+     * Each object is built as it would be by the calling thread, its cache key is locked (or deferred locked)
+     * by the building thread so the identity of the objects is maintained.
+     */
+    protected Object[] buildObjectsInParallel(ObjectBuildingQuery query, List databaseRows, AbstractSession session, InheritancePolicy inheritancePolicy,
+            boolean isUnitOfWork, boolean shouldCacheQueryResults, boolean shouldUseWrapperPolicy) {
+        int size = databaseRows.size();
+        Object[] domainObjects = new Object[size];
+        int partitions = Math.min(Runtime.getRuntime().availableProcessors(), size / PARALLEL_BUILD_MINIMUM_ROWS);
+        int partitionSize = (size + partitions - 1) / partitions;
+        List<FutureTask<Object>> futures = new ArrayList<FutureTask<Object>>(partitions);
+        for (int start = partitionSize; start < size; start = start + partitionSize) {
+            FutureTask<Object> future = new FutureTask<Object>(new ObjectBuildingTask(query, databaseRows, domainObjects, start, Math.min(start + partitionSize, size),
+                    session, inheritancePolicy, isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy), null);
+            futures.add(future);
+            // The container's threads are used, as the building may read relationships and lock cache keys.
+            session.getServerPlatform().launchContainerRunnable(future);
+        }
+        Throwable failure = null;
+        try {
+            new ObjectBuildingTask(query, databaseRows, domainObjects, 0, partitionSize,
+                    session, inheritancePolicy, isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy).run();
+        } catch (RuntimeException exception) {
+            failure = exception;
+        }
+        // Wait for every partition, so no thread is still building when this returns or throws.
+        boolean isInterrupted = false;
+        for (FutureTask<Object> future : futures) {
+            // Build the partition if no thread has started it, so a busy thread pool cannot block the query.
+            future.run();
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException exception) {
+                    isInterrupted = true;
+                } catch (ExecutionException exception) {
+                    if (failure == null) {
+                        failure = exception.getCause();
+                    }
+                    break;
+                }
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException)failure;
+        } else if (failure instanceof Error) {
+            throw (Error)failure;
+        }
+        return domainObjects;
+    }
+
+    /**
+     * Builds the objects for a range of the rows of a query building its objects in parallel.
+     */
+    protected class ObjectBuildingTask implements Runnable {
+        protected final ObjectBuildingQuery query;
+        protected final List databaseRows;
+        protected final Object[] domainObjects;
+        protected final int start;
+        protected final int end;
+        protected final AbstractSession session;
+        protected final InheritancePolicy inheritancePolicy;
+        protected final boolean isUnitOfWork;
+        protected final boolean shouldCacheQueryResults;
+        protected final boolean shouldUseWrapperPolicy;
+
+        protected ObjectBuildingTask(ObjectBuildingQuery query, List databaseRows, Object[] domainObjects, int start, int end,
+                AbstractSession session, InheritancePolicy inheritancePolicy, boolean isUnitOfWork, boolean shouldCacheQueryResults, boolean shouldUseWrapperPolicy) {
+            this.query = query;
+            this.databaseRows = databaseRows;
+            this.domainObjects = domainObjects;
+            this.start = start;
+            this.end = end;
+            this.session = session;
+            this.inheritancePolicy = inheritancePolicy;
+            this.isUnitOfWork = isUnitOfWork;
+            this.shouldCacheQueryResults = shouldCacheQueryResults;
+            this.shouldUseWrapperPolicy = shouldUseWrapperPolicy;
+        }
+
+        public void run() {
+            for (int index = this.start; index < this.end; index++) {
+                AbstractRecord databaseRow = (AbstractRecord)this.databaseRows.get(index);
+                if (databaseRow != null) {
+                    this.domainObjects[index] = buildObject(this.query, databaseRow, null, this.session, descriptor, this.inheritancePolicy,
+                            this.isUnitOfWork, this.shouldCacheQueryResults, this.shouldUseWrapperPolicy);
+                }
+            }
+        }
+    }
+
     /**
      * Version of buildObjectsInto method that takes call instead of rows.
      * Return a container which contains the instances of the receivers javaClass.
@@ -2043,13 +2206,17 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
         }
         // PERF: Cache if all mappings should be read.
         boolean readAllMappings = query.shouldReadAllMappings();
-        List mappings = this.descriptor.getMappings();
-        int size = mappings.size();
-        FetchGroup executionFetchGroup = query.getExecutionFetchGroup(this.descriptor);
-        for (int index = 0; index < size; index++) {
-            DatabaseMapping mapping = (DatabaseMapping)mappings.get(index);
-            if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
-                mapping.buildCloneFromRow(databaseRow, joinManager, clone, sharedCacheKey, query, unitOfWork, unitOfWork);
+        // PERF: Build the direct mappings from the row's values by index if all mappings are read.
+        if (!readAllMappings || (this.directRowBuilder == null)
+                || !this.directRowBuilder.buildAttributesIntoWorkingCopyClone(clone, sharedCacheKey, databaseRow, query, joinManager, unitOfWork)) {
+            List mappings = this.descriptor.getMappings();
+            int size = mappings.size();
+            FetchGroup executionFetchGroup = query.getExecutionFetchGroup(this.descriptor);
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = (DatabaseMapping)mappings.get(index);
+                if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
+                    mapping.buildCloneFromRow(databaseRow, joinManager, clone, sharedCacheKey, query, unitOfWork, unitOfWork);
+                }
             }
         }
 
@@ -3852,6 +4019,7 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
                 break;
             }
         }
+        this.directRowBuilder = DirectRowBuilder.buildFor(this.descriptor);
         // PERF: is there an cache index field that's would not be selected by SOP query. Ignored unless descriptor uses SOP and CachePolicy has cache indexes.
         if (this.descriptor.hasSerializedObjectPolicy() && this.descriptor.getCachePolicy().hasCacheIndexes()) {
             for (List<DatabaseField> indexFields : this.descriptor.getCachePolicy().getCacheIndexes().keySet()) {
@@ -85,6 +85,7 @@ public class ClassConstants extends CoreClassConstants {
 
     // Identity map classes
     public static final Class CacheIdentityMap_Class = org.eclipse.persistence.internal.identitymaps.CacheIdentityMap.class;
+    public static final Class ConcurrentCacheIdentityMap_Class = org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap.class;
     public static final Class FullIdentityMap_Class = org.eclipse.persistence.internal.identitymaps.FullIdentityMap.class;
     public static final Class HardCacheWeakIdentityMap_Class = org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap.class;
     public static final Class NoIdentityMap_Class = org.eclipse.persistence.internal.identitymaps.NoIdentityMap.class;
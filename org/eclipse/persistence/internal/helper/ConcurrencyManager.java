@@ -20,11 +20,15 @@ import java.io.StringWriter;
 import java.security.AccessController;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
 
 import org.eclipse.persistence.config.SystemProperties;
 import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.internal.helper.type.ConcurrencyManagerDiagnostics;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.localization.ToStringLocalization;
 import org.eclipse.persistence.internal.localization.TraceLocalization;
@@ -39,6 +43,13 @@ import org.eclipse.persistence.logging.SessionLog;
  * <b>Purpose</b>: To maintain concurrency for a particular task.
  * It is a wrappers of a semaphore that allows recursive waits by a single thread.
  * <p>
+ * The depth of the active thread and the number of readers are kept in a single lock state
+ * that is updated with compare-and-set, so an uncontended acquire or release does not lock.
+ * Threads that must wait park on a {@link Sync} (an AbstractQueuedSynchronizer) that is only
+ * created once the manager is contended, and are all woken when the lock is released,
+ * as waiting readers may proceed before waiting writers to avoid dead-locks.
+ * Monitors are not used, so waiting virtual threads do not pin their carrier thread.
+ * <p>
  * <b>Responsibilities</b>:
  * <ul>
  * <li> Keep track of the active thread.
@@ -49,32 +60,33 @@ import org.eclipse.persistence.logging.SessionLog;
 public class ConcurrencyManager implements Serializable {
 
     public static final Map<Thread, DeferredLockManager> DEFERRED_LOCK_MANAGERS = initializeDeferredLockManagers();
-    // Used for logging in case of dead-lock detection. Unique instance id.
-    private static final AtomicLong CONCURRENCY_MANAGER_ID = new AtomicLong(0);
 
     protected static boolean shouldTrackStack = PrivilegedAccessHelper.getSystemProperty(SystemProperties.RECORD_STACK_ON_LOCK) != null;
 
-    protected AtomicInteger numberOfReaders;
-    protected AtomicInteger depth;
-    protected AtomicInteger numberOfWritersWaiting;
+    // PERF: Lock counters are primitive fields updated through field updaters,
+    // to avoid allocating an object per counter for every cache key.
+    // The lock state holds the number of readers in the high 32 bits and the depth of the active thread
+    // in the low 32 bits, so that both can be checked and updated by a single compare-and-set.
+    protected volatile long lockState;
+    protected volatile int numberOfWritersWaiting;
     protected volatile transient Thread activeThread;
 
+    /** Wait queue of the threads waiting on this manager, only created once a thread needs to wait. */
+    protected volatile transient Sync sync;
+
+    private static final long DEPTH_MASK = 0xFFFFFFFFL;
+    private static final long READER = 1L << 32;
+
+    private static final AtomicLongFieldUpdater<ConcurrencyManager> LOCK_STATE = AtomicLongFieldUpdater.newUpdater(ConcurrencyManager.class, "lockState");
+    private static final AtomicIntegerFieldUpdater<ConcurrencyManager> NUMBER_OF_WRITERS_WAITING = AtomicIntegerFieldUpdater.newUpdater(ConcurrencyManager.class, "numberOfWritersWaiting");
+    private static final AtomicReferenceFieldUpdater<ConcurrencyManager, Sync> SYNC = AtomicReferenceFieldUpdater.newUpdater(ConcurrencyManager.class, Sync.class, "sync");
+
     protected boolean lockedByMergeManager;
     protected Exception stack;
 
-    // Extended logging info fields
-    // Unique ID assigned each time when a new instance of a concurrency manager is created
-    private final long concurrencyManagerId = CONCURRENCY_MANAGER_ID.incrementAndGet();
-    // Creation date
-    private final Date concurrencyManagerCreationDate = new Date();
-    // In case if two threads are working on the exact same entity that leads to both threads wanting to release the same cache key
-    // there is tracking each increment of number of readers and their release.
-    private final AtomicLong totalNumberOfKeysAcquiredForReading = new AtomicLong(0);
-    // Same as totalNumberOfKeysAcquiredForReading but incremented each time the cache key is suffering to release cache key.
-    private final AtomicLong totalNumberOfKeysReleasedForReading = new AtomicLong(0);
-    // Total number of times the cache key caused a blow up because it suffered a release of cache key when the counter
-    // was set to 0. It should happen if an entity being shared by two threads.
-    private final AtomicLong totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero = new AtomicLong(0);
+    // Extended logging info (id, creation date and thread, read lock counters),
+    // null unless the dead-lock diagnostic was enabled when this instance was created.
+    private final ConcurrencyManagerDiagnostics diagnostics;
 
     private static final Map<Thread, ConcurrencyManager> THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK = new ConcurrentHashMap<>();
     private static final Map<Thread, String> THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK_NAME_OF_METHOD_CREATING_TRACE = new ConcurrentHashMap<>();
@@ -90,14 +102,17 @@ public class ConcurrencyManager implements Serializable {
     private static final String ACQUIRE_WITH_WAIT_METHOD_NAME = ConcurrencyManager.class.getName() + ".acquireWithWait(...)";
     private static final String ACQUIRE_DEFERRED_LOCK_METHOD_NAME = ConcurrencyManager.class.getName() + ".acquireDeferredLock(...)";
 
+    /** Modes waited for by {@link #waitToAcquire(int, Thread, String)}. */
+    protected static final int WRITE = 0;
+    protected static final int READ = 1;
+    protected static final int DEFERRED = 2;
+
     /**
      * Initialize the newly allocated instance of this class.
      * Set the depth to zero.
      */
     public ConcurrencyManager() {
-        this.depth  = new AtomicInteger(0);
-        this.numberOfReaders = new AtomicInteger(0);
-        this.numberOfWritersWaiting = new AtomicInteger(0);
+        this.diagnostics = ConcurrencyUtil.SINGLETON.isDeadLockDiagnosticEnabled() ? new ConcurrencyManagerDiagnostics() : null;
     }
 
     /**
@@ -115,55 +130,12 @@ public class ConcurrencyManager implements Serializable {
      * This should be called before entering a critical section.
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
-        //Flag the time when we start the while loop
-        final long whileStartTimeMillis = System.currentTimeMillis();
+    public void acquire(boolean forMerge) throws ConcurrencyException {
         Thread currentThread = Thread.currentThread();
-        DeferredLockManager lockManager = getDeferredLockManager(currentThread);
-        ReadLockManager readLockManager = getReadLockManager(currentThread);
-
-        // Waiting to acquire cache key will now start on the while loop
-        // NOTE: this step bares no influence in acquiring or not acquiring locks
-        // is just storing debug metadata that we can use when we detect the system is frozen in a dead lock
-        final boolean currentThreadWillEnterTheWhileWait = ((this.activeThread != null) || (this.numberOfReaders.get() > 0)) && (this.activeThread != currentThread);
-        if(currentThreadWillEnterTheWhileWait) {
-            putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_METHOD_NAME);
-        }
-        while (((this.activeThread != null) || (this.numberOfReaders.get() > 0)) && (this.activeThread != Thread.currentThread())) {
-            // This must be in a while as multiple threads may be released, or another thread may rush the acquire after one is released.
-            try {
-                this.numberOfWritersWaiting.incrementAndGet();
-                wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
-                // Run a method that will fire up an exception if we having been sleeping for too long
-                ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
-            } catch (InterruptedException exception) {
-                // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
-                releaseAllLocksAcquiredByThread(lockManager);
-                // Improve concurrency manager metadata
-                // Waiting to acquire cache key is is over
-                if (currentThreadWillEnterTheWhileWait) {
-                    removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
-                }
-                throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
-            } finally {
-                // Since above we increments the number of writers
-                // whether or not the thread is exploded by an interrupt
-                // we need to make sure we decrement the number of writer to not allow the code to be corrupted
-                this.numberOfWritersWaiting.decrementAndGet();
-            }
-        } // end of while loop
-        // Waiting to acquire cache key is is over
-        if(currentThreadWillEnterTheWhileWait) {
-            removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
-        }
-        if (this.activeThread == null) {
-            this.activeThread = Thread.currentThread();
-            if (shouldTrackStack){
-                this.stack = new Exception();
-            }
+        if (!tryAcquireLock(currentThread, true)) {
+            waitToAcquire(WRITE, currentThread, ACQUIRE_METHOD_NAME);
         }
         this.lockedByMergeManager = forMerge;
-        this.depth.incrementAndGet();
     }
 
     /**
@@ -181,10 +153,10 @@ public class ConcurrencyManager implements Serializable {
      * Added for CR 2317
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
-        if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == Thread.currentThread())) {
-            //if I own the lock increment depth
-            acquire(forMerge);
+    public boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
+        //if I own the lock increment depth
+        if (tryAcquireLock(Thread.currentThread(), true)) {
+            this.lockedByMergeManager = forMerge;
             return true;
         } else {
             return false;
@@ -197,28 +169,25 @@ public class ConcurrencyManager implements Serializable {
      * Added for CR 2317
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyException {
+    public boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyException {
         final Thread currentThread = Thread.currentThread();
-        if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == currentThread)) {
-            // if I own the lock increment depth
-            acquire(forMerge);
-            return true;
-        } else {
+        long state = this.lockState;
+        if (!tryAcquireLock(currentThread, true)) {
             try {
                 putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_WITH_WAIT_METHOD_NAME);
-                wait(wait);
+                awaitStateChange(state, wait);
             } catch (InterruptedException e) {
                 return false;
             } finally {
                 removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
             }
-            if ((this.activeThread == null && this.numberOfReaders.get() == 0)
-                    || (this.activeThread == currentThread)) {
-                acquire(forMerge);
-                return true;
+            if (!tryAcquireLock(currentThread, true)) {
+                return false;
             }
-            return false;
         }
+        // if I own the lock increment depth
+        this.lockedByMergeManager = forMerge;
+        return true;
     }
 
     /**
@@ -227,11 +196,10 @@ public class ConcurrencyManager implements Serializable {
      * Added for Bug 5840635
      * Call with true from the merge process, if true then the refresh will not refresh the object.
      */
-    public synchronized boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyException {
+    public boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyException {
         // Only acquire lock if active thread is null. Do not check current thread.
-        if (this.activeThread == null && this.numberOfReaders.get() == 0) {
-             // if lock is unowned increment depth
-            acquire(forMerge);
+        if (tryAcquireLock(Thread.currentThread(), false)) {
+            this.lockedByMergeManager = forMerge;
             return true;
         } else {
             return false;
@@ -244,51 +212,36 @@ public class ConcurrencyManager implements Serializable {
     public void acquireDeferredLock() throws ConcurrencyException {
         Thread currentThread = Thread.currentThread();
         DeferredLockManager lockManager = getDeferredLockManager(currentThread);
-        ReadLockManager readLockManager = getReadLockManager(currentThread);
         if (lockManager == null) {
             lockManager = new DeferredLockManager();
             putDeferredLock(currentThread, lockManager);
         }
         lockManager.incrementDepth();
-        synchronized (this) {
-            final long whileStartTimeMillis = System.currentTimeMillis();
-            final boolean currentThreadWillEnterTheWhileWait = this.numberOfReaders.get() != 0;
-            if(currentThreadWillEnterTheWhileWait) {
-                putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME);
-            }
-            while (this.numberOfReaders.get() != 0) {
+        while (true) {
+            long state = this.lockState;
+            if (readersOf(state) != 0) {
                 // There are readers of this object, wait until they are done before determining if
                 //there are any other writers.  If not we will wait on the readers for acquire.  If another
                 //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
                 //We could release all active locks before releasing deferred but the object may not be finished building
                 //we could make the readers get a hard lock, but then we would just build a deferred lock even though
                 //the object is not being built.
-                try {
-                    this.numberOfWritersWaiting.incrementAndGet();
-                    wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
-                    ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
-                } catch (InterruptedException exception) {
-                    // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
-                    releaseAllLocksAcquiredByThread(lockManager);
-                    if (currentThreadWillEnterTheWhileWait) {
-                        removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+                waitToAcquire(DEFERRED, currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME);
+            } else if ((depthOf(state) == 0) || (this.activeThread == currentThread)) {
+                if (LOCK_STATE.compareAndSet(this, state, state + 1)) {
+                    if (depthOf(state) == 0) {
+                        setActiveThreadOnAcquire(currentThread);
                     }
-                    throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
-                } finally {
-                    this.numberOfWritersWaiting.decrementAndGet();
+                    this.lockedByMergeManager = false;
+                    lockManager.addActiveLock(this);
+                    return;
                 }
-            }
-            if (currentThreadWillEnterTheWhileWait) {
-                removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
-            }
-            if ((this.activeThread == currentThread) || (!isAcquired())) {
-                lockManager.addActiveLock(this);
-                acquire();
             } else {
                 lockManager.addDeferredLock(this);
                 if (AbstractSessionLog.getLog().shouldLog(SessionLog.FINER) && this instanceof CacheKey) {
                     AbstractSessionLog.getLog().log(SessionLog.FINER, SessionLog.CACHE, "acquiring_deferred_lock", ((CacheKey)this).getObject(), currentThread.getName());
                 }
+                return;
             }
         }
     }
@@ -323,49 +276,219 @@ public class ConcurrencyManager implements Serializable {
      * Wait on any writer.
      * Allow concurrent reads.
      */
-    public synchronized void acquireReadLock() throws ConcurrencyException {
+    public void acquireReadLock() throws ConcurrencyException {
         final Thread currentThread = Thread.currentThread();
+        // Cannot check for starving writers as will lead to deadlocks.
+        if (!tryAcquireReadLock(currentThread)) {
+            waitToAcquire(READ, currentThread, ACQUIRE_READ_LOCK_METHOD_NAME);
+        }
+        addReadLockToReadLockManager();
+        if (this.diagnostics != null) {
+            this.diagnostics.getTotalNumberOfKeysAcquiredForReading().incrementAndGet();
+        }
+    }
+
+    /**
+     * If this is acquired return false otherwise acquire readlock and return true
+     */
+    public boolean acquireReadLockNoWait() {
+        if (tryAcquireReadLock(Thread.currentThread())) {
+            addReadLockToReadLockManager();
+            if (this.diagnostics != null) {
+                this.diagnostics.getTotalNumberOfKeysAcquiredForReading().incrementAndGet();
+            }
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Acquire the lock for writing if it is not acquired or read by any thread,
+     * or increment the depth if the current thread is the active thread and nested is allowed.
+     * Return false without waiting otherwise.
+     */
+    protected boolean tryAcquireLock(Thread currentThread, boolean allowNested) {
+        while (true) {
+            long state = this.lockState;
+            if (depthOf(state) == 0) {
+                if (readersOf(state) != 0) {
+                    return false;
+                }
+                if (LOCK_STATE.compareAndSet(this, state, state + 1)) {
+                    setActiveThreadOnAcquire(currentThread);
+                    return true;
+                }
+            } else if (allowNested && (this.activeThread == currentThread)) {
+                if (LOCK_STATE.compareAndSet(this, state, state + 1)) {
+                    return true;
+                }
+            } else {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Increment the number of readers if the lock is not acquired, or is acquired by the current thread.
+     * Return false without waiting otherwise.
+     */
+    protected boolean tryAcquireReadLock(Thread currentThread) {
+        while (true) {
+            long state = this.lockState;
+            if ((depthOf(state) != 0) && (this.activeThread != currentThread)) {
+                return false;
+            }
+            if (LOCK_STATE.compareAndSet(this, state, state + READER)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * The lock was acquired from a depth of 0, record the thread as the active thread.
+     */
+    private void setActiveThreadOnAcquire(Thread currentThread) {
+        this.activeThread = currentThread;
+        if (shouldTrackStack){
+            this.stack = new Exception();
+        }
+    }
+
+    /**
+     * Wait until the lock can be acquired in the mode (for writing, for reading, or until there are no readers
+     * for a deferred lock).
+     * The wait is done in slices of the acquire wait time, after each one the dead-lock diagnostic is run.
+     */
+    protected void waitToAcquire(int mode, Thread currentThread, String methodName) throws ConcurrencyException {
+        //Flag the time when we start the while loop
         final long whileStartTimeMillis = System.currentTimeMillis();
         DeferredLockManager lockManager = getDeferredLockManager(currentThread);
         ReadLockManager readLockManager = getReadLockManager(currentThread);
-        final boolean currentThreadWillEnterTheWhileWait = (this.activeThread != null) && (this.activeThread != currentThread);
-        if (currentThreadWillEnterTheWhileWait) {
-            putThreadAsWaitingToAcquireLockForReading(currentThread, ACQUIRE_READ_LOCK_METHOD_NAME);
+
+        // Waiting to acquire cache key will now start on the while loop
+        // NOTE: this step bares no influence in acquiring or not acquiring locks
+        // is just storing debug metadata that we can use when we detect the system is frozen in a dead lock
+        if (mode == READ) {
+            putThreadAsWaitingToAcquireLockForReading(currentThread, methodName);
+        } else {
+            putThreadAsWaitingToAcquireLockForWriting(currentThread, methodName);
         }
-        // Cannot check for starving writers as will lead to deadlocks.
-        while ((this.activeThread != null) && (this.activeThread != Thread.currentThread())) {
-            try {
-                wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
-                ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
-            } catch (InterruptedException exception) {
-                releaseAllLocksAcquiredByThread(lockManager);
-                if (currentThreadWillEnterTheWhileWait) {
-                    removeThreadNoLongerWaitingToAcquireLockForReading(currentThread);
+        try {
+            while (true) {
+                long state = this.lockState;
+                if ((mode == WRITE) ? tryAcquireLock(currentThread, true)
+                        : ((mode == READ) ? tryAcquireReadLock(currentThread) : (readersOf(state) == 0))) {
+                    return;
+                }
+                // This must be in a while as multiple threads may be released, or another thread may rush the acquire after one is released.
+                if (mode != READ) {
+                    NUMBER_OF_WRITERS_WAITING.incrementAndGet(this);
+                }
+                try {
+                    awaitStateChange(state, ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                    // Run a method that will fire up an exception if we having been sleeping for too long
+                    ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
+                } catch (InterruptedException exception) {
+                    // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
+                    releaseAllLocksAcquiredByThread(lockManager);
+                    throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+                } finally {
+                    // Since above we increments the number of writers
+                    // whether or not the thread is exploded by an interrupt
+                    // we need to make sure we decrement the number of writer to not allow the code to be corrupted
+                    if (mode != READ) {
+                        NUMBER_OF_WRITERS_WAITING.decrementAndGet(this);
+                    }
                 }
-                throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+            }
+        } finally {
+            // Waiting to acquire cache key is is over
+            if (mode == READ) {
+                removeThreadNoLongerWaitingToAcquireLockForReading(currentThread);
+            } else {
+                removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
             }
         }
-        if (currentThreadWillEnterTheWhileWait) {
-            removeThreadNoLongerWaitingToAcquireLockForReading(currentThread);
-        }
+    }
+
+    /**
+     * Park the current thread until the lock state changes from the observed state and the waiting threads
+     * are signaled, or until the timeout elapses.
+     * The caller must check again if it can acquire the lock.
+     * @param timeout the maximum time to wait in milliseconds, 0 to wait until signaled.
+     */
+    protected void awaitStateChange(long observedState, long timeout) throws InterruptedException {
+        Sync sync = getSync();
+        sync.acquire(1);
         try {
-            addReadLockToReadLockManager();
+            // The waiter is counted before the state is checked, and the state is changed before the waiters
+            // are checked, so either the change is seen here, or this waiter is seen and signaled.
+            sync.waiters++;
+            try {
+                if (this.lockState == observedState) {
+                    if (timeout > 0) {
+                        sync.released.await(timeout, TimeUnit.MILLISECONDS);
+                    } else {
+                        sync.released.await();
+                    }
+                }
+            } finally {
+                sync.waiters--;
+            }
         } finally {
-            this.numberOfReaders.incrementAndGet();
-            this.totalNumberOfKeysAcquiredForReading.incrementAndGet();
+            sync.release(1);
         }
     }
 
     /**
-     * If this is acquired return false otherwise acquire readlock and return true
+     * Wake all of the threads waiting on this manager, if any.
+     * This must be called after the lock was released, or the last reader was released.
      */
-    public synchronized boolean acquireReadLockNoWait() {
-        if ((this.activeThread == null) || (this.activeThread == Thread.currentThread())) {
-            acquireReadLock();
-            return true;
-        } else {
-            return false;
+    protected void signalWaiters() {
+        Sync sync = this.sync;
+        if ((sync != null) && (sync.waiters > 0)) {
+            sync.acquire(1);
+            try {
+                sync.released.signalAll();
+            } finally {
+                sync.release(1);
+            }
+        }
+    }
+
+    /**
+     * Return the wait queue, creating it the first time a thread needs to wait.
+     */
+    protected Sync getSync() {
+        Sync sync = this.sync;
+        if (sync == null) {
+            SYNC.compareAndSet(this, null, new Sync());
+            sync = this.sync;
+        }
+        return sync;
+    }
+
+    /**
+     * Wait until the active thread releases this manager, or until the timeout elapses.
+     * Return immediately if the manager is not acquired.
+     * This replaces waiting on the monitor of the manager, which is never notified.
+     * @param timeout the maximum time to wait in milliseconds, 0 to wait until released.
+     */
+    public void waitForRelease(long timeout) throws InterruptedException {
+        long state = this.lockState;
+        if (depthOf(state) == 0) {
+            return;
         }
+        awaitStateChange(state, timeout);
+    }
+
+    protected static int depthOf(long state) {
+        return (int)(state & DEPTH_MASK);
+    }
+
+    protected static int readersOf(long state) {
+        return (int)(state >>> 32);
     }
 
     /**
@@ -400,7 +523,7 @@ public class ConcurrencyManager implements Serializable {
      * Return the current depth of the active thread.
      */
     public int getDepth() {
-        return depth.get();
+        return depthOf(this.lockState);
     }
 
     /**
@@ -408,7 +531,7 @@ public class ConcurrencyManager implements Serializable {
      * This is used to ensure that a writer is not starved.
      */
     public int getNumberOfReaders() {
-        return numberOfReaders.get();
+        return readersOf(this.lockState);
     }
 
     /**
@@ -416,14 +539,14 @@ public class ConcurrencyManager implements Serializable {
      * This is used to ensure that a writer is not starved.
      */
     public int getNumberOfWritersWaiting() {
-        return numberOfWritersWaiting.get();
+        return this.numberOfWritersWaiting;
     }
 
     /**
      * Return if a thread has acquire this manager.
      */
     public boolean isAcquired() {
-        return depth.get() > 0;
+        return depthOf(this.lockState) > 0;
     }
 
     /**
@@ -565,7 +688,7 @@ public class ConcurrencyManager implements Serializable {
      * Return if this manager is within a nested acquire.
      */
     public boolean isNested() {
-        return depth.get() > 1;
+        return depthOf(this.lockState) > 1;
     }
 
     public void putDeferredLock(Thread thread, DeferredLockManager lockManager) {
@@ -576,22 +699,30 @@ public class ConcurrencyManager implements Serializable {
      * Decrement the depth for the active thread.
      * Assume the current thread is the active one.
      * Raise an error if the depth become < 0.
-     * The notify will release the first thread waiting on the object,
+     * Releasing the last depth wakes all of the threads waiting on the object,
      * if no threads are waiting it will do nothing.
      */
-    public synchronized void release() throws ConcurrencyException {
-        if (this.depth.get() == 0) {
-            throw ConcurrencyException.signalAttemptedBeforeWait();
-        } else {
-            this.depth.decrementAndGet();
-        }
-        if (this.depth.get() == 0) {
-            this.activeThread = null;
-            if (shouldTrackStack){
-                this.stack = null;
+    public void release() throws ConcurrencyException {
+        while (true) {
+            long state = this.lockState;
+            int depth = depthOf(state);
+            if (depth == 0) {
+                throw ConcurrencyException.signalAttemptedBeforeWait();
+            }
+            if (depth == 1) {
+                // Clear the active thread before the depth, once the depth is 0 another thread may acquire.
+                this.activeThread = null;
+                if (shouldTrackStack){
+                    this.stack = null;
+                }
+                this.lockedByMergeManager = false;
+            }
+            if (LOCK_STATE.compareAndSet(this, state, state - 1)) {
+                if (depth == 1) {
+                    signalWaiters();
+                }
+                return;
             }
-            this.lockedByMergeManager = false;
-            notifyAll();
         }
     }
 
@@ -684,9 +815,11 @@ public class ConcurrencyManager implements Serializable {
      * Decrement the number of readers.
      * Used to allow concurrent reads.
      */
-    public synchronized void releaseReadLock() throws ConcurrencyException {
-        if (this.numberOfReaders.get() == 0) {
-            this.totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero.incrementAndGet();
+    public void releaseReadLock() throws ConcurrencyException {
+        if (getNumberOfReaders() == 0) {
+            if (this.diagnostics != null) {
+                this.diagnostics.getTotalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero().incrementAndGet();
+            }
             try {
                 removeReadLockFromReadLockManager();
             } catch (Exception e) {
@@ -697,13 +830,22 @@ public class ConcurrencyManager implements Serializable {
             try {
                 removeReadLockFromReadLockManager();
             } finally {
-                this.numberOfReaders.decrementAndGet();
-                this.totalNumberOfKeysReleasedForReading.incrementAndGet();
+                long state;
+                do {
+                    state = this.lockState;
+                    if (readersOf(state) == 0) {
+                        // Another thread released the last reader concurrently.
+                        throw ConcurrencyException.signalAttemptedBeforeWait();
+                    }
+                } while (!LOCK_STATE.compareAndSet(this, state, state - READER));
+                if (this.diagnostics != null) {
+                    this.diagnostics.getTotalNumberOfKeysReleasedForReading().incrementAndGet();
+                }
+                if (readersOf(state) == 1) {
+                    signalWaiters();
+                }
             }
         }
-        if (this.numberOfReaders.get() == 0) {
-            notifyAll();
-        }
     }
 
     /**
@@ -724,7 +866,24 @@ public class ConcurrencyManager implements Serializable {
      * Set the current depth of the active thread.
      */
     protected void setDepth(int depth) {
-        this.depth.set(depth);
+        long state;
+        do {
+            state = this.lockState;
+        } while (!LOCK_STATE.compareAndSet(this, state, (state & ~DEPTH_MASK) | (depth & DEPTH_MASK)));
+    }
+
+    /**
+     * Increment the current depth without waiting, used by isolated cache keys which are not shared between threads.
+     */
+    protected void incrementDepth() {
+        LOCK_STATE.incrementAndGet(this);
+    }
+
+    /**
+     * Decrement the current depth without notifying, used by isolated cache keys which are not shared between threads.
+     */
+    protected void decrementDepth() {
+        LOCK_STATE.decrementAndGet(this);
     }
 
     /**
@@ -740,7 +899,10 @@ public class ConcurrencyManager implements Serializable {
      * Track the number of readers.
      */
     protected void setNumberOfReaders(int numberOfReaders) {
-        this.numberOfReaders.set(numberOfReaders);
+        long state;
+        do {
+            state = this.lockState;
+        } while (!LOCK_STATE.compareAndSet(this, state, (state & DEPTH_MASK) | (((long)numberOfReaders) << 32)));
     }
 
     /**
@@ -748,10 +910,10 @@ public class ConcurrencyManager implements Serializable {
      * This is used to ensure that a writer is not starved.
      */
     protected void setNumberOfWritersWaiting(int numberOfWritersWaiting) {
-        this.numberOfWritersWaiting.set(numberOfWritersWaiting);
+        this.numberOfWritersWaiting = numberOfWritersWaiting;
     }
 
-    public synchronized void transitionToDeferredLock() {
+    public void transitionToDeferredLock() {
         Thread currentThread = Thread.currentThread();
         DeferredLockManager lockManager = getDeferredLockManager(currentThread);
         if (lockManager == null) {
@@ -858,6 +1020,10 @@ public class ConcurrencyManager implements Serializable {
      *
      */
     public void putThreadAsWaitingToAcquireLockForWriting(Thread thread, String methodName) {
+        // PERF: The waiting threads are only used by the dead-lock diagnostic.
+        if (!ConcurrencyUtil.SINGLETON.isDeadLockDiagnosticEnabled()) {
+            return;
+        }
         THREADS_TO_WAIT_ON_ACQUIRE.put(thread, this);
         THREADS_TO_WAIT_ON_ACQUIRE_NAME_OF_METHOD_CREATING_TRACE.put(thread, methodName);
     }
@@ -879,6 +1045,9 @@ public class ConcurrencyManager implements Serializable {
      *            created by the current thread to remain.
      */
     public void putThreadAsWaitingToAcquireLockForReading(Thread currentThread, String methodName) {
+        if (!ConcurrencyUtil.SINGLETON.isDeadLockDiagnosticEnabled()) {
+            return;
+        }
         THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK.put(currentThread, this);
         THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK_NAME_OF_METHOD_CREATING_TRACE.put(currentThread, methodName);
     }
@@ -888,29 +1057,34 @@ public class ConcurrencyManager implements Serializable {
         THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK_NAME_OF_METHOD_CREATING_TRACE.remove(thread);
     }
 
-    /** Getter for {@link #concurrencyManagerId} */
+    /** Return the extended logging info, null if the dead-lock diagnostic was not enabled when this was created */
+    public ConcurrencyManagerDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    /** Getter for the unique id, 0 if not tracked */
     public long getConcurrencyManagerId() {
-        return concurrencyManagerId;
+        return (this.diagnostics == null) ? 0L : this.diagnostics.getConcurrencyManagerId();
     }
 
-    /** Getter for {@link #concurrencyManagerCreationDate} */
+    /** Getter for the creation date, null if not tracked */
     public Date getConcurrencyManagerCreationDate() {
-        return concurrencyManagerCreationDate;
+        return (this.diagnostics == null) ? null : this.diagnostics.getConcurrencyManagerCreationDate();
     }
 
-    /** Getter for {@link #totalNumberOfKeysAcquiredForReading} */
+    /** Getter for the number of read lock acquisitions, 0 if not tracked */
     public long getTotalNumberOfKeysAcquiredForReading() {
-        return totalNumberOfKeysAcquiredForReading.get();
+        return (this.diagnostics == null) ? 0L : this.diagnostics.getTotalNumberOfKeysAcquiredForReading().get();
     }
 
-    /** Getter for {@link #totalNumberOfKeysReleasedForReading} */
+    /** Getter for the number of read lock releases, 0 if not tracked */
     public long getTotalNumberOfKeysReleasedForReading() {
-        return totalNumberOfKeysReleasedForReading.get();
+        return (this.diagnostics == null) ? 0L : this.diagnostics.getTotalNumberOfKeysReleasedForReading().get();
     }
 
-    /** Getter for {@link #totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero} */
+    /** Getter for the number of read lock releases with no reader, 0 if not tracked */
     public long getTotalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero() {
-        return totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero.get();
+        return (this.diagnostics == null) ? 0L : this.diagnostics.getTotalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero().get();
     }
 
     /** Getter for {@link #THREADS_TO_WAIT_ON_ACQUIRE} */
@@ -949,6 +1123,10 @@ public class ConcurrencyManager implements Serializable {
      * the cache key nunber of readers is incremented.
      */
     protected void addReadLockToReadLockManager() {
+        // PERF: The read lock managers are only used by the dead-lock diagnostic.
+        if (!ConcurrencyUtil.SINGLETON.isDeadLockDiagnosticEnabled()) {
+            return;
+        }
         Thread currentThread = Thread.currentThread();
         ReadLockManager readLockManager = getReadLockManagerEnsureResultIsNotNull(currentThread);
         ConcurrencyManager concurrencyManagerCacheKey = this;
@@ -966,11 +1144,11 @@ public class ConcurrencyManager implements Serializable {
             ConcurrencyManager concurrencyManagerCacheKey = this;
             readLockManager.removeReadLock(concurrencyManagerCacheKey);
             removeReadLockManagerIfEmpty(currentThread);
-        } else {
+        } else if (ConcurrencyUtil.SINGLETON.isDeadLockDiagnosticEnabled()) {
             // We have a problem we do not want ever see a decrement on the number of readers if we
             // are not tracing one or more predecessor add read lock keys.
             // so we will put the error message into a fresh new read lock manager
-            final int currentNumberOfReaders = this.numberOfReaders.get();
+            final int currentNumberOfReaders = getNumberOfReaders();
             final int decrementedNumberOfReaders = currentNumberOfReaders - 1;
             String errorMessage = ConcurrencyUtil.SINGLETON.readLockManagerProblem01CreateLogErrorMessageToIndicateThatCurrentThreadHasNullReadLockManagerWhileDecrementingNumberOfReaders(currentNumberOfReaders, decrementedNumberOfReaders, this);
             readLockManager = getReadLockManagerEnsureResultIsNotNull(currentThread);
@@ -1044,4 +1222,40 @@ public class ConcurrencyManager implements Serializable {
     public static void setJustificationWhyMethodIsBuildingObjectCompleteReturnsFalse(String justification) {
         THREADS_WAITING_TO_RELEASE_DEFERRED_LOCKS_BUILD_OBJECT_COMPLETE_GOES_NOWHERE.put(Thread.currentThread(), justification);
     }
+
+    /**
+     * INTERNAL:
+     * Wait queue of a concurrency manager.
+     * The synchronizer is only held for the short time needed to check the lock state and park,
+     * or to signal the waiting threads, the lock state itself is not held in it.
+     */
+    protected static final class Sync extends AbstractQueuedSynchronizer {
+
+        /** Number of threads waiting for the lock state to change, only updated while holding the synchronizer. */
+        protected volatile int waiters;
+
+        /** Signaled when the lock is released, or the last reader is released. */
+        protected final ConditionObject released = new ConditionObject();
+
+        @Override
+        protected boolean tryAcquire(int arg) {
+            if (compareAndSetState(0, 1)) {
+                setExclusiveOwnerThread(Thread.currentThread());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean tryRelease(int arg) {
+            setExclusiveOwnerThread(null);
+            setState(0);
+            return true;
+        }
+
+        @Override
+        protected boolean isHeldExclusively() {
+            return getExclusiveOwnerThread() == Thread.currentThread();
+        }
+    }
 }
@@ -71,6 +71,11 @@ public class ConcurrencyUtil {
     private long concurrencySemaphoreMaxTimePermit = getLongProperty(SystemProperties.CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT, DEFAULT_CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT);
     private long concurrencySemaphoreLogTimeout = getLongProperty(SystemProperties.CONCURRENCY_SEMAPHORE_LOG_TIMEOUT, DEFAULT_CONCURRENCY_SEMAPHORE_LOG_TIMEOUT);
 
+    /**
+     * Set when extended cache logging is allowed, which also requires the extended logging fields of the cache keys.
+     */
+    private boolean deadLockDiagnosticEnabled = false;
+
     /**
      * Thread local variable that allows the current thread to know when was the last time that this specific thread
      * produced the "tiny dump" indicating that the thread is stuck.
@@ -210,6 +215,19 @@ public class ConcurrencyUtil {
         this.acquireWaitTime = acquireWaitTime;
     }
 
+    /**
+     * Return true if the dead-lock diagnostic is enabled, this is the case if a wait time is set above 0
+     * or if it was explicitly enabled. Only then new concurrency managers (cache keys) are created with their
+     * extended logging fields (id, creation date and thread, read lock counters).
+     */
+    public boolean isDeadLockDiagnosticEnabled() {
+        return this.deadLockDiagnosticEnabled || (this.acquireWaitTime > 0) || (this.buildObjectCompleteWaitTime > 0);
+    }
+
+    public void setDeadLockDiagnosticEnabled(boolean deadLockDiagnosticEnabled) {
+        this.deadLockDiagnosticEnabled = deadLockDiagnosticEnabled;
+    }
+
     /**
      * @return "eclipselink.concurrency.manager.build.object.complete.waittime" persistence property value.
      */
@@ -363,7 +381,7 @@ public class ConcurrencyUtil {
                     cacheKeyObject, String.valueOf(System.identityHashCode(cacheKeyObject)),
                     cacheKeyClass, String.valueOf(System.identityHashCode(cacheKey)),
                     activeThread, concurrencyManager.getNumberOfReaders(), concurrencyManagerId,
-                    ConversionManager.getDefaultManager().convertObject(concurrencyManagerCreationDate, String.class).toString(),
+                    String.valueOf(ConversionManager.getDefaultManager().convertObject(concurrencyManagerCreationDate, String.class)),
                     // metadata of number of times the cache key suffered increases in number readers
                     cacheKey.getTotalNumberOfKeysAcquiredForReading(),
                     cacheKey.getTotalNumberOfKeysReleasedForReading(),
@@ -371,7 +389,7 @@ public class ConcurrencyUtil {
                     concurrencyManager.getDepth()});
         } else {
             return TraceLocalization.buildMessage("concurrency_util_owned_cache_key_is_not_cache_key", new Object[] {cacheKeyClass, concurrencyManager, activeThread,
-                    concurrencyManagerId, ConversionManager.getDefaultManager().convertObject(concurrencyManagerCreationDate, String.class).toString(),
+                    concurrencyManagerId, String.valueOf(ConversionManager.getDefaultManager().convertObject(concurrencyManagerCreationDate, String.class)),
                     concurrencyManager.getTotalNumberOfKeysAcquiredForReading(),
                     concurrencyManager.getTotalNumberOfKeysReleasedForReading(), concurrencyManager
                     .getTotalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero(),
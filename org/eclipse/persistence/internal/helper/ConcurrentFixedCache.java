@@ -17,17 +17,42 @@ package org.eclipse.persistence.internal.helper;
 import java.io.Serializable;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Provide a concurrent fixed size caching mechanism.
  * This is used for caching EJBQL parsed queries, Update calls,
  * and other places a fixed size cache is needed.
  * The default fixed size is 100.
+ * <p>
+ * Gets do not lock. The frequency of each key looked up is recorded in a small
+ * count-min sketch (TinyLFU), whose counts are halved periodically so old popularity fades.
+ * When the size is exceeded a sample of the cached keys is taken and the least frequently used
+ * one is evicted, unless the new key is used less frequently, in which case the new key is not kept.
+ * This avoids a burst of one time queries flushing the frequently used ones.
  */
 public class ConcurrentFixedCache implements Serializable {
+
+    /** Number of cached keys compared to choose each eviction victim. */
+    public static final int SAMPLE_SIZE = 8;
+
     protected int maxSize;
     protected Map cache;
 
+    /** Approximate frequency of the keys looked up, including keys not in the cache. */
+    protected FrequencySketch sketch;
+
+    /** Held by the thread currently evicting. */
+    protected ReentrantLock evictionLock;
+
+    /** Rotating cursor over the cached keys, only used while holding the eviction lock. */
+    protected transient Iterator evictionCursor;
+
+    protected AtomicLong hits;
+    protected AtomicLong misses;
+    protected AtomicLong evictions;
+
     /**
      * Create a new concurrent cache, with a fixed size of 100.
      */
@@ -42,6 +67,11 @@ public class ConcurrentFixedCache implements Serializable {
         // PERF: Use a concurrent map to allow concurrent gets.
         this.cache = new ConcurrentHashMap(maxSize);
         this.maxSize = maxSize;
+        this.sketch = new FrequencySketch(maxSize);
+        this.evictionLock = new ReentrantLock();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
     }
 
     /**
@@ -53,11 +83,20 @@ public class ConcurrentFixedCache implements Serializable {
 
     /**
      * Set the fixed size of the parse cache.
-     * When the size is exceeded, subsequent EJBQL will not be cached.
+     * When the size is exceeded, the least frequently used entries are removed.
      * The default size is 100;
      */
     public void setMaxSize(int maxSize) {
         this.maxSize = maxSize;
+        this.sketch = new FrequencySketch(maxSize);
+        if (this.cache.size() > maxSize) {
+            this.evictionLock.lock();
+            try {
+                ensureFixedSize(null);
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
     }
 
     /**
@@ -65,7 +104,14 @@ public class ConcurrentFixedCache implements Serializable {
      * If the EJBQL has not been cached, null is returned.
      */
     public Object get(Object key) {
-        return this.cache.get(key);
+        Object value = this.cache.get(key);
+        this.sketch.increment(key);
+        if (value == null) {
+            this.misses.incrementAndGet();
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return value;
     }
 
     public void clear(){
@@ -74,29 +120,78 @@ public class ConcurrentFixedCache implements Serializable {
 
     /**
      * Add the value to the cache.
-     * Remove the
+     * If the max size is exceeded the least frequently used of a sample of the cached
+     * entries is removed, or the new entry if it is used less frequently.
      */
     public void put(Object key, Object value) {
         if (this.maxSize == 0) {
             return;
         }
         this.cache.put(key, value);
-        // Currently just removes the first one encountered, not LRU,
-        // this is not ideal, but the most concurrent and quickest way to ensure fixed size.
         if (this.cache.size() > this.maxSize) {
-            Iterator iterator = this.cache.keySet().iterator();
-            try {
-                while ((this.cache.size() > this.maxSize) && iterator.hasNext()) {
-                    Object next = iterator.next();
-                    // Do not remove what was just put in.
-                    if (next != key) {
-                        this.cache.remove(next);
+            // If another thread is already evicting it will also account for this put.
+            if (this.evictionLock.tryLock()) {
+                try {
+                    ensureFixedSize(key);
+                } finally {
+                    this.evictionLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove entries until the max size is met.
+     * The key just put is only removed if it is less frequent than the sampled victim.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void ensureFixedSize(Object newKey) {
+        while ((this.cache.size() > this.maxSize) && !this.cache.isEmpty()) {
+            Object victim = null;
+            int victimFrequency = Integer.MAX_VALUE;
+            for (int index = 0; index < SAMPLE_SIZE; index++) {
+                Object candidate = nextEvictionCandidate();
+                if (candidate == null) {
+                    break;
+                }
+                // Do not sample what was just put in.
+                if (candidate != newKey) {
+                    int frequency = this.sketch.frequency(candidate);
+                    if (frequency < victimFrequency) {
+                        victim = candidate;
+                        victimFrequency = frequency;
                     }
                 }
-            } catch (Exception alreadyGone) {
-                // Ignore.
+            }
+            if (victim == null) {
+                if (newKey == null) {
+                    return;
+                }
+                victim = newKey;
+            } else if ((newKey != null) && (this.sketch.frequency(newKey) < victimFrequency)) {
+                victim = newKey;
+            }
+            if (this.cache.remove(victim) != null) {
+                this.evictions.incrementAndGet();
+            }
+            if (victim == newKey) {
+                newKey = null;
+            }
+        }
+    }
+
+    /**
+     * Return the next key from the rotating cursor, restarting it at the end of the map.
+     * The cursor is weakly consistent so concurrent puts and removes are allowed.
+     */
+    protected Object nextEvictionCandidate() {
+        if ((this.evictionCursor == null) || !this.evictionCursor.hasNext()) {
+            this.evictionCursor = this.cache.keySet().iterator();
+            if (!this.evictionCursor.hasNext()) {
+                return null;
             }
         }
+        return this.evictionCursor.next();
     }
 
     /**
@@ -112,4 +207,103 @@ public class ConcurrentFixedCache implements Serializable {
     public Map getCache() {
         return cache;
     }
+
+    /**
+     * Return the number of gets that found the key in the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Return the number of gets that did not find the key in the cache.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Return the number of entries removed, or not kept, to maintain the max size.
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * A count-min sketch of 4 bit counters, 16 to a long, recording the approximate frequency of keys.
+     * Each key has a counter in 4 of the longs, the smallest is the estimate.
+     * Updates are not synchronized, a lost increment only makes the estimate less accurate.
+     */
+    protected static class FrequencySketch implements Serializable {
+        protected static final long[] SEEDS = {0x97cb3127L, 0xab04d8b1L, 0xb2e1f5c7L, 0xc9a4fb3dL};
+        protected static final long RESET_MASK = 0x7777777777777777L;
+
+        protected final long[] table;
+        protected final int tableMask;
+        /** Number of increments before all counters are halved. */
+        protected final int sampleSize;
+        protected int size;
+
+        protected FrequencySketch(int maxSize) {
+            int length = Integer.highestOneBit(Math.max(maxSize, 8) - 1) << 1;
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = 10 * Math.max(maxSize, 8);
+        }
+
+        protected int indexOf(int hash, int row) {
+            long value = (hash + SEEDS[row]) * SEEDS[row];
+            value += (value >>> 32);
+            return ((int)value) & this.tableMask;
+        }
+
+        protected static int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+
+        /**
+         * Return the estimated number of times the key was looked up, from 0 to 15.
+         */
+        public int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = 15;
+            for (int row = 0; row < 4; row++) {
+                int offset = (start + row) << 2;
+                int count = (int)((this.table[indexOf(hash, row)] >>> offset) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        /**
+         * Increment the counters of the key, halving all of the counters every sampleSize increments.
+         */
+        public void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int row = 0; row < 4; row++) {
+                int index = indexOf(hash, row);
+                int offset = (start + row) << 2;
+                long mask = 0xfL << offset;
+                long value = this.table[index];
+                if ((value & mask) != mask) {
+                    this.table[index] = value + (1L << offset);
+                    added = true;
+                }
+            }
+            if (added && (++this.size >= this.sampleSize)) {
+                reset();
+            }
+        }
+
+        protected void reset() {
+            for (int index = 0; index < this.table.length; index++) {
+                this.table[index] = (this.table[index] >>> 1) & RESET_MASK;
+            }
+            this.size = this.size >>> 1;
+        }
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.util.Vector;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+
+/**
+ * INTERNAL:
+ * The fields of a result set, indexed by name, shared by all of the rows of the result.
+ * <p>
+ * A field is first checked at its own index, as the rows of a descriptor's fields are normally selected in that order.
+ * Otherwise it is found by an open addressing hash of its name for comparisons (the same as its hashCode),
+ * fields with the same hash are probed in result order, so the first equal field is found,
+ * the same as a linear search of the fields.
+ * Fields can be equal without the same name for comparisons (i.e. a delimited field and a field with
+ * a different upper case setting), so if the hash does not find the field the fields are searched linearly.
+ * The index is immutable once built, other than caching the indexes of arrays of fields,
+ * so it can be shared by threads building objects from the rows.
+ * @see org.eclipse.persistence.internal.sessions.ArrayRecord
+ */
+public class DatabaseFieldIndex {
+
+    /** The fields, a null field is a placeholder for a fetch group field not selected. */
+    protected final Vector<DatabaseField> fields;
+    protected final DatabaseField[] fieldsArray;
+
+    /** The field index plus one of each slot, 0 for an empty slot. */
+    protected final int[] slots;
+
+    /** The hash of the field of each slot. */
+    protected final int[] hashes;
+
+    protected final int mask;
+
+    /** Pairs of an array of fields and the indexes of those fields in the result, computed by indexesOf. */
+    protected volatile Object[] indexesOfFields = new Object[0];
+
+    public DatabaseFieldIndex(Vector<DatabaseField> fields) {
+        this(fields, fields.toArray(new DatabaseField[fields.size()]));
+    }
+
+    public DatabaseFieldIndex(Vector<DatabaseField> fields, DatabaseField[] fieldsArray) {
+        this.fields = fields;
+        this.fieldsArray = fieldsArray;
+        int length = 4;
+        // Keep the table at most half full so probes are short.
+        while (length < (fieldsArray.length * 2)) {
+            length = length << 1;
+        }
+        this.slots = new int[length];
+        this.hashes = new int[length];
+        this.mask = length - 1;
+        for (int index = 0; index < fieldsArray.length; index++) {
+            DatabaseField field = fieldsArray[index];
+            if (field != null) {
+                int hash = hash(field);
+                int slot = spread(hash) & this.mask;
+                while (this.slots[slot] != 0) {
+                    slot = (slot + 1) & this.mask;
+                }
+                this.slots[slot] = index + 1;
+                this.hashes[slot] = hash;
+            }
+        }
+    }
+
+    protected static int hash(DatabaseField field) {
+        String name = field.getNameForComparisons();
+        if (name == null) {
+            return 0;
+        }
+        return name.hashCode();
+    }
+
+    protected static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Return the fields in result order.
+     */
+    public Vector<DatabaseField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Return the fields in result order.
+     */
+    public DatabaseField[] getFieldsArray() {
+        return fieldsArray;
+    }
+
+    /**
+     * Return the number of fields.
+     */
+    public int size() {
+        return fieldsArray.length;
+    }
+
+    /**
+     * Return the index of each of the fields, or -1 for a field the result does not contain.
+     * The indexes are computed once for each array of fields, compared by identity, and shared by the rows of the result,
+     * so the array must not be changed.
+     * @see org.eclipse.persistence.internal.descriptors.DirectRowBuilder
+     */
+    public int[] indexesOf(DatabaseField[] fields) {
+        Object[] indexesOfFields = this.indexesOfFields;
+        for (int index = 0; index < indexesOfFields.length; index = index + 2) {
+            if (indexesOfFields[index] == fields) {
+                return (int[])indexesOfFields[index + 1];
+            }
+        }
+        int[] indexes = new int[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            indexes[index] = (fields[index] == null) ? -1 : indexOf(fields[index]);
+        }
+        synchronized (this) {
+            indexesOfFields = this.indexesOfFields;
+            Object[] newIndexesOfFields = new Object[indexesOfFields.length + 2];
+            System.arraycopy(indexesOfFields, 0, newIndexesOfFields, 0, indexesOfFields.length);
+            newIndexesOfFields[indexesOfFields.length] = fields;
+            newIndexesOfFields[indexesOfFields.length + 1] = indexes;
+            this.indexesOfFields = newIndexesOfFields;
+        }
+        return indexes;
+    }
+
+    /**
+     * Return the index of the first field equal to the key, or -1 if the result does not contain the field.
+     */
+    public int indexOf(DatabaseField key) {
+        DatabaseField[] fieldsArray = this.fieldsArray;
+        int index = key.index;
+        if ((index >= 0) && (index < fieldsArray.length)) {
+            DatabaseField field = fieldsArray[index];
+            if ((field == key) || ((field != null) && field.equals(key))) {
+                return index;
+            }
+        }
+        if (DatabasePlatform.shouldIgnoreCaseOnFieldComparisons()) {
+            // Names equal ignoring case may not have the same hash.
+            return linearIndexOf(key);
+        }
+        int hash = hash(key);
+        int slot = spread(hash) & this.mask;
+        int fieldIndex;
+        while ((fieldIndex = this.slots[slot]) != 0) {
+            if (this.hashes[slot] == hash) {
+                DatabaseField field = fieldsArray[fieldIndex - 1];
+                if ((field == key) || field.equals(key)) {
+                    return fieldIndex - 1;
+                }
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        // Equal fields may not have the same name for comparisons.
+        return linearIndexOf(key);
+    }
+
+    /**
+     * Return the index of the first field equal to the key by searching the fields in result order,
+     * or -1 if the result does not contain the field.
+     */
+    protected int linearIndexOf(DatabaseField key) {
+        DatabaseField[] fieldsArray = this.fieldsArray;
+        for (int index = 0; index < fieldsArray.length; index++) {
+            DatabaseField field = fieldsArray[index];
+            if ((field != null) && ((field == key) || field.equals(key))) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
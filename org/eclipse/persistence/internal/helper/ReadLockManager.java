@@ -82,7 +82,8 @@ public class ReadLockManager {
         ReadLockAcquisitionMetadata readLockAquisitionMetadataToRemove = null;
         for (ReadLockAcquisitionMetadata currentReadLockAcquisitionMetadata : readLocksAcquiredDuringCurrentThread) {
             ConcurrencyManager currentCacheKeyObjectToCheck = currentReadLockAcquisitionMetadata.getCacheKeyWhoseNumberOfReadersThreadIsIncrementing();
-            boolean dtoToRemoveFound = concurrencyManager.getConcurrencyManagerId() == currentCacheKeyObjectToCheck.getConcurrencyManagerId();
+            // The id is only assigned when the dead-lock diagnostic is enabled, so compare identity.
+            boolean dtoToRemoveFound = concurrencyManager == currentCacheKeyObjectToCheck;
             if (dtoToRemoveFound) {
                 readLockAquisitionMetadataToRemove = currentReadLockAcquisitionMetadata;
                 break;
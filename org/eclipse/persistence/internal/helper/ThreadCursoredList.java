@@ -14,7 +14,12 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.helper;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.persistence.exceptions.ValidationException;
 
@@ -26,17 +31,39 @@ import org.eclipse.persistence.exceptions.ValidationException;
  * Other API such as size that require to full contents know will wait until
  * the list is notified as being complete.
  * This is use to allow the rows and objects of a read-all query to be processed concurrently.
+ * <p>
+ * The population thread adds the elements to the list's {@link Buffer}, a bounded single producer queue, without locking.
+ * The threads reading the list move the elements from the buffer into the list when they need them.
+ * The population thread waits when the buffer is full, so it can only read ahead of the list's readers by the buffer size,
+ * and it stops if the list is cancelled or no longer referenced.
+ * If the population has not started when a reader needs an element, because the thread pool is busy,
+ * the reader runs the population itself.
  *
  * @author James Sutherland
  * @since OracleAS 10g TopLink (10.0.3)
  */
 public class ThreadCursoredList extends Vector {
 
+    /** The default number of elements the population thread can add ahead of the list's readers. */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
     /** Store if the list is fully populated. */
-    protected boolean isComplete;
+    protected volatile boolean isComplete;
 
     /** Used to throw exception that occur from the concurrent population thread. */
-    protected RuntimeException exception;
+    protected volatile RuntimeException exception;
+
+    /**
+     * Guards the list's readers, and the moving of elements from the buffer into the list.
+     * The population thread never takes the lock.
+     * A java.util.concurrent lock is used instead of the list's monitor
+     * so threads waiting on the population do not pin their carrier when they are virtual threads.
+     * The Vector monitor is still taken by the super calls, but never while waiting.
+     */
+    protected ReentrantLock lock = new ReentrantLock();
+
+    /** The buffer the population thread adds the elements to. */
+    protected Buffer buffer;
 
     /**
      * Construct an empty list so that its internal data array
@@ -59,67 +86,126 @@ public class ThreadCursoredList extends Vector {
      * capacity increment.
      */
     public ThreadCursoredList(int initialCapacity, int capacityIncrement) {
-        super(0);
+        super(initialCapacity, capacityIncrement);
         this.isComplete = false;
+        this.buffer = new Buffer(this, DEFAULT_BUFFER_SIZE);
     }
 
     /**
-     * Add and notify any waiters that there are new elements.
+     * Return the buffer the population thread must add the elements to.
      */
-    public synchronized void add(int index, Object element) {
-        super.add(index, element);
-        this.notifyAll();
+    public Buffer getBuffer() {
+        return buffer;
     }
 
     /**
-     * Add and notify any waiters that there are new elements.
+     * Move the elements added by the population thread into the list.
+     * Callers of this method must hold the lock.
      */
-    public synchronized boolean add(Object element) {
-        boolean result = super.add(element);
-        notifyAll();
-        return result;
+    protected void drainBuffer() {
+        this.buffer.drainTo(this);
     }
 
     /**
-     * Add and notify any waiters that there are new elements.
+     * Add an element moved from the buffer, the lock is held.
      */
-    public synchronized boolean addAll(int index, Collection collection) {
-        boolean result = super.addAll(index, collection);
-        notifyAll();
-        return result;
+    protected void addFromBuffer(Object element) {
+        super.addElement(element);
     }
 
     /**
-     * Add and notify any waiters that there are new elements.
+     * Add after the elements already populated.
      */
-    public synchronized boolean addAll(Collection collection) {
-        boolean result = super.addAll(collection);
-        notifyAll();
-        return result;
+    public void add(int index, Object element) {
+        this.lock.lock();
+        try {
+            drainBuffer();
+            super.add(index, element);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Add after the elements already populated.
+     */
+    public boolean add(Object element) {
+        this.lock.lock();
+        try {
+            drainBuffer();
+            return super.add(element);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Add after the elements already populated.
+     */
+    public boolean addAll(int index, Collection collection) {
+        this.lock.lock();
+        try {
+            drainBuffer();
+            return super.addAll(index, collection);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Add after the elements already populated.
+     */
+    public boolean addAll(Collection collection) {
+        this.lock.lock();
+        try {
+            drainBuffer();
+            return super.addAll(collection);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
-     * Add and notify any waiters that there are new elements.
+     * Add after the elements already populated.
      */
-    public synchronized void addElement(Object object) {
-        super.addElement(object);
-        notifyAll();
+    public void addElement(Object object) {
+        this.lock.lock();
+        try {
+            drainBuffer();
+            super.addElement(object);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized void clear() {
-        waitUntilComplete();
-        super.clear();
+    public void clear() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.clear();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
+     * The clone is a complete list, it has its own empty buffer.
      */
-    public synchronized Object clone() {
-        waitUntilComplete();
-        return super.clone();
+    public Object clone() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            ThreadCursoredList clone = (ThreadCursoredList)super.clone();
+            clone.lock = new ReentrantLock();
+            clone.buffer = new Buffer(clone, 1);
+            return clone;
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -141,97 +227,415 @@ public class ThreadCursoredList extends Vector {
      * that should be thrown to the processing thread on the next access.
      * This also records the list and complete.
      */
-    public synchronized void throwException(RuntimeException exception) {
+    public void throwException(RuntimeException exception) {
         this.exception = exception;
         setIsComplete(true);
     }
 
     /**
      * Return if the list is complete.
+     * This returns false if elements were moved in from the buffer,
+     * so callers checking their condition before this check it again before relying on the list being complete.
      * If an exception was thrown during the concurrent population throw the exception.
      */
-    public synchronized boolean isComplete() {
-        if (exception != null) {
-            // Set the exception to null so it is only thrown once.
-            RuntimeException thrownException = this.exception;
-            this.exception = null;
-            throw thrownException;
+    public boolean isComplete() {
+        this.lock.lock();
+        try {
+            // Read the flag first, the population thread sets it after adding its last element.
+            boolean isComplete = this.isComplete;
+            int size = super.size();
+            drainBuffer();
+            RuntimeException exception = this.exception;
+            if (exception != null) {
+                // Set the exception to null so it is only thrown once.
+                this.exception = null;
+                throw exception;
+            }
+            return isComplete && (super.size() == size);
+        } finally {
+            this.lock.unlock();
         }
-        return isComplete;
     }
 
     /**
      * Set the list complete and notify any waiters.
      */
-    public synchronized void setIsComplete(boolean isComplete) {
+    public void setIsComplete(boolean isComplete) {
         this.isComplete = isComplete;
-        notifyAll();
+        this.buffer.signalConsumer();
+    }
+
+    /**
+     * Stop the population, and release its resources.
+     * This is called when the list's reader fails, so the population thread does not wait on it forever.
+     */
+    public void cancel() {
+        this.buffer.cancel();
     }
 
     /**
      * Wait until the list has been fully populated.
      */
-    public synchronized void waitUntilComplete() {
-        while (!isComplete()) {
-            try {
-                wait();
-            } catch (InterruptedException ignore) {
+    public void waitUntilComplete() {
+        this.lock.lock();
+        try {
+            while (!isComplete()) {
+                waitUntilAdd();
             }
+        } finally {
+            this.lock.unlock();
         }
     }
 
     /**
-     * Wait until a new element has been added.
+     * Wait until a new element has been added, or the list is complete.
+     * The list's readers are blocked while waiting, the population thread does not need the lock.
      */
-    public synchronized void waitUntilAdd() {
+    public void waitUntilAdd() {
+        this.lock.lock();
         try {
-            wait();
-        } catch (InterruptedException ignore) {
+            int size = super.size();
+            drainBuffer();
+            if ((super.size() > size) || this.isComplete) {
+                return;
+            }
+            this.buffer.awaitElement();
+            drainBuffer();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Bounded buffer of the elements added by the population thread, not yet moved into the list.
+     * The population thread is the only one adding, and the list's readers holding its lock are the only ones removing,
+     * so neither side locks, they only park when the buffer is full or empty.
+     * The buffer is also the Runnable launched for the population,
+     * so the population can be run by the list's reader instead if it has not started.
+     * It only weakly references its list, so the population stops if the list is no longer used.
+     */
+    public static class Buffer implements Runnable {
+        /** How long the population thread waits on a full buffer before checking if the list is still used. */
+        protected static final long PRODUCER_WAIT_NANOS = 100000000L;
+
+        /** How long a reader waits for the population to start before running it itself. */
+        protected static final long START_WAIT_NANOS = 1000000L;
+
+        /** How long a reader waits for a batch of elements before taking the elements already added. */
+        protected static final long CONSUMER_WAIT_NANOS = 1000000L;
+
+        protected final WeakReference<ThreadCursoredList> list;
+        protected final AtomicReferenceArray<Object> elements;
+        protected final int capacity;
+        protected final int mask;
+
+        /** The number of elements added before a waiting reader is signaled, so the threads do not switch on every element. */
+        protected final int signalSize;
+
+        /** Index of the next element to remove, only written by the list's readers. */
+        protected volatile long head;
+
+        /** Index of the next element to add, only written by the population thread. */
+        protected volatile long tail;
+
+        /** The population, run by the first of the launched thread or a waiting reader. */
+        protected volatile Runnable task;
+        protected final AtomicBoolean isStarted;
+        protected volatile boolean isCancelled;
+
+        /** Set if the population thread was interrupted while waiting for room, the interrupt is restored once populated. */
+        protected boolean wasInterrupted;
+
+        /** Set if the population is run by the list's reader, so adds go directly to the list. */
+        protected volatile boolean isInline;
+
+        protected volatile Thread waitingConsumer;
+        protected volatile Thread waitingProducer;
+
+        public Buffer(ThreadCursoredList list, int size) {
+            int capacity = 1;
+            while (capacity < size) {
+                capacity = capacity << 1;
+            }
+            this.list = new WeakReference<ThreadCursoredList>(list);
+            this.elements = new AtomicReferenceArray<Object>(capacity);
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            this.signalSize = Math.max(capacity / 8, 1);
+            this.isStarted = new AtomicBoolean();
+        }
+
+        /**
+         * Set the population to run.
+         * It must only add through this buffer, stop once an add returns false, and complete the list at its end.
+         * It must not reference the list, so an unused list can be garbage collected.
+         */
+        public void setTask(Runnable task) {
+            this.task = task;
+        }
+
+        /**
+         * Run the population, unless already run by the list's reader.
+         */
+        public void run() {
+            if (this.isStarted.compareAndSet(false, true)) {
+                runTask();
+            }
+        }
+
+        /**
+         * Run the population in the current thread if it has not started, return if run.
+         */
+        protected boolean runIfNotStarted() {
+            if ((this.task == null) || !this.isStarted.compareAndSet(false, true)) {
+                return false;
+            }
+            this.isInline = true;
+            runTask();
+            return true;
+        }
+
+        protected void runTask() {
+            Runnable task = this.task;
+            this.task = null;
+            if (task != null) {
+                try {
+                    task.run();
+                } finally {
+                    if (this.wasInterrupted) {
+                        this.wasInterrupted = false;
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Return if the population should stop, because the list was cancelled or is no longer used.
+         * An interrupt of the population thread does not stop it, as the reader would get a partial result.
+         */
+        public boolean isCancelled() {
+            return this.isCancelled;
+        }
+
+        /**
+         * Add the element, waiting while the buffer is full.
+         * Return false if the population should stop.
+         */
+        public boolean add(Object element) {
+            if (this.isCancelled) {
+                return false;
+            }
+            if (this.isInline) {
+                ThreadCursoredList list = this.list.get();
+                if (list == null) {
+                    this.isCancelled = true;
+                    return false;
+                }
+                list.addFromBuffer(element);
+                return true;
+            }
+            long tail = this.tail;
+            while ((tail - this.head) >= this.capacity) {
+                if (this.isCancelled) {
+                    return false;
+                }
+                if (this.list.get() == null) {
+                    this.isCancelled = true;
+                    return false;
+                }
+                // Keep populating if interrupted, i.e. by the pool shutting down, the reader still needs all of the elements.
+                if (Thread.interrupted()) {
+                    this.wasInterrupted = true;
+                }
+                this.waitingProducer = Thread.currentThread();
+                // Check again after registering, the readers only signal a registered producer.
+                if (((tail - this.head) >= this.capacity) && !this.isCancelled) {
+                    LockSupport.parkNanos(this, PRODUCER_WAIT_NANOS);
+                }
+                this.waitingProducer = null;
+            }
+            this.elements.lazySet((int)tail & this.mask, element);
+            this.tail = tail + 1;
+            // Signal a waiting reader on the first element, and on a full batch.
+            long size = tail + 1 - this.head;
+            if ((this.waitingConsumer != null) && ((size == 1) || (size >= this.signalSize))) {
+                signalConsumer();
+            }
+            return true;
+        }
+
+        /**
+         * Record the population as complete, or failed if the exception is not null.
+         * This must be called by the population at its end, even if it was cancelled.
+         */
+        public void complete(RuntimeException exception) {
+            ThreadCursoredList list = this.list.get();
+            if (list == null) {
+                return;
+            }
+            if (exception == null) {
+                list.setIsComplete(true);
+            } else {
+                list.throwException(exception);
+            }
+        }
+
+        /**
+         * Move the added elements into the list, and signal the population thread if it is waiting for room.
+         * Callers of this method must hold the list's lock.
+         */
+        protected void drainTo(ThreadCursoredList list) {
+            long head = this.head;
+            long tail = this.tail;
+            if (head == tail) {
+                return;
+            }
+            list.ensureCapacity(list.getSize() + (int)(tail - head));
+            for (; head < tail; head++) {
+                int index = (int)head & this.mask;
+                list.addFromBuffer(this.elements.get(index));
+                this.elements.lazySet(index, null);
+            }
+            this.head = head;
+            Thread producer = this.waitingProducer;
+            if (producer != null) {
+                LockSupport.unpark(producer);
+            }
+        }
+
+        /**
+         * Park the list's reader until a batch of elements is added or the list is complete,
+         * or for a short time if any elements are added.
+         * If the population has not started after a short wait, it is run by the reader.
+         * Callers of this method must hold the list's lock.
+         */
+        protected void awaitElement() {
+            ThreadCursoredList list = this.list.get();
+            this.waitingConsumer = Thread.currentThread();
+            try {
+                // Check again after registering, the population thread only signals a registered reader.
+                if ((this.head == this.tail) && !list.isComplete) {
+                    if (this.isStarted.get()) {
+                        // Wait for a batch, but not longer than the wait if only a few rows are fetched.
+                        long start = System.nanoTime();
+                        while (((this.tail - this.head) < this.signalSize) && !list.isComplete) {
+                            if (this.head == this.tail) {
+                                LockSupport.park(this);
+                                start = System.nanoTime();
+                            } else {
+                                long remaining = CONSUMER_WAIT_NANOS - (System.nanoTime() - start);
+                                if (remaining <= 0) {
+                                    break;
+                                }
+                                LockSupport.parkNanos(this, remaining);
+                            }
+                            if (Thread.interrupted()) {
+                                break;
+                            }
+                        }
+                    } else {
+                        LockSupport.parkNanos(this, START_WAIT_NANOS);
+                        if ((this.head == this.tail) && !list.isComplete) {
+                            runIfNotStarted();
+                        }
+                    }
+                }
+            } finally {
+                this.waitingConsumer = null;
+            }
+            // Interrupts are ignored, as the list must still be populated, but clear it so the park does not spin.
+            Thread.interrupted();
+        }
+
+        /**
+         * Wake the list's reader if it is waiting.
+         */
+        protected void signalConsumer() {
+            Thread consumer = this.waitingConsumer;
+            if (consumer != null) {
+                LockSupport.unpark(consumer);
+            }
+        }
+
+        /**
+         * Stop the population.
+         * If it has not started, it is run now so it can release its resources.
+         */
+        protected void cancel() {
+            this.isCancelled = true;
+            if (!runIfNotStarted()) {
+                Thread producer = this.waitingProducer;
+                if (producer != null) {
+                    LockSupport.unpark(producer);
+                }
+            }
         }
     }
 
     /**
      * If it does not contain the object must wait until it is complete.
      */
-    public synchronized boolean contains(Object element) {
-        boolean result = super.contains(element);
-        if ((result != true) && (!isComplete())) {
-            waitUntilComplete();
-            result = super.contains(element);
+    public boolean contains(Object element) {
+        this.lock.lock();
+        try {
+            boolean result = super.contains(element);
+            if ((result != true) && (!isComplete())) {
+                waitUntilComplete();
+                result = super.contains(element);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * If it does not contain the object must wait until it is complete.
      */
-    public synchronized boolean containsAll(Collection collection) {
-        boolean result = super.containsAll(collection);
-        if ((result != true) && (!isComplete())) {
-            waitUntilComplete();
-            result = super.containsAll(collection);
+    public boolean containsAll(Collection collection) {
+        this.lock.lock();
+        try {
+            // Each contains waits until complete if the element is missing.
+            for (Object element : collection) {
+                if (!contains(element)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized void copyInto(Object[] array) {
-        waitUntilComplete();
-        super.copyInto(array);
+    public void copyInto(Object[] array) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.copyInto(array);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * If the index is beyond the size wait until complete.
      */
-    public synchronized Object elementAt(int index) {
-        Object result = super.elementAt(index);
-        if ((result == null) && (!isComplete())) {
-            waitUntilComplete();
-            result = super.elementAt(index);
+    public Object elementAt(int index) {
+        this.lock.lock();
+        try {
+            Object result = super.elementAt(index);
+            if ((result == null) && (!isComplete())) {
+                waitUntilComplete();
+                result = super.elementAt(index);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     protected int getSize() {
@@ -246,18 +650,22 @@ public class ThreadCursoredList extends Vector {
                 int count = 0;
 
                 public boolean hasMoreElements() {
-                    synchronized (ThreadCursoredList.this) {
+                    ThreadCursoredList.this.lock.lock();
+                    try {
                         boolean result = count < ThreadCursoredList.this.getSize();
                         while ((!result) && (!isComplete())) {
                             waitUntilAdd();
                             result = count < ThreadCursoredList.this.getSize();
                         }
                         return result;
+                    } finally {
+                        ThreadCursoredList.this.lock.unlock();
                     }
                 }
 
                 public Object nextElement() {
-                    synchronized (ThreadCursoredList.this) {
+                    ThreadCursoredList.this.lock.lock();
+                    try {
                         boolean result = count < ThreadCursoredList.this.getSize();
                         while ((!result) && (!isComplete())) {
                             waitUntilAdd();
@@ -266,6 +674,8 @@ public class ThreadCursoredList extends Vector {
                         if (result) {
                             return get(count++);
                         }
+                    } finally {
+                        ThreadCursoredList.this.lock.unlock();
                     }
                     throw new NoSuchElementException("Vector Enumeration");
                 }
@@ -275,37 +685,57 @@ public class ThreadCursoredList extends Vector {
     /**
      * First wait until complete.
      */
-    public synchronized boolean equals(Object object) {
-        waitUntilComplete();
-        return super.equals(object);
+    public boolean equals(Object object) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.equals(object);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * Wait until has an element or is complete.
      */
-    public synchronized Object firstElement() {
-        while ((!isComplete()) && (super.size() < 1)) {
-            waitUntilAdd();
+    public Object firstElement() {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() < 1)) {
+                waitUntilAdd();
+            }
+            return super.firstElement();
+        } finally {
+            this.lock.unlock();
         }
-        return super.firstElement();
     }
 
     /**
      * Wait until has the element or is complete.
      */
-    public synchronized Object get(int index) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public Object get(int index) {
+        this.lock.lock();
+        try {
+            while ((super.size() <= index) && (!isComplete())) {
+                waitUntilAdd();
+            }
+            return super.get(index);
+        } finally {
+            this.lock.unlock();
         }
-        return super.get(index);
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized int hashCode() {
-        waitUntilComplete();
-        return super.hashCode();
+    public int hashCode() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.hashCode();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -323,33 +753,48 @@ public class ThreadCursoredList extends Vector {
     /**
      * If does not contain the object wait until complete.
      */
-    public synchronized int indexOf(Object element, int index) {
-        int result = super.indexOf(element, index);
-        if ((result == -1) && (!isComplete())) {
-            waitUntilComplete();
-            result = super.indexOf(element, index);
+    public int indexOf(Object element, int index) {
+        this.lock.lock();
+        try {
+            int result = super.indexOf(element, index);
+            if ((result == -1) && (!isComplete())) {
+                waitUntilComplete();
+                result = super.indexOf(element, index);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
-     * Add the element a notify any waiters that there are new elements.
+     * Insert the element, after moving in the elements already populated.
      */
-    public synchronized void insertElementAt(Object element, int index) {
-        super.insertElementAt(element, index);
-        notify();
+    public void insertElementAt(Object element, int index) {
+        this.lock.lock();
+        try {
+            drainBuffer();
+            super.insertElementAt(element, index);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * If empty wait until an element has been added or is complete.
      */
     public boolean isEmpty() {
-        boolean result = super.isEmpty();
-        if (result && (!isComplete())) {
-            waitUntilAdd();
-            result = super.isEmpty();
+        this.lock.lock();
+        try {
+            boolean result = super.isEmpty();
+            while (result && (!isComplete())) {
+                waitUntilAdd();
+                result = super.isEmpty();
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     public Iterator iterator() {
@@ -359,9 +804,14 @@ public class ThreadCursoredList extends Vector {
     /**
      * First wait until complete.
      */
-    public synchronized Object lastElement() {
-        waitUntilComplete();
-        return super.lastElement();
+    public Object lastElement() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.lastElement();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -369,15 +819,21 @@ public class ThreadCursoredList extends Vector {
      */
     public int lastIndexOf(Object element) {
         waitUntilComplete();
-        return super.lastIndexOf(element);
+        // Vector's lastIndexOf(Object) calls back into lastIndexOf(Object, int) while holding its monitor.
+        return lastIndexOf(element, getSize() - 1);
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized int lastIndexOf(Object element, int index) {
-        waitUntilComplete();
-        return super.lastIndexOf(element, index);
+    public int lastIndexOf(Object element, int index) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.lastIndexOf(element, index);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     public ListIterator listIterator() {
@@ -392,18 +848,22 @@ public class ThreadCursoredList extends Vector {
             int count = index;
 
             public boolean hasNext() {
-                synchronized (ThreadCursoredList.this) {
+                ThreadCursoredList.this.lock.lock();
+                try {
                     boolean result = count < ThreadCursoredList.this.getSize();
                     while ((!result) && (!isComplete())) {
                         waitUntilAdd();
                         result = count < ThreadCursoredList.this.getSize();
                     }
                     return result;
+                } finally {
+                    ThreadCursoredList.this.lock.unlock();
                 }
             }
 
             public Object next() {
-                synchronized (ThreadCursoredList.this) {
+                ThreadCursoredList.this.lock.lock();
+                try {
                     boolean result = count < ThreadCursoredList.this.getSize();
                     while ((!result) && (!isComplete())) {
                         waitUntilAdd();
@@ -412,6 +872,8 @@ public class ThreadCursoredList extends Vector {
                     if (result) {
                         return get(count++);
                     }
+                } finally {
+                    ThreadCursoredList.this.lock.unlock();
                 }
                 throw new NoSuchElementException("Vector Iterator");
             }
@@ -450,89 +912,136 @@ public class ThreadCursoredList extends Vector {
     /**
      * If index is missing wait until is there.
      */
-    public synchronized Object remove(int index) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public Object remove(int index) {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() <= index)) {
+                waitUntilAdd();
+            }
+            return super.remove(index);
+        } finally {
+            this.lock.unlock();
         }
-        return super.remove(index);
     }
 
     /**
      * If object is missing wait until complete.
      */
     public boolean remove(Object element) {
-        boolean result = super.remove(element);
-        if ((!result) && (!isComplete())) {
-            waitUntilAdd();
-            result = super.remove(element);
+        this.lock.lock();
+        try {
+            boolean result = super.remove(element);
+            if ((!result) && (!isComplete())) {
+                waitUntilAdd();
+                result = super.remove(element);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized boolean removeAll(Collection collection) {
-        waitUntilComplete();
-        return super.removeAll(collection);
+    public boolean removeAll(Collection collection) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.removeAll(collection);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized void removeAllElements() {
-        waitUntilComplete();
-        super.removeAllElements();
+    public void removeAllElements() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.removeAllElements();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * If missing wait until complete.
      */
-    public synchronized boolean removeElement(Object element) {
-        boolean result = super.removeElement(element);
-        if ((!result) && (!isComplete())) {
-            waitUntilAdd();
-            result = super.removeElement(element);
+    public boolean removeElement(Object element) {
+        this.lock.lock();
+        try {
+            // Vector's removeElement calls back into indexOf while holding its monitor,
+            // so the index is found first, waiting until complete if missing.
+            int index = indexOf(element, 0);
+            if (index == -1) {
+                return false;
+            }
+            super.removeElementAt(index);
+            return true;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * If index is missing wait until reasched or complete.
      */
-    public synchronized void removeElementAt(int index) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public void removeElementAt(int index) {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() <= index)) {
+                waitUntilAdd();
+            }
+            super.removeElementAt(index);
+        } finally {
+            this.lock.unlock();
         }
-        super.removeElementAt(index);
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized boolean retainAll(Collection collection) {
-        waitUntilComplete();
-        return super.retainAll(collection);
+    public boolean retainAll(Collection collection) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.retainAll(collection);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * If index is missing wait until reached or complete.
      */
-    public synchronized Object set(int index, Object element) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public Object set(int index, Object element) {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() <= index)) {
+                waitUntilAdd();
+            }
+            return super.set(index, element);
+        } finally {
+            this.lock.unlock();
         }
-        return super.set(index, element);
     }
 
     /**
      * If index is missing wait until reached or complete.
      */
-    public synchronized void setElementAt(Object element, int index) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public void setElementAt(Object element, int index) {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() <= index)) {
+                waitUntilAdd();
+            }
+            super.setElementAt(element, index);
+        } finally {
+            this.lock.unlock();
         }
-        super.setElementAt(element, index);
     }
 
     /**
@@ -547,41 +1056,66 @@ public class ThreadCursoredList extends Vector {
      * If index is missing wait until reached or complete.
      */
     public List subList(int fromIndex, int toIndex) {
-        while ((!isComplete()) && (super.size() < toIndex)) {
-            waitUntilAdd();
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() < toIndex)) {
+                waitUntilAdd();
+            }
+            return super.subList(fromIndex, toIndex);
+        } finally {
+            this.lock.unlock();
         }
-        return super.subList(fromIndex, toIndex);
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized Object[] toArray() {
-        waitUntilComplete();
-        return super.toArray();
+    public Object[] toArray() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.toArray();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized Object[] toArray(Object[] array) {
-        waitUntilComplete();
-        return super.toArray(array);
+    public Object[] toArray(Object[] array) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.toArray(array);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized String toString() {
-        waitUntilComplete();
-        return super.toString();
+    public String toString() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.toString();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
-    public synchronized void trimToSize() {
-        waitUntilComplete();
-        super.trimToSize();
+    public void trimToSize() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.trimToSize();
+        } finally {
+            this.lock.unlock();
+        }
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper.type;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Extended logging information of a concurrency manager (cache key).
+ * It is only created when the dead-lock diagnostic is enabled, so the concurrency managers
+ * of a large cache do not pay for it otherwise.
+ */
+public class ConcurrencyManagerDiagnostics implements Serializable {
+
+    // Used for logging in case of dead-lock detection. Unique instance id.
+    private static final AtomicLong CONCURRENCY_MANAGER_ID = new AtomicLong(0);
+
+    /**
+     * Unique ID assigned each time when a new instance of a concurrency manager is created
+     */
+    private final long concurrencyManagerId = CONCURRENCY_MANAGER_ID.incrementAndGet();
+
+    /**
+     * Creation date
+     */
+    private final Date concurrencyManagerCreationDate = new Date();
+
+    /**
+     * These are used in extended cache logging to compare cache item creation thread and thread which picking item from the cache
+     */
+    private final long creationThreadId;
+    private final String creationThreadName;
+    private final long creationThreadHashCode;
+
+    /**
+     * In case if two threads are working on the exact same entity that leads to both threads wanting to release the same cache key
+     * there is tracking each increment of number of readers and their release.
+     */
+    private final AtomicLong totalNumberOfKeysAcquiredForReading = new AtomicLong(0);
+
+    /**
+     * Same as totalNumberOfKeysAcquiredForReading but incremented each time the cache key is suffering to release cache key.
+     */
+    private final AtomicLong totalNumberOfKeysReleasedForReading = new AtomicLong(0);
+
+    /**
+     * Total number of times the cache key caused a blow up because it suffered a release of cache key when the counter
+     * was set to 0. It should happen if an entity being shared by two threads.
+     */
+    private final AtomicLong totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero = new AtomicLong(0);
+
+    public ConcurrencyManagerDiagnostics() {
+        Thread currentThread = Thread.currentThread();
+        this.creationThreadId = currentThread.getId();
+        this.creationThreadName = currentThread.getName();
+        this.creationThreadHashCode = currentThread.hashCode();
+    }
+
+    /** Getter for {@link #concurrencyManagerId} */
+    public long getConcurrencyManagerId() {
+        return concurrencyManagerId;
+    }
+
+    /** Getter for {@link #concurrencyManagerCreationDate} */
+    public Date getConcurrencyManagerCreationDate() {
+        return concurrencyManagerCreationDate;
+    }
+
+    /** Getter for {@link #creationThreadId} */
+    public long getCreationThreadId() {
+        return creationThreadId;
+    }
+
+    /** Getter for {@link #creationThreadName} */
+    public String getCreationThreadName() {
+        return creationThreadName;
+    }
+
+    /** Getter for {@link #creationThreadHashCode} */
+    public long getCreationThreadHashCode() {
+        return creationThreadHashCode;
+    }
+
+    /** Getter for {@link #totalNumberOfKeysAcquiredForReading} */
+    public AtomicLong getTotalNumberOfKeysAcquiredForReading() {
+        return totalNumberOfKeysAcquiredForReading;
+    }
+
+    /** Getter for {@link #totalNumberOfKeysReleasedForReading} */
+    public AtomicLong getTotalNumberOfKeysReleasedForReading() {
+        return totalNumberOfKeysReleasedForReading;
+    }
+
+    /** Getter for {@link #totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero} */
+    public AtomicLong getTotalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero() {
+        return totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero;
+    }
+}
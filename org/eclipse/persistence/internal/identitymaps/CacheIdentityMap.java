@@ -42,6 +42,7 @@ public class CacheIdentityMap extends FullIdentityMap {
         this.last = new LinkedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
         this.first.setNext(this.last);
         this.last.setPrevious(this.first);
+        initializeOffHeapCache();
     }
 
     @Override
@@ -58,7 +59,7 @@ public class CacheIdentityMap extends FullIdentityMap {
         // setting max size to 0.
         synchronized(this.first) {
             while (getMaxSize() > 0 && getSize() > getMaxSize()) {
-                remove(last.getPrevious());
+                evict(last.getPrevious());
             }
         }
     }
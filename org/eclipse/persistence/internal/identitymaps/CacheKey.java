@@ -31,11 +31,6 @@ import org.eclipse.persistence.sessions.Record;
  */
 public class CacheKey extends ConcurrencyManager implements Cloneable {
 
-    //These constants are used in extended cache logging to compare cache item creation thread and thread which picking item from the cache
-    public final long CREATION_THREAD_ID = Thread.currentThread().getId();
-    public final String CREATION_THREAD_NAME = String.copyValueOf(Thread.currentThread().getName().toCharArray());
-    public final long CREATION_THREAD_HASHCODE = Thread.currentThread().hashCode();
-
     /** The key holds the vector of primary key values for the object. */
     protected Object key;
 
@@ -133,7 +128,7 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     public void acquire() {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return;
         }
         super.acquire(false);
@@ -145,7 +140,7 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     public void acquire(boolean forMerge) {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return;
         }
         super.acquire(forMerge);
@@ -157,7 +152,7 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     public boolean acquireNoWait() {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return true;
         }
         return super.acquireNoWait(false);
@@ -171,10 +166,10 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
 
     public boolean acquireIfUnownedNoWait() {
         if (this.isIsolated) {
-            if (this.depth.get() > 0) {
+            if (getDepth() > 0) {
                 return false;
             }
-            this.depth.incrementAndGet();
+            incrementDepth();
             return true;
         }
         return super.acquireIfUnownedNoWait(false);
@@ -187,7 +182,7 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     public boolean acquireNoWait(boolean forMerge) {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return true;
         }
         return super.acquireNoWait(forMerge);
@@ -200,7 +195,7 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     public boolean acquireWithWait(boolean forMerge, int wait) {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return true;
         }
         return super.acquireWithWait(forMerge, wait);
@@ -211,7 +206,7 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     public void acquireDeferredLock() {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return;
         }
         super.acquireDeferredLock();
@@ -306,6 +301,8 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
         } catch (Exception exception) {
             throw new InternalError(exception.toString());
         }
+        // The clone must not share the threads waiting on this cache key.
+        ((CacheKey)object).sync = null;
 
         return object;
     }
@@ -354,7 +351,7 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     public Thread getActiveThread() {
         if (this.isIsolated) {
-            if (this.depth.get() > 0) {
+            if (getDepth() > 0) {
                 return Thread.currentThread();
             } else {
                 return null;
@@ -455,7 +452,7 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     public void release() {
         if (this.isIsolated) {
-            this.depth.decrementAndGet();
+            decrementDepth();
             return;
         }
         super.release();
@@ -466,7 +463,7 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     public void releaseDeferredLock() {
         if (this.isIsolated) {
-            this.depth.decrementAndGet();
+            decrementDepth();
             return;
         }
         super.releaseDeferredLock();
@@ -584,13 +581,13 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
         this.transactionId = transactionId;
     }
 
-    public synchronized Object waitForObject(){
+    public Object waitForObject(){
         try {
             int count = 0;
             while (this.object == null && isAcquired()) {
                 if (count > MAX_WAIT_TRIES)
                     throw ConcurrencyException.maxTriesLockOnBuildObjectExceded(getActiveThread(), Thread.currentThread());
-                wait(10);
+                waitForRelease(10);
                 ++count;
             }
         } catch(InterruptedException ex) {
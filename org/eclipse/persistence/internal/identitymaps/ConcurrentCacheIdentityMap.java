@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>: A fixed size cache with approximated LRU eviction that does not
+ * serialize readers.<p>
+ * Unlike the CacheIdentityMap no linked list is maintained. Each cache key records the value
+ * of an access clock when it is used, the clock is only advanced when a new object is inserted.
+ * When the maxSize is exceeded a sample of keys is taken from a rotating cursor over the map
+ * and the least recently used key of the sample is removed.
+ * Reads never lock, only the thread that inserts over the maxSize evicts, other inserting
+ * threads do not wait for it.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Guarantees identity through primary key values
+ *    <li> Keeps the size of the map near the maxSize, removing the least recently used objects.
+ * </ul>
+ * @see CacheIdentityMap
+ */
+public class ConcurrentCacheIdentityMap extends FullIdentityMap {
+
+    /** Number of keys compared to choose each eviction victim. */
+    public static final int SAMPLE_SIZE = 8;
+
+    /** Access clock, advanced on every insert. */
+    protected AtomicLong accessClock;
+
+    /** Held by the thread currently evicting. */
+    protected ReentrantLock evictionLock;
+
+    /** Rotating cursor over the cache keys, only used while holding the eviction lock. */
+    protected transient Iterator<CacheKey> evictionCursor;
+
+    public ConcurrentCacheIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        this.accessClock = new AtomicLong();
+        this.evictionLock = new ReentrantLock();
+        initializeOffHeapCache();
+    }
+
+    /**
+     * INTERNAL:
+     * Clones itself, the clone must not share the clock or eviction state.
+     */
+    @Override
+    public Object clone() {
+        ConcurrentCacheIdentityMap clone = (ConcurrentCacheIdentityMap)super.clone();
+        clone.accessClock = new AtomicLong(this.accessClock.get());
+        clone.evictionLock = new ReentrantLock();
+        clone.evictionCursor = null;
+        return clone;
+    }
+
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new StampedCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Access the object within the table for the given primaryKey.
+     * Stamp the accessed key with the current clock value to maintain the approximated LRU.
+     * @param primaryKey is the primary key for the object to search for.
+     * @return the StampedCacheKey or null if none found for primaryKey
+     */
+    @Override
+    public CacheKey getCacheKey(Object primaryKey, boolean forMerge) {
+        StampedCacheKey cacheKey = (StampedCacheKey)super.getCacheKey(primaryKey, forMerge);
+        if (cacheKey != null) {
+            cacheKey.setAccessStamp(this.accessClock.get());
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Stamp the cache key if it is put, and evict if the maxSize was exceeded.
+     */
+    @Override
+    protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
+        ((StampedCacheKey)searchKey).setAccessStamp(this.accessClock.incrementAndGet());
+        CacheKey cacheKey = super.putCacheKeyIfAbsent(searchKey);
+        if ((cacheKey == null) && (this.maxSize > 0) && (getSize() > this.maxSize)) {
+            // If another thread is already evicting it will also account for this insert.
+            if (this.evictionLock.tryLock()) {
+                try {
+                    ensureFixedSize();
+                } finally {
+                    this.evictionLock.unlock();
+                }
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Reduces the size of the receiver down to the maxSize removing the least recently used
+     * key of each sample.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void ensureFixedSize() {
+        // protect the case where someone attempts to break the cache by
+        // setting max size to 0.
+        while ((this.maxSize > 0) && (getSize() > this.maxSize)) {
+            StampedCacheKey victim = null;
+            for (int index = 0; index < SAMPLE_SIZE; index++) {
+                StampedCacheKey candidate = nextEvictionCandidate();
+                if (candidate == null) {
+                    break;
+                }
+                if ((victim == null) || (candidate.getAccessStamp() < victim.getAccessStamp())) {
+                    victim = candidate;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            evict(victim);
+        }
+    }
+
+    /**
+     * Return the next key from the rotating cursor, restarting it at the end of the map.
+     * The cursor is weakly consistent so concurrent puts and removes are allowed.
+     */
+    protected StampedCacheKey nextEvictionCandidate() {
+        if ((this.evictionCursor == null) || !this.evictionCursor.hasNext()) {
+            this.evictionCursor = this.cacheKeys.values().iterator();
+            if (!this.evictionCursor.hasNext()) {
+                return null;
+            }
+        }
+        return (StampedCacheKey)this.evictionCursor.next();
+    }
+
+    /**
+     * INTERNAL:
+     * This method will be used to update the max cache size, any objects exceeding the max cache size will
+     * be remove from the cache.
+     */
+    @Override
+    public void updateMaxSize(int maxSize) {
+        setMaxSize(maxSize);
+        this.evictionLock.lock();
+        try {
+            ensureFixedSize();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+}
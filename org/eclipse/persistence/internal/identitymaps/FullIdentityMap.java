@@ -20,6 +20,7 @@ import java.util.*;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.persistence.descriptors.CachePolicy;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
@@ -38,6 +39,9 @@ public class FullIdentityMap extends AbstractIdentityMap {
     /** Map of CacheKeys stored using their key. */
     protected Map<Object, CacheKey> cacheKeys;
 
+    /** Off-heap tier the evicted objects are stored to, only used by the shared maps that evict objects. */
+    protected OffHeapCache offHeapCache;
+
     /**
      * Used to allow subclasses to build different map type.
      */
@@ -49,6 +53,47 @@ public class FullIdentityMap extends AbstractIdentityMap {
         this.cacheKeys = new ConcurrentHashMap(size);
     }
 
+    /**
+     * Build the off-heap tier if the descriptor's CachePolicy configures one.
+     * This is called by the subclasses that evict objects to keep their size.
+     */
+    protected void initializeOffHeapCache() {
+        if (this.isIsolated || (this.descriptor == null) || (this.session == null)) {
+            return;
+        }
+        CachePolicy cachePolicy = this.descriptor.getCachePolicy();
+        if ((cachePolicy.getOffHeapCacheSize() > 0) && cachePolicy.isSharedIsolation() && !this.descriptor.hasMultitenantPolicy()) {
+            this.offHeapCache = new OffHeapCache(cachePolicy.getOffHeapCacheSize(), this.descriptor, this.session);
+        }
+    }
+
+    /**
+     * Return the off-heap tier, or null if evicted objects are not kept off-heap.
+     */
+    public OffHeapCache getOffHeapCache() {
+        return offHeapCache;
+    }
+
+    /**
+     * Remove the cache key to keep the size of the map, storing its object in the off-heap tier.
+     * Objects that are locked, such as being merged, are not stored.
+     */
+    protected Object evict(CacheKey cacheKey) {
+        if (this.offHeapCache == null) {
+            return remove(cacheKey);
+        }
+        if (!cacheKey.acquireNoWait()) {
+            this.offHeapCache.remove(cacheKey.getKey());
+            return remove(cacheKey);
+        }
+        try {
+            this.offHeapCache.store(cacheKey);
+            return remove(cacheKey);
+        } finally {
+            cacheKey.release();
+        }
+    }
+
     /**
      * INTERNAL:
      * Clones itself.
@@ -103,6 +148,10 @@ public class FullIdentityMap extends AbstractIdentityMap {
      */
     @Override
     public CacheKey getCacheKey(Object searchKey, boolean forMerge) {
+        if (forMerge && (this.offHeapCache != null)) {
+            // The object is about to change, its stored row must not be used anymore.
+            this.offHeapCache.remove(searchKey);
+        }
         return this.cacheKeys.get(searchKey);
     }
 
@@ -114,7 +163,11 @@ public class FullIdentityMap extends AbstractIdentityMap {
     @Override
     protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
         searchKey.setOwningMap(this);
-        return (CacheKey)((ConcurrentMap)this.cacheKeys).putIfAbsent(searchKey.getKey(), searchKey);
+        CacheKey cacheKey = (CacheKey)((ConcurrentMap)this.cacheKeys).putIfAbsent(searchKey.getKey(), searchKey);
+        if ((cacheKey == null) && (this.offHeapCache != null)) {
+            this.offHeapCache.remove(searchKey.getKey());
+        }
+        return cacheKey;
     }
 
     /**
@@ -14,6 +14,10 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.identitymaps;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.helper.linkedlist.*;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
@@ -23,7 +27,9 @@ import org.eclipse.persistence.internal.sessions.AbstractSession;
  * can be a performance problem for some types of apps because it can cause too much garbage collection
  * of objects read causing them to be re-read and re-built (this defeats the purpose of the cache).
  * The hard weak cache solves this by also holding a fixed number of objects in memory to improve caching.<br>
- * This class makes use of an exposed node linked list to maintain the objects by storing the link nodes in the cache key.
+ * This class makes use of an exposed node linked list to maintain the objects by storing the link nodes in the cache key.<br>
+ * To avoid serializing readers on the list, accesses to cache keys already in the list are recorded in striped, lossy
+ * buffers and replayed onto the list in batches by whichever thread acquires the list lock without waiting.
  * <p><b>Responsibilities</b>:<ul>
  * <li> Guarantees identity
  * <li> Allows garbage collection
@@ -36,9 +42,44 @@ public class HardCacheWeakIdentityMap extends WeakIdentityMap {
     /** A subset of cache entries have hard references maintained in this list to reduce garbage collection frequency */
     protected ExposedNodeLinkedList referenceCache;
 
+    /** Guards the reference cache list, tried without waiting when draining the access buffer. */
+    protected ReentrantLock referenceCacheLock;
+
+    /** Number of access buffer stripes, a power of 2 based on the number of processors. */
+    protected static final int ACCESS_BUFFER_STRIPES = stripesFor(Runtime.getRuntime().availableProcessors());
+
+    /** Number of accesses each stripe holds before a drain is attempted, a power of 2. */
+    protected static final int ACCESS_BUFFER_SIZE = 32;
+
+    /** Striped ring buffers of recently accessed cache keys not yet moved first in the reference cache, null if isolated. */
+    protected AtomicReferenceArray<ReferenceCacheKey> accessBuffer;
+
+    /** Write counter of each access buffer stripe. */
+    protected AtomicInteger[] accessBufferCounts;
+
     public HardCacheWeakIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isIsolated) {
         super(size, descriptor, session, isIsolated);
         this.referenceCache = new ExposedNodeLinkedList();
+        this.referenceCacheLock = new ReentrantLock();
+        // PERF: An isolated map is only used by its client session, so is not worth the buffer's footprint.
+        if (!isIsolated) {
+            this.accessBuffer = new AtomicReferenceArray<>(ACCESS_BUFFER_STRIPES * ACCESS_BUFFER_SIZE);
+            this.accessBufferCounts = new AtomicInteger[ACCESS_BUFFER_STRIPES];
+            for (int index = 0; index < ACCESS_BUFFER_STRIPES; index++) {
+                this.accessBufferCounts[index] = new AtomicInteger();
+            }
+        }
+    }
+
+    /**
+     * Return the smallest power of 2 greater or equal to the number of processors.
+     */
+    private static int stripesFor(int processors) {
+        int stripes = 1;
+        while ((stripes < processors) && (stripes < 64)) {
+            stripes = stripes << 1;
+        }
+        return stripes;
     }
 
     /**
@@ -80,14 +121,19 @@ public class HardCacheWeakIdentityMap extends WeakIdentityMap {
         if (cacheKey == null) {
             return null;
         }
+        // Remove from the map first, so a concurrent drain of the access buffer does not move the node back.
+        Object removed = super.remove(cacheKey);
         LinkedNode node = ((ReferenceCacheKey)cacheKey).getReferenceCacheNode();
         // Node is initially null while object is being built.
         if (node != null) {
-            synchronized (this.referenceCache) {
+            this.referenceCacheLock.lock();
+            try {
                 this.referenceCache.remove(node);
+            } finally {
+                this.referenceCacheLock.unlock();
             }
         }
-        return super.remove(cacheKey);
+        return removed;
     }
 
     /**
@@ -105,14 +151,58 @@ public class HardCacheWeakIdentityMap extends WeakIdentityMap {
      */
     public synchronized void updateMaxSize(int maxSize) {
         setMaxSize(maxSize);
-        synchronized (this.referenceCache) {
-            // Remove the LRU items if max size exceeded.
-            while (this.referenceCache.size() > this.maxSize) {
-                this.referenceCache.removeLast();
+        this.referenceCacheLock.lock();
+        try {
+            drainAccessBuffer();
+        } finally {
+            this.referenceCacheLock.unlock();
+        }
+    }
+
+    /**
+     * Record the access of a cache key already held in the reference cache.
+     * The access is added to the calling thread's stripe, overwriting any access not yet drained,
+     * as the order is only used to choose which objects to release.
+     * When the stripe wraps the buffer is drained if the list lock is free.
+     */
+    protected void recordAccess(ReferenceCacheKey cacheKey) {
+        int stripe = (int)(Thread.currentThread().getId() * 0x9E3779B9L) & (ACCESS_BUFFER_STRIPES - 1);
+        int count = this.accessBufferCounts[stripe].getAndIncrement();
+        this.accessBuffer.lazySet((stripe * ACCESS_BUFFER_SIZE) + (count & (ACCESS_BUFFER_SIZE - 1)), cacheKey);
+        if (((count & (ACCESS_BUFFER_SIZE - 1)) == (ACCESS_BUFFER_SIZE - 1)) && this.referenceCacheLock.tryLock()) {
+            try {
+                drainAccessBuffer();
+            } finally {
+                this.referenceCacheLock.unlock();
             }
         }
     }
 
+    /**
+     * Move the buffered cache keys first in the reference cache,
+     * and remove the LRU items if max size exceeded.
+     * Callers of this method must hold the reference cache lock.
+     */
+    protected void drainAccessBuffer() {
+        int length = (this.accessBuffer == null) ? 0 : this.accessBuffer.length();
+        for (int index = 0; index < length; index++) {
+            ReferenceCacheKey cacheKey = this.accessBuffer.getAndSet(index, null);
+            if (cacheKey != null) {
+                LinkedNode node = cacheKey.getReferenceCacheNode();
+                // The cache key may have been removed from the map since the access.
+                if ((node != null) && (cacheKey.getOwningMap() != null)) {
+                    if (!hasReference(node.getContents())) {
+                        node.setContents(buildReference(cacheKey.getObject()));
+                    }
+                    this.referenceCache.moveFirst(node);
+                }
+            }
+        }
+        while (this.referenceCache.size() > this.maxSize) {
+            this.referenceCache.removeLast();
+        }
+    }
+
     /**
      * Inner class to define the specialized weak cache key.
      * Keeps track of the linked list node to allow quick repositioning.
@@ -142,24 +232,32 @@ public class HardCacheWeakIdentityMap extends WeakIdentityMap {
          * the cache node must be moved to the front of the list.
          */
         public void updateAccess() {
-            // Check if the node's contents is null (was removed),
-            // or ref value may have garbage collected so reset it.
-            if ((this.referenceNode != null) && (!hasReference(this.referenceNode.getContents()))) {
-                this.referenceNode.setContents(buildReference(getObject()));
+            LinkedNode node = this.referenceNode;
+            // PERF: If the node is in the list, only record the access, it is moved first on the next drain.
+            // The node's contents is null if it was removed, or the ref value may have been garbage collected.
+            if ((node != null) && (accessBuffer != null) && hasReference(node.getContents())) {
+                recordAccess(this);
+                return;
             }
-            // PERF: Synchronize on the linked list.
-            synchronized (referenceCache) {
+            referenceCacheLock.lock();
+            try {
                 // If reference node is null, add to start (new cache key).
                 if (this.referenceNode == null) {
                     this.referenceNode = referenceCache.addFirst(buildReference(getObject()));
                 } else {
+                    if (!hasReference(this.referenceNode.getContents())) {
+                        this.referenceNode.setContents(buildReference(getObject()));
+                    }
                     // This is a fast constant time operations because of the linked list usage.
-                    referenceCache.moveFirst(getReferenceCacheNode());
+                    referenceCache.moveFirst(this.referenceNode);
                 }
-                // Remove the old LRU items if max size exceeded (if was removed).
-                while (referenceCache.size() > maxSize) {
-                    referenceCache.removeLast();
+                // PERF: Only apply the buffered accesses when the old LRU items must be removed,
+                // otherwise they are applied when a stripe wraps.
+                if (referenceCache.size() > maxSize) {
+                    drainAccessBuffer();
                 }
+            } finally {
+                referenceCacheLock.unlock();
             }
         }
     }
@@ -390,6 +390,8 @@ public class IdentityMapManager implements Serializable, Cloneable {
                 return new FullIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.CacheIdentityMap_Class) {
                 return new CacheIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.ConcurrentCacheIdentityMap_Class) {
+                return new ConcurrentCacheIdentityMap(size, descriptor, this.session, isIsolated);
             }
         }
         try {
@@ -706,6 +708,10 @@ public class IdentityMapManager implements Serializable, Cloneable {
                     }
                 }
             }
+            // The rows kept off-heap cannot be conformed, so any of them may be invalid.
+            if ((map instanceof FullIdentityMap) && (((FullIdentityMap)map).getOffHeapCache() != null)) {
+                ((FullIdentityMap)map).getOffHeapCache().clear();
+            }
             invalidateQueryCache(theClass);
         } finally {
             this.session.endOperationProfile(SessionProfiler.Caching);
@@ -0,0 +1,548 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.persistence.descriptors.CachePolicy;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.FetchGroupManager;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
+import org.eclipse.persistence.internal.helper.CustomObjectInputStream;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+
+/**
+ * <p><b>Purpose</b>: Off-heap second tier of a shared identity map.<p>
+ * The objects evicted from the identity map are stored as their database row in a direct ByteBuffer,
+ * so a later read by primary key can rebuild the object from the row instead of accessing the database.
+ * The buffer is used as a ring, once it is full new rows overwrite the oldest ones.
+ * Only the index from the primary key to the position of the row is kept on the heap.
+ * <p>
+ * The row is built from the object, so objects that were partially fetched, and objects whose
+ * row would not contain all of the fields selected for their class (such as a read-only mapping
+ * of a field no other mapping writes), are not stored.
+ * The values of the row are stored in a compact binary form, values of other types than the
+ * usual JDBC types are serialized.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Store and retrieve rows by primary key.
+ *    <li> Maintain the hit, miss and eviction counters of the descriptor's CachePolicy.
+ * </ul>
+ * @see CachePolicy#setOffHeapCacheSize(int)
+ */
+public class OffHeapCache {
+
+    /** Rows bigger than this fraction of the buffer are not stored. */
+    protected static final int MAX_ROW_FRACTION = 8;
+
+    /** Value type tags of the stored rows. */
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte INTEGER = 2;
+    protected static final byte LONG = 3;
+    protected static final byte SHORT = 4;
+    protected static final byte BYTE = 5;
+    protected static final byte BOOLEAN = 6;
+    protected static final byte DOUBLE = 7;
+    protected static final byte FLOAT = 8;
+    protected static final byte CHARACTER = 9;
+    protected static final byte BIG_DECIMAL = 10;
+    protected static final byte BIG_INTEGER = 11;
+    protected static final byte TIMESTAMP = 12;
+    protected static final byte SQL_DATE = 13;
+    protected static final byte TIME = 14;
+    protected static final byte DATE = 15;
+    protected static final byte BYTES = 16;
+    protected static final byte SERIALIZED = 17;
+
+    /** Size of the buffer in bytes. */
+    protected final int capacity;
+
+    /** Root descriptor of the identity map. */
+    protected final ClassDescriptor descriptor;
+
+    /** Session that owns the identity map. */
+    protected final AbstractSession session;
+
+    /** Keeps the hit, miss and eviction counters. */
+    protected final CachePolicy cachePolicy;
+
+    /** Position of the stored row of each primary key. */
+    protected final Map<Object, Slot> index;
+
+    /** Writers append to the buffer, readers copy the row out of it. */
+    protected final ReentrantReadWriteLock lock;
+
+    /** Allocated on the first store. */
+    protected ByteBuffer buffer;
+
+    /** Total number of bytes written, the offset in the buffer is its remainder by the capacity. */
+    protected long writePosition;
+
+    /** Write position at which the index is next purged of the overwritten rows. */
+    protected long nextPurgePosition;
+
+    /** Distinct field lists of the stored rows, a row only stores the index of its field list. */
+    protected final List<Vector<DatabaseField>> shapes;
+
+    /** Index of each field list, -1 for the field lists of rows that cannot be stored. */
+    protected final Map<List<DatabaseField>, Integer> shapeIndexes;
+
+    /**
+     * Position and length of a row in the buffer.
+     */
+    protected static class Slot {
+        protected final long position;
+        protected final int length;
+
+        protected Slot(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    public OffHeapCache(int capacity, ClassDescriptor descriptor, AbstractSession session) {
+        this.capacity = capacity;
+        this.descriptor = descriptor;
+        this.session = session;
+        this.cachePolicy = descriptor.getCachePolicy();
+        this.index = new ConcurrentHashMap<Object, Slot>();
+        this.lock = new ReentrantReadWriteLock();
+        this.nextPurgePosition = capacity;
+        this.shapes = new ArrayList<Vector<DatabaseField>>();
+        this.shapeIndexes = new ConcurrentHashMap<List<DatabaseField>, Integer>();
+    }
+
+    /**
+     * Return the size of the buffer in bytes.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Return the number of stored rows, this may include rows that were overwritten
+     * since the last purge of the index.
+     */
+    public int getSize() {
+        return this.index.size();
+    }
+
+    /**
+     * Store the row of the cache key's object, replacing any row stored for its primary key.
+     * If the object cannot be stored the row stored for its primary key is removed.
+     * The caller must hold the lock of the cache key.
+     */
+    public void store(CacheKey cacheKey) {
+        Object primaryKey = cacheKey.getKey();
+        Object object = cacheKey.getObject();
+        if ((object == null) || (cacheKey.getInvalidationState() == CacheKey.CACHE_KEY_INVALID)
+                || this.descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey)) {
+            remove(primaryKey);
+            return;
+        }
+        byte[] bytes = null;
+        try {
+            AbstractRecord row = buildRow(object, cacheKey.getWriteLockValue());
+            if (row != null) {
+                bytes = writeRow(row, cacheKey.getReadTime());
+            }
+        } catch (IOException exception) {
+            // A value of the row is not serializable, the object is not stored.
+            bytes = null;
+        } catch (RuntimeException exception) {
+            // The row could not be built, the object is not stored.
+            bytes = null;
+        }
+        if ((bytes == null) || (bytes.length > (this.capacity / MAX_ROW_FRACTION))) {
+            remove(primaryKey);
+            return;
+        }
+        this.lock.writeLock().lock();
+        try {
+            if (this.buffer == null) {
+                this.buffer = ByteBuffer.allocateDirect(this.capacity);
+            }
+            long position = this.writePosition;
+            write(position, bytes);
+            this.writePosition = position + bytes.length;
+            this.index.put(primaryKey, new Slot(position, bytes.length));
+            if (this.writePosition >= this.nextPurgePosition) {
+                purge();
+                this.nextPurgePosition = this.writePosition + this.capacity;
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Return a cache key holding the row stored for the primary key and its read time,
+     * or null if no valid row is stored.
+     * The row is left in the cache, it is removed when the object built from it is put in the identity map.
+     */
+    public CacheKey get(Object primaryKey) {
+        Slot slot = this.index.get(primaryKey);
+        if (slot == null) {
+            this.cachePolicy.incrementOffHeapCacheMisses();
+            return null;
+        }
+        byte[] bytes = new byte[slot.length];
+        this.lock.readLock().lock();
+        try {
+            if (slot.position < (this.writePosition - this.capacity)) {
+                // The row was overwritten.
+                if (this.index.remove(primaryKey, slot)) {
+                    this.cachePolicy.incrementOffHeapCacheEvictions();
+                }
+                this.cachePolicy.incrementOffHeapCacheMisses();
+                return null;
+            }
+            read(slot.position, bytes);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+        CacheKey cacheKey = null;
+        try {
+            cacheKey = readRow(primaryKey, bytes);
+        } catch (IOException exception) {
+            cacheKey = null;
+        } catch (ClassNotFoundException exception) {
+            cacheKey = null;
+        }
+        if ((cacheKey == null) || this.descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey)) {
+            this.index.remove(primaryKey, slot);
+            this.cachePolicy.incrementOffHeapCacheMisses();
+            return null;
+        }
+        this.cachePolicy.incrementOffHeapCacheHits();
+        return cacheKey;
+    }
+
+    /**
+     * Remove the row stored for the primary key.
+     * This must be called whenever the object may change in the database or is put back in the identity map.
+     */
+    public void remove(Object primaryKey) {
+        this.index.remove(primaryKey);
+    }
+
+    /**
+     * Remove all of the stored rows, the buffer is kept for reuse.
+     */
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.index.clear();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Build the row of the object, or return null if it cannot be rebuilt from its row.
+     */
+    protected AbstractRecord buildRow(Object object, Object writeLockValue) {
+        ClassDescriptor concreteDescriptor = this.descriptor;
+        if (object.getClass() != this.descriptor.getJavaClass()) {
+            concreteDescriptor = this.session.getDescriptor(object.getClass());
+            if (concreteDescriptor == null) {
+                return null;
+            }
+        }
+        FetchGroupManager fetchGroupManager = concreteDescriptor.getFetchGroupManager();
+        if ((fetchGroupManager != null) && fetchGroupManager.isPartialObject(object)) {
+            return null;
+        }
+        AbstractRecord row = concreteDescriptor.getObjectBuilder().buildRow(object, this.session, WriteType.UNDEFINED);
+        // The version is not written by a mapping if it is stored in the cache or only read into the object.
+        OptimisticLockingPolicy lockingPolicy = concreteDescriptor.getOptimisticLockingPolicy();
+        if (lockingPolicy instanceof VersionLockingPolicy) {
+            DatabaseField writeLockField = ((VersionLockingPolicy)lockingPolicy).getWriteLockField();
+            if (!row.containsKey(writeLockField)) {
+                row.put(writeLockField, writeLockValue);
+            }
+        }
+        if (shapeIndexFor(row, concreteDescriptor) < 0) {
+            return null;
+        }
+        return row;
+    }
+
+    /**
+     * Return the index of the row's field list, registering it the first time it is seen.
+     * Return -1 if the row does not contain all of the fields selected for the class,
+     * the object would not be completely built from it.
+     */
+    protected int shapeIndexFor(AbstractRecord row, ClassDescriptor concreteDescriptor) {
+        Vector<DatabaseField> fields = row.getFields();
+        Integer shapeIndex = this.shapeIndexes.get(fields);
+        if (shapeIndex != null) {
+            return shapeIndex;
+        }
+        synchronized (this.shapes) {
+            shapeIndex = this.shapeIndexes.get(fields);
+            if (shapeIndex == null) {
+                Vector<DatabaseField> shape = new Vector<DatabaseField>(fields);
+                if (shape.containsAll(concreteDescriptor.getSelectionFields())) {
+                    this.shapes.add(shape);
+                    shapeIndex = this.shapes.size() - 1;
+                } else {
+                    shapeIndex = -1;
+                }
+                this.shapeIndexes.put(shape, shapeIndex);
+            }
+        }
+        return shapeIndex;
+    }
+
+    /**
+     * Return the field list of the index.
+     */
+    protected Vector<DatabaseField> getShape(int shapeIndex) {
+        synchronized (this.shapes) {
+            return this.shapes.get(shapeIndex);
+        }
+    }
+
+    /**
+     * Remove the index entries of the rows overwritten since the last purge.
+     * Callers of this method must hold the write lock.
+     */
+    protected void purge() {
+        long oldestPosition = this.writePosition - this.capacity;
+        for (Iterator<Slot> iterator = this.index.values().iterator(); iterator.hasNext();) {
+            if (iterator.next().position < oldestPosition) {
+                iterator.remove();
+                this.cachePolicy.incrementOffHeapCacheEvictions();
+            }
+        }
+    }
+
+    /**
+     * Copy the bytes into the buffer at the position, wrapping at the end of the buffer.
+     * Callers of this method must hold the write lock.
+     */
+    protected void write(long position, byte[] bytes) {
+        ByteBuffer buffer = this.buffer.duplicate();
+        int offset = (int)(position % this.capacity);
+        int length = Math.min(bytes.length, this.capacity - offset);
+        buffer.position(offset);
+        buffer.put(bytes, 0, length);
+        if (length < bytes.length) {
+            buffer.position(0);
+            buffer.put(bytes, length, bytes.length - length);
+        }
+    }
+
+    /**
+     * Copy the bytes from the buffer at the position, wrapping at the end of the buffer.
+     * Callers of this method must hold the read lock.
+     */
+    protected void read(long position, byte[] bytes) {
+        ByteBuffer buffer = this.buffer.duplicate();
+        int offset = (int)(position % this.capacity);
+        int length = Math.min(bytes.length, this.capacity - offset);
+        buffer.position(offset);
+        buffer.get(bytes, 0, length);
+        if (length < bytes.length) {
+            buffer.position(0);
+            buffer.get(bytes, length, bytes.length - length);
+        }
+    }
+
+    /**
+     * Return the stored form of the row.
+     */
+    protected byte[] writeRow(AbstractRecord row, long readTime) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(row.size() * 16);
+        DataOutputStream stream = new DataOutputStream(bytes);
+        stream.writeInt(this.shapeIndexes.get(row.getFields()));
+        stream.writeLong(readTime);
+        Vector values = row.getValues();
+        int size = values.size();
+        for (int index = 0; index < size; index++) {
+            writeValue(stream, values.get(index));
+        }
+        stream.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Return a cache key holding the row and its read time from the stored form.
+     */
+    protected CacheKey readRow(Object primaryKey, byte[] bytes) throws IOException, ClassNotFoundException {
+        DataInputStream stream = new DataInputStream(new ByteArrayInputStream(bytes));
+        Vector<DatabaseField> fields = getShape(stream.readInt());
+        long readTime = stream.readLong();
+        int size = fields.size();
+        Vector<Object> values = new Vector<Object>(size);
+        for (int index = 0; index < size; index++) {
+            values.add(readValue(stream));
+        }
+        CacheKey cacheKey = new CacheKey(primaryKey, null, null, readTime, false);
+        cacheKey.setRecord(new DatabaseRecord(fields, values, size));
+        return cacheKey;
+    }
+
+    protected void writeValue(DataOutputStream stream, Object value) throws IOException {
+        if (value == null) {
+            stream.writeByte(NULL);
+            return;
+        }
+        Class type = value.getClass();
+        if (type == String.class) {
+            byte[] bytes = ((String)value).getBytes(StandardCharsets.UTF_8);
+            stream.writeByte(STRING);
+            stream.writeInt(bytes.length);
+            stream.write(bytes);
+        } else if (type == Integer.class) {
+            stream.writeByte(INTEGER);
+            stream.writeInt((Integer)value);
+        } else if (type == Long.class) {
+            stream.writeByte(LONG);
+            stream.writeLong((Long)value);
+        } else if (type == Short.class) {
+            stream.writeByte(SHORT);
+            stream.writeShort((Short)value);
+        } else if (type == Byte.class) {
+            stream.writeByte(BYTE);
+            stream.writeByte((Byte)value);
+        } else if (type == Boolean.class) {
+            stream.writeByte(BOOLEAN);
+            stream.writeBoolean((Boolean)value);
+        } else if (type == Double.class) {
+            stream.writeByte(DOUBLE);
+            stream.writeDouble((Double)value);
+        } else if (type == Float.class) {
+            stream.writeByte(FLOAT);
+            stream.writeFloat((Float)value);
+        } else if (type == Character.class) {
+            stream.writeByte(CHARACTER);
+            stream.writeChar((Character)value);
+        } else if (type == BigDecimal.class) {
+            byte[] bytes = ((BigDecimal)value).unscaledValue().toByteArray();
+            stream.writeByte(BIG_DECIMAL);
+            stream.writeInt(((BigDecimal)value).scale());
+            stream.writeInt(bytes.length);
+            stream.write(bytes);
+        } else if (type == BigInteger.class) {
+            byte[] bytes = ((BigInteger)value).toByteArray();
+            stream.writeByte(BIG_INTEGER);
+            stream.writeInt(bytes.length);
+            stream.write(bytes);
+        } else if (type == java.sql.Timestamp.class) {
+            stream.writeByte(TIMESTAMP);
+            stream.writeLong(((java.sql.Timestamp)value).getTime());
+            stream.writeInt(((java.sql.Timestamp)value).getNanos());
+        } else if (type == java.sql.Date.class) {
+            stream.writeByte(SQL_DATE);
+            stream.writeLong(((java.sql.Date)value).getTime());
+        } else if (type == java.sql.Time.class) {
+            stream.writeByte(TIME);
+            stream.writeLong(((java.sql.Time)value).getTime());
+        } else if (type == java.util.Date.class) {
+            stream.writeByte(DATE);
+            stream.writeLong(((java.util.Date)value).getTime());
+        } else if (type == byte[].class) {
+            stream.writeByte(BYTES);
+            stream.writeInt(((byte[])value).length);
+            stream.write((byte[])value);
+        } else {
+            // Throws NotSerializableException if the value is not serializable.
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream objectStream = new ObjectOutputStream(bytes);
+            objectStream.writeObject(value);
+            objectStream.flush();
+            stream.writeByte(SERIALIZED);
+            stream.writeInt(bytes.size());
+            bytes.writeTo(stream);
+        }
+    }
+
+    protected Object readValue(DataInputStream stream) throws IOException, ClassNotFoundException {
+        byte tag = stream.readByte();
+        switch (tag) {
+        case NULL:
+            return null;
+        case STRING:
+            return new String(readBytes(stream), StandardCharsets.UTF_8);
+        case INTEGER:
+            return stream.readInt();
+        case LONG:
+            return stream.readLong();
+        case SHORT:
+            return stream.readShort();
+        case BYTE:
+            return stream.readByte();
+        case BOOLEAN:
+            return stream.readBoolean();
+        case DOUBLE:
+            return stream.readDouble();
+        case FLOAT:
+            return stream.readFloat();
+        case CHARACTER:
+            return stream.readChar();
+        case BIG_DECIMAL:
+            int scale = stream.readInt();
+            return new BigDecimal(new BigInteger(readBytes(stream)), scale);
+        case BIG_INTEGER:
+            return new BigInteger(readBytes(stream));
+        case TIMESTAMP:
+            java.sql.Timestamp timestamp = new java.sql.Timestamp(stream.readLong());
+            timestamp.setNanos(stream.readInt());
+            return timestamp;
+        case SQL_DATE:
+            return new java.sql.Date(stream.readLong());
+        case TIME:
+            return new java.sql.Time(stream.readLong());
+        case DATE:
+            return new java.util.Date(stream.readLong());
+        case BYTES:
+            return readBytes(stream);
+        case SERIALIZED:
+            CustomObjectInputStream objectStream = new CustomObjectInputStream(new ByteArrayInputStream(readBytes(stream)), this.session);
+            return objectStream.readObject();
+        default:
+            throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    protected byte[] readBytes(DataInputStream stream) throws IOException {
+        byte[] bytes = new byte[stream.readInt()];
+        stream.readFully(bytes);
+        return bytes;
+    }
+}
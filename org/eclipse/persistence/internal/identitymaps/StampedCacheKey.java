@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+/**
+ * <p><b>Purpose</b>: Provides the capability to record the last access of a CacheKey
+ * without linking it into a shared list.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Provide same capabilities as superclass.
+ * <li> Maintain the access stamp used for sampled LRU eviction.
+ * </ul>
+ * @see ConcurrentCacheIdentityMap
+ */
+public class StampedCacheKey extends CacheKey {
+
+    /** Value of the owning map's access clock when this key was last used. */
+    protected volatile long accessStamp;
+
+    /**
+     * Initialize the newly allocated instance of this class.
+     * @param object is the domain object.
+     * @param writeLockValue is the write lock value number.
+     */
+    public StampedCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime, boolean isIsolated) {
+        super(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    public long getAccessStamp() {
+        return accessStamp;
+    }
+
+    /**
+     * Record the access, avoid the volatile write (and the cache line invalidation)
+     * if the key was already stamped with the current clock value.
+     */
+    public void setAccessStamp(long accessStamp) {
+        if (this.accessStamp != accessStamp) {
+            this.accessStamp = accessStamp;
+        }
+    }
+}
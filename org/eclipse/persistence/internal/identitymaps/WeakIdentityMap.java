@@ -99,15 +99,16 @@ public class WeakIdentityMap extends FullIdentityMap {
             synchronized (this) {
                 if (this.cleanupCount > this.cleanupSize) {
                     if ((this.session !=  null) && this.session.isConcurrent()) {
+                        // Reset the count and increase the next cleanup before launching,
+                        // otherwise every put until the cleanup ends launches another cleanup.
+                        this.cleanupCount = 0;
+                        int size = getSize();
+                        if (size > this.cleanupSize) {
+                            this.cleanupSize = size;
+                        }
                         Runnable runnable = new Runnable() {
                             public void run() {
                                 cleanupDeadCacheKeys();
-                                WeakIdentityMap.this.cleanupCount = 0;
-                                // PERF: Avoid cleanup bottleneck for large cache sizes, increase next cleanup.
-                                int size = getSize();
-                                if (size > WeakIdentityMap.this.cleanupSize) {
-                                    WeakIdentityMap.this.cleanupSize = size;
-                                }
                             }
                         };
                         this.session.getServerPlatform().launchContainerRunnable(runnable);
@@ -26,6 +26,7 @@ import org.eclipse.persistence.mappings.ForeignReferenceMapping;
 import org.eclipse.persistence.queries.ObjectBuildingQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
 import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.tools.profiler.FetchPlanMonitor;
 
 /**
  * QueryBasedValueHolder wraps a database-stored object and implements behavior
@@ -43,6 +44,8 @@ public class QueryBasedValueHolder extends DatabaseValueHolder {
     protected transient ReadQuery query;
     protected transient Object sourceObject;
     protected Integer refreshCascade;
+    /** The root query execution that read the source object, if monitoring fetch plans. */
+    protected transient FetchPlanMonitor.Origin fetchPlanOrigin;
 
     protected QueryBasedValueHolder() {
     }
@@ -83,6 +86,7 @@ public class QueryBasedValueHolder extends DatabaseValueHolder {
         }
         this.query = query;
         this.sourceObject = sourceObject;
+        this.fetchPlanOrigin = FetchPlanMonitor.getCurrentOrigin(session);
     }
 
     /**
@@ -132,7 +136,20 @@ public class QueryBasedValueHolder extends DatabaseValueHolder {
         if (this.query.isObjectBuildingQuery() && ((ObjectBuildingQuery)this.query).shouldRefreshIdentityMapResult()){
             this.refreshCascade = ((ObjectBuildingQuery)this.query).getCascadePolicy();
         }
-        Object result = session.executeQuery(getQuery(), getRow());
+        Object result;
+        FetchPlanMonitor fetchPlanMonitor = (this.fetchPlanOrigin == null) ? FetchPlanMonitor.getMonitor(session) : this.fetchPlanOrigin.getMonitor();
+        if ((fetchPlanMonitor == null) || (this.query.getSourceMapping() == null)) {
+            result = session.executeQuery(getQuery(), getRow());
+        } else {
+            // Record the load against the query that read the source object.
+            FetchPlanMonitor.Origin previousOrigin = fetchPlanMonitor.startLazyLoad(this.fetchPlanOrigin, this.query.getSourceMapping());
+            long startTime = System.nanoTime();
+            try {
+                result = session.executeQuery(getQuery(), getRow());
+            } finally {
+                fetchPlanMonitor.endLazyLoad(previousOrigin, System.nanoTime() - startTime);
+            }
+        }
         // Bug 489898 - ensure that the query's session is dereferenced, post-execution
         getQuery().setSession(null);
         return result;
@@ -212,6 +229,7 @@ public class QueryBasedValueHolder extends DatabaseValueHolder {
     protected void resetFields() {
         super.resetFields();
         this.query = null;
+        this.fetchPlanOrigin = null;
     }
 
     /**
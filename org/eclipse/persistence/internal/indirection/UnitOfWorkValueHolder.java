@@ -24,6 +24,7 @@ import org.eclipse.persistence.internal.sessions.remote.RemoteValueHolder;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.tools.profiler.FetchPlanMonitor;
 
 /**
  * A UnitOfWorkValueHolder is put in a clone object.
@@ -59,6 +60,9 @@ public abstract class UnitOfWorkValueHolder extends DatabaseValueHolder implemen
     protected String sourceAttributeName;
     protected ObjID wrappedValueHolderRemoteID;
 
+    /** The root query execution that read the source object, if monitoring fetch plans. */
+    protected transient FetchPlanMonitor.Origin fetchPlanOrigin;
+
     protected UnitOfWorkValueHolder() {
         super();
     }
@@ -69,6 +73,7 @@ public abstract class UnitOfWorkValueHolder extends DatabaseValueHolder implemen
         this.session = unitOfWork;
         this.sourceAttributeName = mapping.getAttributeName();
         this.relationshipSourceObject = clone;
+        this.fetchPlanOrigin = FetchPlanMonitor.getCurrentOrigin(unitOfWork);
 
         if (unitOfWork.isRemoteUnitOfWork()) {
             if (attributeValue instanceof RemoteValueHolder) {
@@ -235,7 +240,18 @@ public abstract class UnitOfWorkValueHolder extends DatabaseValueHolder implemen
             if (getUnitOfWork() == null) {
                 throw ValidationException.instantiatingValueholderWithNullSession();
             }
-            cloneAttributeValue = instantiateImpl();
+            FetchPlanMonitor.Origin fetchPlanOrigin = this.fetchPlanOrigin;
+            if (fetchPlanOrigin == null) {
+                cloneAttributeValue = instantiateImpl();
+            } else {
+                // The wrapped value holder may have been read by an earlier query, so record the load against this one.
+                FetchPlanMonitor.Origin previousOrigin = fetchPlanOrigin.getMonitor().startInstantiation(fetchPlanOrigin, this.mapping);
+                try {
+                    cloneAttributeValue = instantiateImpl();
+                } finally {
+                    fetchPlanOrigin.getMonitor().setCurrentOrigin(previousOrigin);
+                }
+            }
         }
 
         // Set the value in the backup clone also.
@@ -30,6 +30,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -390,6 +391,71 @@ public class EJBQueryImpl<X> extends QueryImpl implements JpaQuery<X> {
         }
     }
 
+    /**
+     * Execute the query and return the results as a stream.
+     * A ReadAllQuery, ReportQuery or DataReadQuery is executed with a forward only cursor,
+     * so results are built from the open result set as the stream advances.
+     * The entities remain managed, unless the query's "eclipselink.cursor.stream-release" hint releases
+     * the entities the stream has passed from the persistence context unless changed.
+     * The statement and connection are released when the stream reaches its end or is closed,
+     * so the stream should be closed if it may not be read to its end.
+     * Other queries return a stream of their result list.
+     */
+    @Override
+    public Stream<X> getResultStream() {
+        // bug51411440: need to throw IllegalStateException if query executed on closed em
+        this.entityManager.verifyOpenWithSetRollbackOnly();
+        try {
+            setAsSQLReadQuery();
+            propagateResultProperties();
+            DatabaseQuery query = getDatabaseQueryInternal();
+            ContainerPolicy containerPolicy = null;
+            if (query.isReadAllQuery()) {
+                containerPolicy = ((ReadAllQuery) query).getContainerPolicy();
+            } else if (query.isDataReadQuery()) {
+                containerPolicy = ((DataReadQuery) query).getContainerPolicy();
+            } else {
+                return getResultList().stream();
+            }
+            if (containerPolicy.isCursorPolicy()) {
+                return (Stream) ((Cursor) executeReadQuery()).stream();
+            }
+            if (!containerPolicy.isListPolicy()) {
+                return getResultList().stream();
+            }
+            // Execute a streaming clone, the query is left unchanged for its other executions.
+            DatabaseQuery originalQuery = this.databaseQuery;
+            boolean isShared = this.isShared;
+            ReadQuery streamingQuery = (ReadQuery) query.clone();
+            if (streamingQuery.isReadAllQuery()) {
+                ((ReadAllQuery) streamingQuery).useStreamingCursor();
+            } else {
+                ((DataReadQuery) streamingQuery).useStreamingCursor();
+            }
+            this.databaseQuery = streamingQuery;
+            this.isShared = false;
+            Cursor cursor = null;
+            try {
+                cursor = (Cursor) executeReadQuery();
+            } finally {
+                this.databaseQuery = originalQuery;
+                this.isShared = isShared;
+            }
+            return (Stream) cursor.stream();
+        } catch (LockTimeoutException e) {
+            throw e;
+        } catch (PersistenceException exception) {
+            setRollbackOnly();
+            throw exception;
+        } catch (IllegalStateException exception) {
+            setRollbackOnly();
+            throw exception;
+        } catch (RuntimeException exception) {
+            setRollbackOnly();
+            throw new PersistenceException(exception);
+        }
+    }
+
     /**
      * Execute a query that returns a single result.
      *
@@ -289,6 +289,7 @@ import org.eclipse.persistence.sessions.remote.rmi.RMIServerSessionManager;
 import org.eclipse.persistence.sessions.remote.rmi.RMIServerSessionManagerDispatcher;
 import org.eclipse.persistence.sessions.serializers.JavaSerializer;
 import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
 import org.eclipse.persistence.sessions.server.ConnectionPolicy;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
@@ -1639,6 +1640,25 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
                         readPool.setLogin(pool.getLogin());
                         serverSession.setReadConnectionPool(readPool);
                     }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_CONCURRENT)) {
+                    if (Boolean.parseBoolean((String)entry.getValue())) {
+                        useConcurrentConnectionPool(serverSession, poolName, pool);
+                    }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_IDLE_TIMEOUT)) {
+                    ConcurrentConnectionPool concurrentPool = useConcurrentConnectionPool(serverSession, poolName, pool);
+                    if (concurrentPool != null) {
+                        concurrentPool.setIdleTimeout(Long.parseLong((String)entry.getValue()));
+                    }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_KEEP_ALIVE_TIME)) {
+                    ConcurrentConnectionPool concurrentPool = useConcurrentConnectionPool(serverSession, poolName, pool);
+                    if (concurrentPool != null) {
+                        concurrentPool.setKeepAliveTime(Long.parseLong((String)entry.getValue()));
+                    }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_LEAK_DETECTION_THRESHOLD)) {
+                    ConcurrentConnectionPool concurrentPool = useConcurrentConnectionPool(serverSession, poolName, pool);
+                    if (concurrentPool != null) {
+                        concurrentPool.setLeakDetectionThreshold(Long.parseLong((String)entry.getValue()));
+                    }
                 }
             } catch (RuntimeException exception) {
                 this.session.handleException(ValidationException.invalidValueForProperty(entry.getValue(), entry.getKey(), exception));
@@ -1646,6 +1666,34 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
         }
     }
 
+    /**
+     * Replace the pool by a concurrent connection pool with the same settings, unless it already is one.
+     * Return the concurrent pool, or null if external connection pooling is used.
+     */
+    protected ConcurrentConnectionPool useConcurrentConnectionPool(ServerSession serverSession, String poolName, ConnectionPool pool) {
+        if (pool instanceof ConcurrentConnectionPool) {
+            return (ConcurrentConnectionPool)pool;
+        }
+        if (pool.getLogin().shouldUseExternalConnectionPooling()) {
+            return null;
+        }
+        ConcurrentConnectionPool concurrentPool = new ConcurrentConnectionPool(pool.getName(), pool.getLogin(), pool.getInitialNumberOfConnections(), pool.getMinNumberOfConnections(), pool.getMaxNumberOfConnections(), serverSession);
+        concurrentPool.setWaitTimeout(pool.getWaitTimeout());
+        concurrentPool.setFailoverConnectionPools(pool.getFailoverConnectionPools());
+        if (poolName.equals("read")) {
+            serverSession.setReadConnectionPool(concurrentPool);
+        } else if (poolName.equals("sequence")) {
+            getDatabaseSession().getSequencingControl().setConnectionPool(concurrentPool);
+        } else {
+            // The default pool is also the read pool if no read pool is configured.
+            if (serverSession.getReadConnectionPool() == pool) {
+                serverSession.setReadConnectionPool(concurrentPool);
+            }
+            serverSession.addConnectionPool(concurrentPool);
+        }
+        return concurrentPool;
+    }
+
     protected void updateConnectionPolicy(ServerSession serverSession, Map m) {
         String isLazyString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.EXCLUSIVE_CONNECTION_IS_LAZY, m, session);
         if(isLazyString != null) {
@@ -2797,6 +2845,16 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
                 session.getPlatform().setShouldBindPartialParameters(Boolean.parseBoolean(allowPartialBindString));
             }
 
+            String inParameterPaddingString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JDBC_IN_PARAMETER_PADDING, m, session);
+            if (inParameterPaddingString != null) {
+                session.getPlatform().setShouldPadINParameters(Boolean.parseBoolean(inParameterPaddingString));
+            }
+
+            String inArrayParameterThresholdString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JDBC_IN_ARRAY_PARAMETER_THRESHOLD, m, session);
+            if (inArrayParameterThresholdString != null) {
+                session.getPlatform().setINArrayParameterThreshold(Integer.parseInt(inArrayParameterThresholdString));
+            }
+
             updateLogins(m);
         }
         if (!session.getDatasourceLogin().shouldUseExternalTransactionController()) {
@@ -2841,6 +2899,7 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
             updateNativeSQLSetting(m);
             updateSequencing(m);
             updateSequencingStart(m);
+            updateSequencingPrefetch(m);
             updateAllowNativeSQLQueriesSetting(m);
             updateSQLCastSetting(m);
             updateUppercaseSetting(m);
@@ -2849,6 +2908,8 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
             updateAllowExtendedThreadLogging(m);
             updateAllowExtendedThreadLoggingThreadDump(m);
             updateTemporalMutableSetting(m);
+            updateConcurrentProcessingSetting(m);
+            updateGenerateAttributeAccessorsSetting(m);
             updateAllowQueryResultsCacheValidation(m);
             updateTableCreationSettings(m);
             updateIndexForeignKeys(m);
@@ -3195,6 +3256,14 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
              if (batchWritingSettingString == BatchWriting.JDBC) {
                  this.session.getPlatform().setUsesJDBCBatchWriting(true);
                  this.session.getPlatform().setUsesNativeBatchWriting(false);
+             } else if (batchWritingSettingString == BatchWriting.Pipelined) {
+                 this.session.getPlatform().setUsesJDBCBatchWriting(true);
+                 this.session.getPlatform().setUsesNativeBatchWriting(false);
+                 this.session.getPlatform().setUsesPipelinedBatchWriting(true);
+             } else if (batchWritingSettingString == BatchWriting.MultiRowInsert) {
+                 this.session.getPlatform().setUsesJDBCBatchWriting(true);
+                 this.session.getPlatform().setUsesNativeBatchWriting(false);
+                 this.session.getPlatform().setUsesMultiRowInsertBatchWriting(true);
              } else if (batchWritingSettingString == BatchWriting.Buffered) {
                  this.session.getPlatform().setUsesJDBCBatchWriting(false);
                  this.session.getPlatform().setUsesNativeBatchWriting(false);
@@ -3354,6 +3423,13 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
         }
     }
 
+    protected void updateSequencingPrefetch(Map m) {
+        String local = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_PREFETCH, m, session);
+        if (local != null) {
+            getDatabaseSession().getSequencingControl().setShouldPrefetch(Boolean.parseBoolean(local));
+        }
+    }
+
     protected void updateSequencingStart(Map m) {
         String local = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_START_AT_NEXTVAL, m, session);
         try {
@@ -3409,6 +3485,15 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
         if (validation != null) {
             this.session.setProperty(PersistenceUnitProperties.JPQL_VALIDATION, validation);
         }
+        // Set JPQL parse cache size if it was specified.
+        String parseCacheSize = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JPQL_PARSE_CACHE_SIZE, m, this.session);
+        if (parseCacheSize != null) {
+            try {
+                this.session.getProject().setJPQLParseCacheMaxSize(Integer.parseInt(parseCacheSize.trim()));
+            } catch (NumberFormatException exception) {
+                this.session.handleException(ValidationException.invalidValueForProperty(parseCacheSize, PersistenceUnitProperties.JPQL_PARSE_CACHE_SIZE, exception));
+            }
+        }
     }
 
     /**
@@ -3651,6 +3736,38 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
         }
     }
 
+    /**
+     * Enable or disable the session's concurrent processing, such as fetching rows concurrently to building objects.
+     */
+    protected void updateConcurrentProcessingSetting(Map m) {
+        String concurrentProcessing = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENT_PROCESSING, m, session);
+        if (concurrentProcessing != null) {
+            if (concurrentProcessing.equalsIgnoreCase("true")) {
+               session.setIsConcurrent(true);
+            } else if (concurrentProcessing.equalsIgnoreCase("false")) {
+               session.setIsConcurrent(false);
+            } else {
+                session.handleException(ValidationException.invalidBooleanValueForProperty(concurrentProcessing, PersistenceUnitProperties.CONCURRENT_PROCESSING));
+            }
+        }
+    }
+
+    /**
+     * Enable or disable generating accessors for attributes using get and set methods.
+     */
+    protected void updateGenerateAttributeAccessorsSetting(Map m) {
+        String generateAccessors = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.GENERATE_ATTRIBUTE_ACCESSORS, m, session);
+        if (generateAccessors != null) {
+            if (generateAccessors.equalsIgnoreCase("true")) {
+               session.getProject().setShouldGenerateAttributeAccessors(true);
+            } else if (generateAccessors.equalsIgnoreCase("false")) {
+               session.getProject().setShouldGenerateAttributeAccessors(false);
+            } else {
+                session.handleException(ValidationException.invalidBooleanValueForProperty(generateAccessors, PersistenceUnitProperties.GENERATE_ATTRIBUTE_ACCESSORS));
+            }
+        }
+    }
+
     /**
      * Enable or disable default temporal mutable setting.
      * The method needs to be called in deploy stage.
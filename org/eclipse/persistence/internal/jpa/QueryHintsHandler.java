@@ -242,6 +242,7 @@ public class QueryHintsHandler {
 
         static {
             addHint(new BindParametersHint());
+            addHint(new INParameterPaddingHint());
             addHint(new CacheUsageHint());
             addHint(new CacheRetrieveModeHint());
             addHint(new CacheRetrieveModeLegacyHint());
@@ -257,6 +258,7 @@ public class QueryHintsHandler {
             addHint(new BatchHint());
             addHint(new BatchTypeHint());
             addHint(new BatchSizeHint());
+            addHint(new BatchAdaptiveHint());
             addHint(new FetchHint());
             addHint(new LeftFetchHint());
             addHint(new ReadOnlyHint());
@@ -285,6 +287,7 @@ public class QueryHintsHandler {
             addHint(new CursorInitialSizeHint());
             addHint(new CursorPageSizeHint());
             addHint(new ScrollableCursorHint());
+            addHint(new CursorStreamReleaseHint());
             addHint(new CursorSizeHint());
             addHint(new FetchGroupHint());
             addHint(new FetchGraphHint());
@@ -314,6 +317,7 @@ public class QueryHintsHandler {
             addHint(new BatchWriteHint());
             addHint(new ResultSetAccess());
             addHint(new SerializedObject());
+            addHint(new ParallelBuildHint());
             addHint(new ReturnNameValuePairsHint());
             addHint(new PrintInnerJoinInWhereClauseHint());
             addHint(new QueryResultsCacheValidation());
@@ -517,6 +521,22 @@ public class QueryHintsHandler {
         }
     }
 
+    protected static class INParameterPaddingHint extends Hint {
+        INParameterPaddingHint() {
+            super(QueryHints.IN_PARAMETER_PADDING, HintValues.PERSISTENCE_UNIT_DEFAULT);
+            valueArray = new Object[][] {
+                {HintValues.PERSISTENCE_UNIT_DEFAULT, null},
+                {HintValues.TRUE, Boolean.TRUE},
+                {HintValues.FALSE, Boolean.FALSE}
+            };
+        }
+
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            query.setShouldPadINParameters((Boolean)valueToApply);
+            return query;
+        }
+    }
+
     protected static class AllowNativeSQLQueryHint extends Hint {
         AllowNativeSQLQueryHint() {
             super(QueryHints.ALLOW_NATIVE_SQL_QUERY, HintValues.PERSISTENCE_UNIT_DEFAULT);
@@ -1412,6 +1432,8 @@ public class QueryHintsHandler {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.HardCacheWeakIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.CACHE.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.CacheIdentityMap_Class);
+                } else if (valueToApply.equals(CacheType.CONCURRENT_CACHE.name())) {
+                    readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.ConcurrentCacheIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.NONE.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.NoIdentityMap_Class);
                 } else {
@@ -1534,6 +1556,26 @@ public class QueryHintsHandler {
         }
     }
 
+    protected static class BatchAdaptiveHint extends Hint {
+        BatchAdaptiveHint() {
+            super(QueryHints.BATCH_ADAPTIVE, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isObjectLevelReadQuery()) {
+                ((ObjectLevelReadQuery) query).setIsBatchFetchAdaptive(((Boolean)valueToApply).booleanValue());
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+
+            return query;
+        }
+    }
+
     protected static class FetchHint extends Hint {
         FetchHint() {
             super(QueryHints.FETCH, "");
@@ -1784,6 +1826,25 @@ public class QueryHintsHandler {
         }
     }
 
+    protected static class CursorStreamReleaseHint extends Hint {
+        CursorStreamReleaseHint() {
+            super(QueryHints.CURSOR_STREAM_RELEASE, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadAllQuery()) {
+                ((ReadAllQuery)query).setShouldReleaseStreamedObjects(((Boolean)valueToApply).booleanValue());
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     protected static class ScrollableCursorHint extends Hint {
         ScrollableCursorHint() {
             super(QueryHints.SCROLLABLE_CURSOR, HintValues.FALSE);
@@ -2114,6 +2175,25 @@ public class QueryHintsHandler {
         }
     }
 
+    protected static class ParallelBuildHint extends Hint {
+        ParallelBuildHint() {
+            super(QueryHints.PARALLEL_BUILD, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isObjectLevelReadQuery()) {
+                ((ObjectLevelReadQuery)query).setShouldBuildObjectsInParallel(((Boolean)valueToApply).booleanValue());
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     protected static class SerializedObject extends Hint {
         SerializedObject() {
             super(QueryHints.SERIALIZED_OBJECT, HintValues.FALSE);
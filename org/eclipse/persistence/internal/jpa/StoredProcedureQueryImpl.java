@@ -129,7 +129,7 @@ public class StoredProcedureQueryImpl extends QueryImpl implements StoredProcedu
 
             List result =  new Vector();
             while (resultSet.next()) {
-                result.add(accessor.fetchRow(executeCall.getFields(), executeCall.getFieldsArray(), resultSet, metaData, session));
+                result.add(accessor.fetchRow(executeCall.getFieldIndex(), resultSet, metaData, session));
             }
 
             // The result set must be closed in case the statement is cached and not closed.
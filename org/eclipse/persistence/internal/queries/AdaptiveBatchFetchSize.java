@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.queries;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * INTERNAL:
+ * The IN batch fetch size of a mapping, adapted to how many of the batched relationships are accessed.
+ * <p>
+ * Records the source rows each IN batch covers, and the batched value holders instantiated from those rows.
+ * Once a batch worth of rows has been observed, the size is halved (to fit the accessed rows) if less than half of the
+ * rows were accessed, avoiding reading objects that are not used, or doubled if nearly all of them were accessed,
+ * avoiding a query for each small batch.
+ * The size starts at the query's batch size, and is kept between {@link #MINIMUM_SIZE} and the query's batch size,
+ * as the query's batch size is the maximum number of keys for the IN clause.
+ * <p>
+ * Shared by all of the queries batch fetching the mapping, so is thread safe.
+ * @see org.eclipse.persistence.queries.BatchFetchPolicy#isAdaptive()
+ * @see org.eclipse.persistence.mappings.ForeignReferenceMapping#extractResultFromBatchQuery
+ */
+public class AdaptiveBatchFetchSize {
+    /** The smallest size the batch is reduced to. */
+    public static final int MINIMUM_SIZE = 8;
+
+    /** The adapted size, 0 until the first batch. */
+    protected int size;
+
+    /** The source rows covered by the batches since the size was last evaluated. */
+    protected final AtomicLong rows = new AtomicLong();
+
+    /** The batched value holders instantiated since the size was last evaluated. */
+    protected final AtomicLong instantiations = new AtomicLong();
+
+    /** The source rows covered by all of the batches. */
+    protected final AtomicLong totalRows = new AtomicLong();
+
+    /** The batched value holders instantiated for all of the batches. */
+    protected final AtomicLong totalInstantiations = new AtomicLong();
+
+    /** The number of batch queries executed. */
+    protected final AtomicLong batches = new AtomicLong();
+
+    /**
+     * Record the instantiation of a batched value holder.
+     */
+    public void instantiated() {
+        this.instantiations.incrementAndGet();
+        this.totalInstantiations.incrementAndGet();
+    }
+
+    /**
+     * Record the execution of a batch covering the number of source rows.
+     */
+    public void batched(int rowsCovered) {
+        this.rows.addAndGet(rowsCovered);
+        this.totalRows.addAndGet(rowsCovered);
+        this.batches.incrementAndGet();
+    }
+
+    /**
+     * Return the size of the next batch for the query's batch size,
+     * evaluating the accesses of the previous batches if a batch worth of rows has been observed.
+     */
+    public synchronized int nextSize(int querySize) {
+        if (this.size == 0) {
+            this.size = querySize;
+        }
+        long rowsObserved = this.rows.get();
+        if ((rowsObserved == 0) || (rowsObserved < this.size)) {
+            return this.size;
+        }
+        long instantiationsObserved = this.instantiations.getAndSet(0);
+        this.rows.addAndGet(-rowsObserved);
+        // A row's relationship may be instantiated more than once, i.e. by several units of work.
+        double ratio = Math.min(1.0, (double)instantiationsObserved / rowsObserved);
+        if (ratio < 0.5) {
+            int fitted = (int)Math.ceil(this.size * ratio);
+            int newSize = MINIMUM_SIZE;
+            while (newSize < fitted) {
+                newSize = newSize << 1;
+            }
+            this.size = Math.max(MINIMUM_SIZE, Math.min(newSize, this.size >> 1));
+        } else if (ratio >= 0.9) {
+            this.size = this.size << 1;
+        }
+        this.size = Math.min(this.size, querySize);
+        return this.size;
+    }
+
+    /**
+     * Return the adapted size, 0 until the first batch.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Return the source rows covered by all of the batches.
+     */
+    public long getTotalRows() {
+        return totalRows.get();
+    }
+
+    /**
+     * Return the batched value holders instantiated for all of the batches.
+     */
+    public long getTotalInstantiations() {
+        return totalInstantiations.get();
+    }
+
+    /**
+     * Return the number of batch queries executed.
+     */
+    public long getBatches() {
+        return batches.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveBatchFetchSize(size=" + this.size + ", batches=" + getBatches() + ", rows=" + getTotalRows() + ", instantiations=" + getTotalInstantiations() + ")";
+    }
+}
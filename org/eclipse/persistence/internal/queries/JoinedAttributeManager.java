@@ -1086,9 +1086,9 @@ public class JoinedAttributeManager implements Cloneable, Serializable {
         while (true) {
             AbstractRecord nextRow = null;
             if (forward) {
-                nextRow = cursor.getAccessor().cursorRetrieveNextRow(cursor.getFields(), cursor.getResultSet(), session);
+                nextRow = cursor.getAccessor().cursorRetrieveNextRow(cursor.getFieldIndex(), cursor.getResultSet(), session);
             } else {
-                nextRow = cursor.getAccessor().cursorRetrievePreviousRow(cursor.getFields(), cursor.getResultSet(), session);
+                nextRow = cursor.getAccessor().cursorRetrievePreviousRow(cursor.getFieldIndex(), cursor.getResultSet(), session);
             }
             if (nextRow == null) {
                 break;
@@ -23,7 +23,7 @@ import java.util.concurrent.*;
  * @see SequencingManager
  */
 class PreallocationHandler implements SequencingLogInOut {
-    protected Map<String, Queue> preallocatedSequences;
+    protected ConcurrentMap<String, Queue> preallocatedSequences;
 
     public PreallocationHandler() {
         super();
@@ -33,16 +33,16 @@ class PreallocationHandler implements SequencingLogInOut {
      * Returns the Queue of sequences from the global sequences for the seqName.
      * If there is not one, a new empty Queue is registered.
      * This queue is thread-safe, and threads can concurrent poll the queue to remove the first element.
+     * Values are stored as ranges, so polling only increments the range's counter.
+     * @see SequenceRangeQueue
      */
     public Queue getPreallocated(String sequenceName) {
         Queue sequences = preallocatedSequences.get(sequenceName);
         if (sequences == null) {
-            synchronized (preallocatedSequences) {
-                sequences = preallocatedSequences.get(sequenceName);
-                if (sequences == null) {
-                    sequences = new ConcurrentLinkedQueue();
-                    preallocatedSequences.put(sequenceName, sequences);
-                }
+            sequences = new SequenceRangeQueue();
+            Queue existing = preallocatedSequences.putIfAbsent(sequenceName, sequences);
+            if (existing != null) {
+                sequences = existing;
             }
         }
         return sequences;
@@ -67,7 +67,7 @@ class PreallocationHandler implements SequencingLogInOut {
      * but so handy for testing.
      */
     public void initializePreallocated() {
-        preallocatedSequences = new ConcurrentHashMap(20);
+        preallocatedSequences = new ConcurrentHashMap<String, Queue>(20);
     }
 
     /**
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sequencing;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The preallocated values of a sequence, stored as ranges.
+ * A block of consecutive Long values is stored as its first value and size, other values are stored as an array.
+ * A value is removed by incrementing the counter of the first range that has values left,
+ * so polling does not lock, or allocate anything other than the returned value.
+ * Ranges are only added when a block is allocated, this is synchronized.
+ * @see PreallocationHandler
+ */
+class SequenceRangeQueue extends AbstractQueue {
+
+    /** The first range that may have values left, this is an empty range if values were never added. */
+    protected final AtomicReference<Range> head;
+
+    /** The last range added, only accessed when synchronized. */
+    protected Range tail;
+
+    public SequenceRangeQueue() {
+        Range empty = new Range(0, null, 0);
+        this.head = new AtomicReference<Range>(empty);
+        this.tail = empty;
+    }
+
+    /**
+     * Remove and return the next value, or null if there are no values left.
+     */
+    public Object poll() {
+        Range range = this.head.get();
+        while (true) {
+            // Check first so an empty range's index is not incremented by every poll.
+            if (range.next.get() < range.size) {
+                int index = range.next.getAndIncrement();
+                if (index < range.size) {
+                    return range.get(index);
+                }
+            }
+            Range next = range.nextRange;
+            if (next == null) {
+                return null;
+            }
+            // Another thread may have already moved the head past this range.
+            this.head.compareAndSet(range, next);
+            range = next;
+        }
+    }
+
+    public Object peek() {
+        Range range = this.head.get();
+        while (range != null) {
+            int index = range.next.get();
+            if (index < range.size) {
+                return range.get(index);
+            }
+            range = range.nextRange;
+        }
+        return null;
+    }
+
+    public boolean offer(Object value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        if (value instanceof Long) {
+            append(new Range((Long)value, null, 1));
+        } else {
+            append(new Range(0, new Object[] {value}, 1));
+        }
+        return true;
+    }
+
+    /**
+     * Add the values as a single range.
+     * If the values are consecutive Longs only the first value is stored.
+     */
+    public boolean addAll(Collection values) {
+        int size = values.size();
+        if (size == 0) {
+            return false;
+        }
+        Object[] array = values.toArray();
+        for (Object value : array) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+        }
+        if (isConsecutive(array)) {
+            append(new Range((Long)array[0], null, size));
+        } else {
+            append(new Range(0, array, size));
+        }
+        return true;
+    }
+
+    /**
+     * Return if the values are Longs each one more than the previous.
+     */
+    protected static boolean isConsecutive(Object[] values) {
+        if (!(values[0] instanceof Long)) {
+            return false;
+        }
+        long expected = (Long)values[0];
+        for (Object value : values) {
+            if (!(value instanceof Long) || ((Long)value != expected)) {
+                return false;
+            }
+            expected++;
+        }
+        return true;
+    }
+
+    protected synchronized void append(Range range) {
+        this.tail.nextRange = range;
+        this.tail = range;
+    }
+
+    /**
+     * Return the number of values left.
+     * This is only an estimate when values are concurrently removed.
+     */
+    public int size() {
+        int size = 0;
+        Range range = this.head.get();
+        while (range != null) {
+            size += Math.max(range.size - range.next.get(), 0);
+            range = range.nextRange;
+        }
+        return size;
+    }
+
+    /**
+     * Return a weakly consistent iterator over the values left, it does not support remove.
+     */
+    public Iterator iterator() {
+        List<Object> values = new ArrayList<Object>();
+        Range range = this.head.get();
+        while (range != null) {
+            for (int index = range.next.get(); index < range.size; index++) {
+                values.add(range.get(index));
+            }
+            range = range.nextRange;
+        }
+        return Collections.unmodifiableList(values).iterator();
+    }
+
+    /**
+     * A range of values, and the index of the next value to remove.
+     * The index may be incremented past the size by threads concurrently removing the last values.
+     */
+    protected static class Range {
+        protected final long first;
+        protected final Object[] values;
+        protected final int size;
+        protected final AtomicInteger next;
+        protected volatile Range nextRange;
+
+        protected Range(long first, Object[] values, int size) {
+            this.first = first;
+            this.values = values;
+            this.size = size;
+            this.next = new AtomicInteger();
+        }
+
+        protected Object get(int index) {
+            if (this.values == null) {
+                return Long.valueOf(this.first + index);
+            }
+            return this.values[index];
+        }
+    }
+}
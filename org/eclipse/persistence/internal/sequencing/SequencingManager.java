@@ -21,6 +21,8 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.MultitenantPolicy;
@@ -117,7 +119,7 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private static final int PREALLOCATION_TRANSACTION_ACCESSOR = 3;
     private static final int NUMBER_OF_STATES = 4;
     private State[] states;
-    private Map<String, ConcurrencyManager> locks;
+    private ConcurrentMap<String, ConcurrencyManager> locks;
     private SequencingCallbackFactory callbackFactory;
     private SequencingServer server;
     private Sequencing seq;
@@ -128,6 +130,13 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private int initialPoolSize = -1;
     private ConnectionPool connectionPool;
 
+    /** The maximum preallocation size of a prefetched table sequence, as a multiple of its preallocation size. */
+    static final int MAX_PREFETCH_FACTOR = 16;
+    /** The time a prefetched block of a table sequence is sized to last. */
+    static final long PREFETCH_TARGET_MILLIS = 1000;
+    private boolean shouldPrefetch;
+    private ConcurrentMap<String, Prefetch> prefetches = new ConcurrentHashMap<String, Prefetch>();
+
     public SequencingManager(DatabaseSessionImpl ownerSession) {
         this.ownerSession = ownerSession;
     }
@@ -280,6 +289,7 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     }
 
     public void initializePreallocated() {
+        this.prefetches.clear();
         if (preallocationHandler != null) {
             for (PreallocationHandler handler : preallocationHandler.values()) {
                 handler.initializePreallocated();
@@ -288,6 +298,7 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     }
 
     public void initializePreallocated(String seqName) {
+        this.prefetches.remove(seqName);
         if (preallocationHandler != null) {
             for (PreallocationHandler handler : preallocationHandler.values()) {
                 handler.initializePreallocated(seqName);
@@ -295,11 +306,11 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
         }
     }
 
-    protected void setLocks(Map locks) {
+    protected void setLocks(ConcurrentMap<String, ConcurrencyManager> locks) {
         this.locks = locks;
     }
 
-    protected Map<String, ConcurrencyManager> getLocks() {
+    protected ConcurrentMap<String, ConcurrencyManager> getLocks() {
         return locks;
     }
 
@@ -310,18 +321,59 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     protected ConcurrencyManager acquireLock(String sequenceName) {
         ConcurrencyManager manager = getLocks().get(sequenceName);
         if (manager == null) {
-            synchronized (getLocks()) {
-                manager = getLocks().get(sequenceName);
-                if (manager == null) {
-                    manager = new ConcurrencyManager();
-                    getLocks().put(sequenceName, manager);
-                }
+            manager = new ConcurrencyManager();
+            ConcurrencyManager existing = getLocks().putIfAbsent(sequenceName, manager);
+            if (existing != null) {
+                manager = existing;
             }
         }
         manager.acquire();
         return manager;
     }
 
+    public boolean shouldPrefetch() {
+        return shouldPrefetch;
+    }
+
+    public void setShouldPrefetch(boolean shouldPrefetch) {
+        this.shouldPrefetch = shouldPrefetch;
+    }
+
+    /**
+     * Return the prefetch state of the sequence, or null if the sequence's values are not prefetched.
+     * Values are only prefetched in the default context, as the background allocation uses the owner session.
+     */
+    protected Prefetch getPrefetch(Sequence sequence, String context, PreallocationHandler handler, State state) {
+        if (!this.shouldPrefetch || !"default".equals(context)) {
+            return null;
+        }
+        Prefetch prefetch = this.prefetches.get(sequence.getName());
+        if (prefetch == null) {
+            prefetch = new Prefetch(sequence, handler, state);
+            Prefetch existing = this.prefetches.putIfAbsent(sequence.getName(), prefetch);
+            if (existing != null) {
+                prefetch = existing;
+            }
+        }
+        return prefetch;
+    }
+
+    /**
+     * Allocate the next block of the sequence in the background if the value is the low watermark of the current block.
+     */
+    protected void prefetchIfLow(Prefetch prefetch, Object sequenceValue) {
+        if ((prefetch != null) && sequenceValue.equals(prefetch.lowWatermark) && prefetch.isScheduled.compareAndSet(false, true)) {
+            prefetch.trigger = sequenceValue;
+            prefetch.resize();
+            try {
+                getOwnerSession().getServerPlatform().launchContainerRunnable(prefetch);
+            } catch (RuntimeException exception) {
+                prefetch.isScheduled.set(false);
+                throw exception;
+            }
+        }
+    }
+
     protected Sequence getSequence(Class cls) {
         //** should check here that sequencing is used?
         String seqName = getOwnerSession().getDescriptor(cls).getSequenceNumberName();
@@ -346,6 +398,14 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     static abstract class State {
         abstract Object getNextValue(Sequence sequence, AbstractSession writeSession);
 
+        /**
+         * Allocate a block of size sequence values using the owner session, for a prefetch.
+         * Return null if this state must allocate in the writeSession.
+         */
+        Vector prefetchGeneratedVector(Sequence sequence, int size) {
+            return null;
+        }
+
         SequencingCallbackFactory getSequencingCallbackFactory() {
             return null;
         }
@@ -575,11 +635,14 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
+                Prefetch prefetch = getPrefetch(sequence, context, handler, this);
                 Queue sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    prefetchIfLow(prefetch, sequenceValue);
                     return sequenceValue;
                 }
                 // Sequences are empty, so must lock and allocate next batch of sequences.
@@ -589,32 +652,16 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
                     if (sequenceValue != null) {
                         return sequenceValue;
                     }
-                    // note that accessor.getLogin().shouldUseExternalTransactionController()
-                    // should be set to false
-                    Accessor accessor = getConnectionHandler().acquireAccessor();
-                    try {
-                        accessor.beginTransaction(writeSession);
-                        try {
-                            Vector sequences = sequence.getGeneratedVector(accessor, writeSession);
-                            accessor.commitTransaction(writeSession);
-                            // Remove the first value before adding to the global cache to ensure this thread gets one.
-                            sequenceValue = sequences.remove(0);
-                            // copy remaining values to global cache.
-                            handler.setPreallocated(seqName, sequences);
-                            logDebugPreallocation(seqName, sequenceValue, sequences);
-                        } catch (RuntimeException ex) {
-                            try {
-                                // make sure to rollback the transaction we've begun
-                                accessor.rollbackTransaction(writeSession);
-                            } catch (Exception rollbackException) {
-                                // ignore rollback exception
-                            }
-                            // don't eat the original exception
-                            throw ex;
-                        }
-                    } finally {
-                        getConnectionHandler().releaseAccessor(accessor);
+                    int size = (prefetch == null) ? sequence.getPreallocationSize() : prefetch.size;
+                    Vector sequences = getGeneratedVector(sequence, writeSession, size);
+                    // Remove the first value before adding to the global cache to ensure this thread gets one.
+                    sequenceValue = sequences.remove(0);
+                    if (prefetch != null) {
+                        prefetch.onAllocated(sequences);
                     }
+                    // copy remaining values to global cache.
+                    handler.setPreallocated(seqName, sequences);
+                    logDebugPreallocation(seqName, sequenceValue, sequences);
                 } finally {
                     lock.release();
                 }
@@ -645,6 +692,38 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
                 }
             }
         }
+
+        /**
+         * Allocate size sequence values in their own transaction on a sequencing connection.
+         */
+        Vector getGeneratedVector(Sequence sequence, AbstractSession writeSession, int size) {
+            // note that accessor.getLogin().shouldUseExternalTransactionController()
+            // should be set to false
+            Accessor accessor = getConnectionHandler().acquireAccessor();
+            try {
+                accessor.beginTransaction(writeSession);
+                try {
+                    Vector sequences = sequence.getGeneratedVector(accessor, writeSession, sequence.getName(), size);
+                    accessor.commitTransaction(writeSession);
+                    return sequences;
+                } catch (RuntimeException ex) {
+                    try {
+                        // make sure to rollback the transaction we've begun
+                        accessor.rollbackTransaction(writeSession);
+                    } catch (Exception rollbackException) {
+                        // ignore rollback exception
+                    }
+                    // don't eat the original exception
+                    throw ex;
+                }
+            } finally {
+                getConnectionHandler().releaseAccessor(accessor);
+            }
+        }
+
+        Vector prefetchGeneratedVector(Sequence sequence, int size) {
+            return getGeneratedVector(sequence, getOwnerSession(), size);
+        }
     }
 
     /**
@@ -656,11 +735,15 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
+                // The background allocation uses the owner session, this is only concurrent in a ServerSession.
+                Prefetch prefetch = getOwnerSession().isServerSession() ? getPrefetch(sequence, context, handler, this) : null;
                 Queue sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    prefetchIfLow(prefetch, sequenceValue);
                     return sequenceValue;
                 }
                 // Sequences are empty, so must lock and allocate next batch of sequences.
@@ -673,6 +756,9 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
                     Vector sequences = sequence.getGeneratedVector(null, writeSession);
                     // Remove the first value before adding to the global cache to ensure this thread gets one.
                     sequenceValue = sequences.remove(0);
+                    if (prefetch != null) {
+                        prefetch.onAllocated(sequences);
+                    }
                     // copy remaining values to global cache.
                     handler.setPreallocated(seqName, sequences);
                     logDebugPreallocation(seqName, sequenceValue, sequences);
@@ -685,6 +771,114 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
                 return sequence.getGeneratedVector(null, writeSession).firstElement();
             }
         }
+
+        Vector prefetchGeneratedVector(Sequence sequence, int size) {
+            // The increment of a sequence object is fixed, so its size cannot change.
+            return sequence.getGeneratedVector(null, getOwnerSession());
+        }
+    }
+
+    /**
+     * The prefetch state of a sequence in the default context.
+     * The value a quarter of the way from the end of the last allocated block is the low watermark,
+     * when it is allocated the next block is allocated in the background.
+     * The size of the next block of a table sequence is based on the rate the last block was used.
+     */
+    class Prefetch implements Runnable {
+        final Sequence sequence;
+        final PreallocationHandler handler;
+        final State state;
+        /** If the size of a block can change, only table sequences allocate any size. */
+        final boolean isResizable;
+        final AtomicBoolean isScheduled = new AtomicBoolean();
+        /** The size of the next block. */
+        volatile int size;
+        volatile Object lowWatermark;
+        /** The low watermark that scheduled the prefetch, if the watermark changed before it runs the values were already allocated. */
+        volatile Object trigger;
+        /** The number of values allocated from the last block when the low watermark is reached, and when the block was allocated. */
+        volatile int usedAtLowWatermark;
+        volatile long allocatedTime;
+
+        Prefetch(Sequence sequence, PreallocationHandler handler, State state) {
+            this.sequence = sequence;
+            this.handler = handler;
+            this.state = state;
+            this.size = sequence.getPreallocationSize();
+            Sequence definition = sequence;
+            if (sequence instanceof DefaultSequence) {
+                definition = ((DefaultSequence)sequence).getDefaultSequence();
+            }
+            this.isResizable = definition.isTable() || definition.isUnaryTable();
+        }
+
+        /**
+         * Record the block of values about to be added to the preallocated values, the first value was already removed.
+         * Callers must hold the sequence's lock.
+         */
+        void onAllocated(Vector sequences) {
+            int remaining = sequences.size();
+            if (remaining == 0) {
+                this.lowWatermark = null;
+                return;
+            }
+            int index = remaining - 1 - (remaining / 4);
+            this.usedAtLowWatermark = index + 2;
+            this.allocatedTime = System.currentTimeMillis();
+            this.lowWatermark = sequences.get(index);
+        }
+
+        /**
+         * Size the next block of a table sequence to last about PREFETCH_TARGET_MILLIS at the rate the last block was used.
+         * Other sequences, such as sequence objects, must allocate their preallocation size.
+         */
+        void resize() {
+            if (!this.isResizable) {
+                return;
+            }
+            int preallocationSize = this.sequence.getPreallocationSize();
+            long elapsed = Math.max(System.currentTimeMillis() - this.allocatedTime, 1);
+            long size = (this.usedAtLowWatermark * PREFETCH_TARGET_MILLIS) / elapsed;
+            // Round up to a multiple of the preallocation size.
+            size = ((size + preallocationSize - 1) / preallocationSize) * preallocationSize;
+            this.size = (int)Math.max(preallocationSize, Math.min(size, (long)preallocationSize * MAX_PREFETCH_FACTOR));
+        }
+
+        public void run() {
+            String seqName = this.sequence.getName();
+            try {
+                if (!isConnected()) {
+                    return;
+                }
+                ConcurrencyManager lock = acquireLock(seqName);
+                try {
+                    // The values ran out and were allocated by an inserting thread first.
+                    // The values are compared by equality, as the dispensed values are boxed when polled.
+                    Object lowWatermark = this.lowWatermark;
+                    if ((lowWatermark == null) || !lowWatermark.equals(this.trigger)) {
+                        return;
+                    }
+                    Vector sequences = this.state.prefetchGeneratedVector(this.sequence, this.size);
+                    if ((sequences == null) || sequences.isEmpty()) {
+                        return;
+                    }
+                    Object sequenceValue = sequences.firstElement();
+                    onAllocated(sequences);
+                    this.handler.setPreallocated(seqName, sequences);
+                    if (getOwnerSession().shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
+                        Object[] args = { seqName, Integer.valueOf(sequences.size()), sequenceValue, sequences.lastElement() };
+                        getOwnerSession().log(SessionLog.FINEST, SessionLog.SEQUENCING, "sequencing_preallocation", args);
+                    }
+                } finally {
+                    lock.release();
+                }
+            } catch (RuntimeException exception) {
+                // The inserting threads allocate the values themselves when they run out.
+                getOwnerSession().logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+            } finally {
+                this.isScheduled.set(false);
+            }
+        }
     }
 
     /**
@@ -834,7 +1028,7 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
         }
         // In AddDescriptors case locks may have been already created
         if (atLeastOneSequenceShouldUsePreallocation && getLocks() == null) {
-            setLocks(new ConcurrentHashMap(20));
+            setLocks(new ConcurrentHashMap<String, ConcurrencyManager>(20));
         }
         // In AddDescriptors case the factory may have been already created and listeners initialized.
         boolean hasSequencingCallbackFactory = isSequencingCallbackRequired();
@@ -866,6 +1060,7 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
             getOwnerSession().getExternalTransactionController().clearSequencingListeners();
         }
         setLocks(null);
+        this.prefetches.clear();
         clearStates();
 
         if (getConnectionHandler() != null) {
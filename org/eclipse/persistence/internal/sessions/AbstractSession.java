@@ -2863,16 +2863,12 @@ public abstract class AbstractSession extends CoreAbstractSession<ClassDescripto
                cacheKey.acquireDeferredLock();
                original = cacheKey.getObject();
                if (original == null) {
-                   synchronized (cacheKey) {
-                       if (cacheKey.isAcquired()) {
-                           try {
-                               cacheKey.wait();
-                           } catch (InterruptedException e) {
-                               //ignore and return
-                           }
-                       }
-                       original = cacheKey.getObject();
+                   try {
+                       cacheKey.waitForRelease(0);
+                   } catch (InterruptedException e) {
+                       //ignore and return
                    }
+                   original = cacheKey.getObject();
                }
                cacheKey.releaseDeferredLock();
            }
@@ -23,11 +23,16 @@ import org.eclipse.persistence.internal.helper.DatabaseField;
 /**
  * PERF: Optimized record implementation using arrays instead of Vector.
  * Currently only used when fetch rows from the database.
+ * The rows of a result share the fields, and if built with a field index, find the value of a field through the index
+ * instead of searching the fields.
  */
 public class ArrayRecord extends DatabaseRecord {
     protected DatabaseField[] fieldsArray;
     protected Object[] valuesArray;
 
+    /** The index of the fields shared by the result's rows, null if the fields are searched. */
+    protected DatabaseFieldIndex fieldIndex;
+
     protected ArrayRecord() {
         super();
     }
@@ -38,6 +43,42 @@ public class ArrayRecord extends DatabaseRecord {
         this.valuesArray = valuesArray;
     }
 
+    public ArrayRecord(DatabaseFieldIndex fieldIndex, Object[] valuesArray) {
+        super(fieldIndex.getFields(), null, valuesArray.length);
+        this.fieldsArray = fieldIndex.getFieldsArray();
+        this.valuesArray = valuesArray;
+        this.fieldIndex = fieldIndex;
+    }
+
+    /**
+     * Return the index of the field in the arrays, or -1 if the row does not contain the field.
+     * The arrays must be set.
+     */
+    protected int indexOf(DatabaseField key) {
+        if (this.fieldIndex != null) {
+            return this.fieldIndex.indexOf(key);
+        }
+        // Optimize check.
+        int index = key.index;
+        if ((index >= 0) && (index < this.size)) {
+            DatabaseField field = this.fieldsArray[index];
+            if ((field == key) || field.equals(key)) {
+                return index;
+            }
+        }
+        for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
+            DatabaseField field = this.fieldsArray[fieldIndex];
+            if ((field == key) || field.equals(key)) {
+                // PERF: If the fields index was not set, then set it.
+                if (index == -1) {
+                    key.setIndex(fieldIndex);
+                }
+                return fieldIndex;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Reset the fields and values from the arrays.
      * This removes the optimization if a non-optimized method is called.
@@ -60,6 +101,7 @@ public class ArrayRecord extends DatabaseRecord {
         checkValues();
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldIndex = null;
         super.add(key, value);
     }
 
@@ -70,6 +112,7 @@ public class ArrayRecord extends DatabaseRecord {
     public void clear() {
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldIndex = null;
         super.clear();
     }
 
@@ -88,20 +131,7 @@ public class ArrayRecord extends DatabaseRecord {
      */
     public boolean containsKey(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return true;
-                }
-            }
-            for (DatabaseField field : this.fieldsArray) {
-                if ((field == key) || field.equals(key)) {
-                    return true;
-                }
-            }
-            return false;
+            return indexOf(key) != -1;
         } else {
             return super.containsKey(key);
         }
@@ -130,25 +160,11 @@ public class ArrayRecord extends DatabaseRecord {
      */
     public Object get(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return this.valuesArray[index];
-                }
+            int index = indexOf(key);
+            if (index == -1) {
+                return null;
             }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    // PERF: If the fields index was not set, then set it.
-                    if (index == -1) {
-                        key.setIndex(fieldIndex);
-                    }
-                    return this.valuesArray[fieldIndex];
-                }
-            }
-            return null;
+            return this.valuesArray[index];
         } else {
             return super.get(key);
         }
@@ -160,25 +176,11 @@ public class ArrayRecord extends DatabaseRecord {
      */
     public Object getIndicatingNoEntry(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return this.valuesArray[index];
-                }
+            int index = indexOf(key);
+            if (index == -1) {
+                return AbstractRecord.noEntry;
             }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    // PERF: If the fields index was not set, then set it.
-                    if (index == -1) {
-                        key.setIndex(fieldIndex);
-                    }
-                    return this.valuesArray[fieldIndex];
-                }
-            }
-            return AbstractRecord.noEntry;
+            return this.valuesArray[index];
         } else {
             return super.get(key);
         }
@@ -190,26 +192,34 @@ public class ArrayRecord extends DatabaseRecord {
      */
     public DatabaseField getField(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return field;
-                }
+            int index = indexOf(key);
+            if (index == -1) {
+                return null;
             }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    return field;
-                }
-            }
-            return null;
+            return this.fieldsArray[index];
         } else {
             return super.getField(key);
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the index of the fields shared by the result's rows,
+     * or null if the row has no index or no longer stores its values in the array.
+     */
+    public DatabaseFieldIndex getFieldIndex() {
+        return this.fieldIndex;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the value at the index of the field in the row's field index.
+     * The row must have a field index.
+     */
+    public Object getValueAtIndex(int index) {
+        return this.valuesArray[index];
+    }
+
     /**
      * INTERNAL:
      */
@@ -234,6 +244,7 @@ public class ArrayRecord extends DatabaseRecord {
         checkValues();
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldIndex = null;
         return super.put(key, value);
     }
 
@@ -245,6 +256,7 @@ public class ArrayRecord extends DatabaseRecord {
         checkValues();
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldIndex = null;
         return super.remove(key);
     }
 
@@ -266,25 +278,9 @@ public class ArrayRecord extends DatabaseRecord {
      */
     public void replaceAt(Object value, DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    this.valuesArray[index] = value;
-                    return;
-                }
-            }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    // PERF: If the fields index was not set, then set it.
-                    if (index == -1) {
-                        key.setIndex(fieldIndex);
-                    }
-                    this.valuesArray[fieldIndex] = value;
-                    return;
-                }
+            int index = indexOf(key);
+            if (index != -1) {
+                this.valuesArray[index] = value;
             }
         } else {
             super.replaceAt(value, key);
@@ -295,6 +291,7 @@ public class ArrayRecord extends DatabaseRecord {
         checkValues();
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldIndex = null;
         super.setFields(fields);
     }
 
@@ -302,6 +299,7 @@ public class ArrayRecord extends DatabaseRecord {
         checkValues();
         this.fieldsArray = null;
         this.valuesArray = null;
+        this.fieldIndex = null;
         super.setValues(values);
     }
 
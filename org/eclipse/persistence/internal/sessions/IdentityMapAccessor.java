@@ -892,6 +892,9 @@ public class IdentityMapAccessor implements org.eclipse.persistence.sessions.Ide
                 key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
             }
         }
+        if ((identityMap instanceof FullIdentityMap) && (((FullIdentityMap)identityMap).getOffHeapCache() != null)) {
+            ((FullIdentityMap)identityMap).getOffHeapCache().clear();
+        }
         invalidateQueryCache(myClass);
         if (session.getProject().allowExtendedCacheLogging()) {
             session.log(SessionLog.FINEST, SessionLog.CACHE, "cache_class_invalidation", new Object[] {myClass, Thread.currentThread().getId(), Thread.currentThread().getName()});
@@ -551,16 +551,12 @@ public class ObjectChangeSet implements Serializable, Comparable<ObjectChangeSet
                         session.getParent().log(SessionLog.SEVERE, SessionLog.CACHE, "entity_not_available_during_merge", new Object[]{descriptor.getJavaClassName(), cacheKey.getKey(), Thread.currentThread().getName(), cacheKey.getActiveThread()});
                         break;
                     }
-                    synchronized (cacheKey) {
-                        if (cacheKey.isAcquired()) {
-                            try {
-                                cacheKey.wait(10);
-                            } catch (InterruptedException e) {
-                                //ignore and return
-                            }
-                        }
-                        domainObject = cacheKey.getObject();
+                    try {
+                        cacheKey.waitForRelease(10);
+                    } catch (InterruptedException e) {
+                        //ignore and return
                     }
+                    domainObject = cacheKey.getObject();
                 }
                 cacheKey.releaseDeferredLock();
             }
@@ -632,6 +632,7 @@ public class PropertiesHandler {
                 {CacheType.SoftWeak, pcg + "SoftCacheWeakIdentityMap"},
                 {CacheType.HardWeak, pcg + "HardCacheWeakIdentityMap"},
                 {CacheType.Full, pcg + "FullIdentityMap"},
+                {CacheType.ConcurrentCache, pcg + "ConcurrentCacheIdentityMap"},
                 {CacheType.NONE, pcg + "NoIdentityMap"}
             };
         }
@@ -661,7 +662,9 @@ public class PropertiesHandler {
                 BatchWriting.None,
                 BatchWriting.JDBC,
                 BatchWriting.Buffered,
-                BatchWriting.OracleJDBC
+                BatchWriting.OracleJDBC,
+                BatchWriting.Pipelined,
+                BatchWriting.MultiRowInsert
             };
         }
     }
@@ -171,19 +171,17 @@ public class UnitOfWorkIdentityMapAccessor extends IdentityMapAccessor {
         // in which GC could remove the object and we would end up with a null pointer
         // as well we must inspect the cacheKey without locking on it.
         if ((cacheKey != null) && (shouldReturnInvalidatedObjects || !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey))) {
-            synchronized (cacheKey) {
-                //if the object in the cachekey is null but the key is acquired then
-                //someone must be rebuilding it or creating a new one.  Sleep until
-                // it's finished. A plain wait here would be more efficient but we may not
-                // get notified for quite some time (ie deadlock) if the other thread
-                //is building the object.  Must wait and not sleep in order for the monitor to be released
-                objectFromCache = cacheKey.getObject();
-                try {
-                    while (cacheKey.isAcquired() && (objectFromCache == null)) {
-                        cacheKey.wait(5);
-                    }
-                } catch (InterruptedException ex) {
+            //if the object in the cachekey is null but the key is acquired then
+            //someone must be rebuilding it or creating a new one.  Sleep until
+            // it's finished. A plain wait here would be more efficient but we may not
+            // get notified for quite some time (ie deadlock) if the other thread
+            //is building the object.  Wait for the release in slices of 5ms.
+            objectFromCache = cacheKey.getObject();
+            try {
+                while (cacheKey.isAcquired() && (objectFromCache == null)) {
+                    cacheKey.waitForRelease(5);
                 }
+            } catch (InterruptedException ex) {
             }
 
             // check for inheritance.
@@ -79,6 +79,7 @@ import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.IdentityHashSet;
 import org.eclipse.persistence.internal.helper.IdentityWeakHashMap;
+import org.eclipse.persistence.internal.helper.type.ConcurrencyManagerDiagnostics;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
@@ -4095,9 +4096,11 @@ public class UnitOfWorkImpl extends AbstractSession implements org.eclipse.persi
             } else {
                 log(SessionLog.FINEST, SessionLog.CACHE, "cache_miss", new Object[] {objectToRegister.getClass(), objectToRegisterId});
             }
-            if (cacheKey != null && currentThread.hashCode() != cacheKey.CREATION_THREAD_HASHCODE) {
+            // The creation thread is only tracked by cache keys created while the dead-lock diagnostic was enabled.
+            ConcurrencyManagerDiagnostics diagnostics = (cacheKey == null) ? null : cacheKey.getDiagnostics();
+            if (diagnostics != null && currentThread.hashCode() != diagnostics.getCreationThreadHashCode()) {
                 log(SessionLog.FINEST, SessionLog.CACHE, "cache_thread_info", new Object[]{objectToRegister.getClass(), objectToRegisterId,
-                        cacheKey.CREATION_THREAD_ID, cacheKey.CREATION_THREAD_NAME,
+                        diagnostics.getCreationThreadId(), diagnostics.getCreationThreadName(),
                         currentThread.getId(), currentThread.getName()});
             }
         }
@@ -112,6 +112,7 @@ import org.eclipse.persistence.sessions.coordination.jms.JMSTopicTransportManage
 import org.eclipse.persistence.sessions.coordination.rmi.RMITransportManager;
 import org.eclipse.persistence.sessions.factories.XMLProjectReader;
 import org.eclipse.persistence.sessions.server.ConnectionPolicy;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ReadConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
@@ -720,7 +721,8 @@ public class SessionsFactory {
      * Build a connection pool from the config to store on the server session.
      */
     protected ConnectionPool buildConnectionPoolConfig(ConnectionPoolConfig poolConfig, ServerSession serverSession) {
-        ConnectionPool connectionPool = new ConnectionPool();
+        // Concurrent tag - XML Schema default is false
+        ConnectionPool connectionPool = (poolConfig.getConcurrent()) ? new ConcurrentConnectionPool() : new ConnectionPool();
 
         // Process the common elements in ConnectionPool
         processConnectionPoolConfig(poolConfig, connectionPool, serverSession);
@@ -768,7 +770,15 @@ public class SessionsFactory {
      */
     protected ConnectionPool buildReadConnectionPoolConfig(ReadConnectionPoolConfig poolConfig, ServerSession serverSession) {
         // Exclusive tag - XML Schema default is false
-        ConnectionPool connectionPool = (poolConfig.getExclusive()) ? new ConnectionPool() : new ReadConnectionPool();
+        // Concurrent tag - XML Schema default is false, only used for exclusive read connections
+        ConnectionPool connectionPool = null;
+        if (!poolConfig.getExclusive()) {
+            connectionPool = new ReadConnectionPool();
+        } else if (poolConfig.getConcurrent()) {
+            connectionPool = new ConcurrentConnectionPool();
+        } else {
+            connectionPool = new ConnectionPool();
+        }
 
         // Process the common elements in ConnectionPool
         processConnectionPoolConfig(poolConfig, connectionPool, serverSession);
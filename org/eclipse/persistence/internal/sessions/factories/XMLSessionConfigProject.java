@@ -133,6 +133,7 @@ public class XMLSessionConfigProject extends org.eclipse.persistence.sessions.Pr
     public static final boolean EXTERNAL_CONNECTION_POOL_DEFAULT = false;
     public static final boolean EXTERNAL_TRANSACTION_CONTROLLER_DEFAULT = false;
     public static final boolean EXCLUSIVE_DEFAULT = true;
+    public static final boolean CONCURRENT_CONNECTION_POOL_DEFAULT = false;
     public static final int SEQUENCE_PREALLOCATION_SIZE_DEFAULT = 50;
     public static final int MAX_BATCH_WRITING_SIZE_DEFAULT = 32000;
     public static final int MULTICAST_PORT_DEFAULT = 3121;
@@ -319,6 +320,14 @@ public class XMLSessionConfigProject extends org.eclipse.persistence.sessions.Pr
         loginConfigMapping.setXPath("login");
         descriptor.addMapping(loginConfigMapping);
 
+        XMLDirectMapping concurrentMapping = new XMLDirectMapping();
+        concurrentMapping.setAttributeName("m_concurrent");
+        concurrentMapping.setGetMethodName("getConcurrent");
+        concurrentMapping.setSetMethodName("setConcurrent");
+        concurrentMapping.setXPath("concurrent/text()");
+        concurrentMapping.setNullValue(Boolean.valueOf(CONCURRENT_CONNECTION_POOL_DEFAULT));
+        descriptor.addMapping(concurrentMapping);
+
         return descriptor;
     }
 
@@ -1141,6 +1150,14 @@ public class XMLSessionConfigProject extends org.eclipse.persistence.sessions.Pr
         loginConfigMapping.setXPath("login");
         descriptor.addMapping(loginConfigMapping);
 
+        XMLDirectMapping concurrentMapping = new XMLDirectMapping();
+        concurrentMapping.setAttributeName("m_concurrent");
+        concurrentMapping.setGetMethodName("getConcurrent");
+        concurrentMapping.setSetMethodName("setConcurrent");
+        concurrentMapping.setXPath("concurrent/text()");
+        concurrentMapping.setNullValue(Boolean.valueOf(CONCURRENT_CONNECTION_POOL_DEFAULT));
+        descriptor.addMapping(concurrentMapping);
+
         XMLDirectMapping exclusiveMapping = new XMLDirectMapping();
         exclusiveMapping.setAttributeName("m_exclusive");
         exclusiveMapping.setGetMethodName("getExclusive");
@@ -24,6 +24,7 @@ public class ConnectionPoolConfig {
     private Integer m_maxConnections;
     private Integer m_minConnections;
     private LoginConfig m_loginConfig;
+    private boolean m_concurrent;
 
     public ConnectionPoolConfig() {
     }
@@ -59,4 +60,12 @@ public class ConnectionPoolConfig {
     public LoginConfig getLoginConfig() {
         return m_loginConfig;
     }
+
+    public void setConcurrent(boolean concurrent) {
+        m_concurrent = concurrent;
+    }
+
+    public boolean getConcurrent() {
+        return m_concurrent;
+    }
 }
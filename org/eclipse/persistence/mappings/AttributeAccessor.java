@@ -150,4 +150,40 @@ public abstract class AttributeAccessor implements CoreAttributeAccessor, Clonea
      */
     @Override
     public abstract void setAttributeValueInObject(Object object, Object value) throws DescriptorException;
+
+    /**
+     * INTERNAL:
+     * Set the value of a primitive long attribute into the object.
+     * By default the value is boxed, accessors that can set the primitive directly override this.
+     */
+    public void setLongAttributeValueInObject(Object object, long value) throws DescriptorException {
+        setAttributeValueInObject(object, Long.valueOf(value));
+    }
+
+    /**
+     * INTERNAL:
+     * Set the value of a primitive int attribute into the object.
+     * By default the value is boxed, accessors that can set the primitive directly override this.
+     */
+    public void setIntAttributeValueInObject(Object object, int value) throws DescriptorException {
+        setAttributeValueInObject(object, Integer.valueOf(value));
+    }
+
+    /**
+     * INTERNAL:
+     * Set the value of a primitive double attribute into the object.
+     * By default the value is boxed, accessors that can set the primitive directly override this.
+     */
+    public void setDoubleAttributeValueInObject(Object object, double value) throws DescriptorException {
+        setAttributeValueInObject(object, Double.valueOf(value));
+    }
+
+    /**
+     * INTERNAL:
+     * Set the value of a primitive boolean attribute into the object.
+     * By default the value is boxed, accessors that can set the primitive directly override this.
+     */
+    public void setBooleanAttributeValueInObject(Object object, boolean value) throws DescriptorException {
+        setAttributeValueInObject(object, Boolean.valueOf(value));
+    }
 }
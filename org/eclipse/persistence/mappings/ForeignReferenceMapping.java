@@ -68,6 +68,7 @@ import org.eclipse.persistence.internal.indirection.DatabaseValueHolder;
 import org.eclipse.persistence.internal.indirection.IndirectionPolicy;
 import org.eclipse.persistence.internal.indirection.NoIndirectionPolicy;
 import org.eclipse.persistence.internal.indirection.WeavedObjectBasicIndirectionPolicy;
+import org.eclipse.persistence.internal.queries.AdaptiveBatchFetchSize;
 import org.eclipse.persistence.internal.queries.AttributeItem;
 import org.eclipse.persistence.internal.queries.JoinedAttributeManager;
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
@@ -93,6 +94,7 @@ import org.eclipse.persistence.queries.ReadObjectQuery;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.ReportQuery;
 import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 
 /**
@@ -125,6 +127,9 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
      */
     protected BatchFetchType batchFetchType;
 
+    /** The IN batch size adapted to the accesses of the relationship, used by queries with an adaptive batch fetch policy. */
+    protected transient AdaptiveBatchFetchSize adaptiveBatchFetchSize;
+
     /** Implements indirection behavior */
     protected IndirectionPolicy indirectionPolicy;
 
@@ -375,6 +380,7 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
 
         clone.setIndirectionPolicy((IndirectionPolicy)indirectionPolicy.clone());
         clone.setSelectionQuery((ReadQuery)getSelectionQuery().clone());
+        clone.adaptiveBatchFetchSize = null;
 
         return clone;
     }
@@ -530,6 +536,12 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
     public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentCacheKey, AbstractRecord sourceRow, AbstractSession session, ObjectLevelReadQuery originalQuery) throws QueryException {
         Map<Object, Object> batchedObjects;
         Object result;
+        BatchFetchPolicy originalPolicy = originalQuery.getBatchFetchPolicy();
+        AdaptiveBatchFetchSize adaptiveSize = null;
+        if (originalPolicy.isAdaptive() && originalPolicy.isIN()) {
+            adaptiveSize = getAdaptiveBatchFetchSize();
+            adaptiveSize.instantiated();
+        }
         Object sourceKey = extractBatchKeyFromRow(sourceRow, session);
         if (sourceKey == null) {
             // If the foreign key was null, then just return null.
@@ -544,7 +556,6 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
         synchronized (batchQuery) {
             // Check if query was already executed.
             batchedObjects = batchQuery.getBatchObjects();
-            BatchFetchPolicy originalPolicy = originalQuery.getBatchFetchPolicy();
             if (batchedObjects == null) {
                 batchedObjects = new Hashtable<>();
                 batchQuery.setBatchObjects(batchedObjects);
@@ -568,7 +579,11 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
                 List<AbstractRecord> parentRows = originalPolicy.getDataResults(this);
                 // Execute queries by batch if too many rows.
                 int rowsSize = parentRows.size();
-                int size = Math.min(rowsSize, originalPolicy.getSize());
+                int batchSize = originalPolicy.getSize();
+                if (adaptiveSize != null) {
+                    batchSize = adaptBatchFetchSize(adaptiveSize, batchSize, session);
+                }
+                int size = Math.min(rowsSize, batchSize);
                 if (size == 0) {
                     return null;
                 }
@@ -638,6 +653,9 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
                     remainingParentRows = new ArrayList<>(parentRows.subList(offset + index, startIndex));
                 }
                 originalPolicy.setDataResults(this, remainingParentRows);
+                if (adaptiveSize != null) {
+                    adaptiveSize.batched(index);
+                }
                 translationRow = translationRow.clone();
                 translationRow.put(QUERY_BATCH_PARAMETER, foreignKeyValues);
                 // Register each id as null, in case it has no relationship.
@@ -658,6 +676,43 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the size of the next IN batch adapted to the accesses of the previous batches,
+     * recording any change in the session's profiler.
+     */
+    protected int adaptBatchFetchSize(AdaptiveBatchFetchSize adaptiveSize, int querySize, AbstractSession session) {
+        int previousSize = adaptiveSize.getSize();
+        int size = adaptiveSize.nextSize(querySize);
+        if (size != previousSize) {
+            if (previousSize != 0) {
+                session.incrementProfile((size > previousSize) ? SessionProfiler.BatchFetchSizeIncreases : SessionProfiler.BatchFetchSizeDecreases);
+            }
+            session.updateProfile(SessionProfiler.BatchFetchSize + this.descriptor.getAlias() + "." + getAttributeName(), Integer.valueOf(size));
+        }
+        return size;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the IN batch size adapted to the accesses of this relationship.
+     * This is used by queries with an adaptive batch fetch policy, and shared by all of the queries batch fetching the mapping.
+     * @see BatchFetchPolicy#isAdaptive()
+     */
+    public AdaptiveBatchFetchSize getAdaptiveBatchFetchSize() {
+        AdaptiveBatchFetchSize adaptiveSize = this.adaptiveBatchFetchSize;
+        if (adaptiveSize == null) {
+            synchronized (this) {
+                adaptiveSize = this.adaptiveBatchFetchSize;
+                if (adaptiveSize == null) {
+                    adaptiveSize = new AdaptiveBatchFetchSize();
+                    this.adaptiveBatchFetchSize = adaptiveSize;
+                }
+            }
+        }
+        return adaptiveSize;
+    }
+
     /**
      * INTERNAL:
      * Extract the batch key value from the source row.
@@ -859,6 +914,7 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
             batchQuery.setShouldPrepare(query.shouldPrepare());
         }
         batchQuery.setShouldOuterJoinSubclasses(query.shouldOuterJoinSubclasses());
+        batchQuery.setShouldPadINParameters(query.getShouldPadINParameters());
         //CR #4365
         batchQuery.setQueryId(query.getQueryId());
 
@@ -972,6 +1028,7 @@ public abstract class ForeignReferenceMapping extends DatabaseMapping {
 
         batchQuery.setBatchFetchType(batchType);
         batchQuery.setBatchFetchSize(query.getBatchFetchPolicy().getSize());
+        batchQuery.setIsBatchFetchAdaptive(query.getBatchFetchPolicy().isAdaptive());
         // Allow subclasses to further prepare.
         postPrepareNestedBatchQuery(batchQuery, query);
 
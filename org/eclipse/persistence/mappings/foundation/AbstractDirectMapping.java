@@ -26,6 +26,7 @@ import java.util.*;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.*;
@@ -85,6 +86,12 @@ public abstract class AbstractDirectMapping extends AbstractColumnMapping implem
     /** PERF: Avoid default null value conversion check if not default null value set in conversion manager. */
     protected boolean bypassDefaultNullValueCheck;
 
+    /**
+     * PERF: Indicates the attribute is a primitive long, int, double or boolean without a default null value,
+     * so can be read from the result-set and set in the object without boxing.
+     */
+    protected transient boolean isPrimitiveResultSetAccess;
+
     /**
      * PERF: Indicates if this mapping's attribute is a simple atomic value and cannot be modified, only replaced.
      * This is a tri-state to allow user to set to true or false, as default is false but
@@ -926,6 +933,11 @@ public abstract class AbstractDirectMapping extends AbstractColumnMapping implem
         Map nullValues = session.getPlatform(this.descriptor.getJavaClass()).getConversionManager().getDefaultNullValues();
         bypassDefaultNullValueCheck = (!this.attributeClassification.isPrimitive()) &&
                 ((nullValues == null) || (!nullValues.containsKey(this.attributeClassification)));
+        this.isPrimitiveResultSetAccess = ((this.attributeClassification == ClassConstants.PLONG)
+                || (this.attributeClassification == ClassConstants.PINT)
+                || (this.attributeClassification == ClassConstants.PDOUBLE)
+                || (this.attributeClassification == ClassConstants.PBOOLEAN))
+                && ((nullValues == null) || (!nullValues.containsKey(this.attributeClassification)));
     }
 
     /**
@@ -1235,6 +1247,53 @@ public abstract class AbstractDirectMapping extends AbstractColumnMapping implem
         return getObjectValue(fieldValue, session);
     }
 
+    /**
+     * INTERNAL:
+     * Extract the value directly from the result-set and set it in the object.
+     * PERF: A primitive long, int, double or boolean attribute without a converter or null value
+     * is read with the primitive result-set get and set without boxing or conversion, null is returned in this case.
+     * A null column is read as 0 or false, the same as converting null to the primitive.
+     * A boolean is only read this way from a boolean or integer column, as the driver's conversion of other columns
+     * (i.e. a CHAR 'Y') can differ from the conversion manager's.
+     */
+    @Override
+    public Object readFromResultSetIntoObject(ResultSet resultSet, Object targetObject, ObjectBuildingQuery query, AbstractSession session, DatabaseAccessor accessor, ResultSetMetaData metaData, int columnNumber, DatabasePlatform platform) throws SQLException {
+        if (this.isPrimitiveResultSetAccess && (this.converter == null) && (this.nullValue == null)) {
+            Class attributeClassification = this.attributeClassification;
+            if (attributeClassification == ClassConstants.PLONG) {
+                this.attributeAccessor.setLongAttributeValueInObject(targetObject, resultSet.getLong(columnNumber));
+                return null;
+            } else if (attributeClassification == ClassConstants.PINT) {
+                this.attributeAccessor.setIntAttributeValueInObject(targetObject, resultSet.getInt(columnNumber));
+                return null;
+            } else if (attributeClassification == ClassConstants.PDOUBLE) {
+                this.attributeAccessor.setDoubleAttributeValueInObject(targetObject, resultSet.getDouble(columnNumber));
+                return null;
+            } else if (session.getProject().allowConvertResultToBoolean() && isPrimitiveBooleanColumn(metaData, columnNumber)) {
+                this.attributeAccessor.setBooleanAttributeValueInObject(targetObject, resultSet.getBoolean(columnNumber));
+                return null;
+            }
+        }
+        return super.readFromResultSetIntoObject(resultSet, targetObject, query, session, accessor, metaData, columnNumber, platform);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the column is a boolean or integer type, that the result-set's getBoolean converts
+     * the same as the conversion manager.
+     * PERF: The column's JDBC type is cached in the field, the same as when the value is read as an object.
+     */
+    protected boolean isPrimitiveBooleanColumn(ResultSetMetaData metaData, int columnNumber) throws SQLException {
+        DatabaseField field = getField();
+        int type = field.sqlType;
+        if (type == DatabaseField.NULL_SQL_TYPE) {
+            type = metaData.getColumnType(columnNumber);
+            field.setSqlType(type);
+        }
+        return (type == Types.BOOLEAN) || (type == Types.BIT) || (type == Types.TINYINT)
+                || (type == Types.SMALLINT) || (type == Types.INTEGER);
+    }
+
     protected abstract void writeValueIntoRow(AbstractRecord row, DatabaseField field, Object value);
 
     /**
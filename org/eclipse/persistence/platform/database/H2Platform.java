@@ -141,6 +141,19 @@ public class H2Platform extends DatabasePlatform {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * INTERNAL: H2 supports comparing a value to any of the elements of a bound array, "= ANY (?)".
+     */
+    @Override
+    public boolean supportsINArrayParameters() {
+        return true;
+    }
+
     @Override
     public boolean supportsSequenceObjects() {
         return true;
@@ -566,6 +566,24 @@ public class MySQLPlatform extends DatabasePlatform {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * MySQL supports multiple rows in the VALUES clause of an INSERT.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * MySQL allows up to 65535 placeholders in a prepared statement.
+     */
+    @Override
+    public int getMaxBindParameters() {
+        return 65535;
+    }
+
     /**
      * INTERNAL:
      * Indicates whether the platform supports the count distinct function with multiple fields.
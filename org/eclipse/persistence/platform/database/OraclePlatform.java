@@ -877,6 +877,38 @@ public class OraclePlatform extends org.eclipse.persistence.platform.database.Da
         return supportsIdentity;
     }
 
+    /**
+     * INTERNAL:
+     * Oracle inserts multiple rows through INSERT ALL.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Build an INSERT ALL statement with an INTO clause for each row.
+     */
+    @Override
+    public String buildMultiRowInsertSQL(String insertSQL, int rows) {
+        int intoIndex = insertSQL.indexOf("INTO ");
+        if (!insertSQL.startsWith("INSERT ") || (intoIndex == -1) || (insertSQL.lastIndexOf(") VALUES (") == -1) || !insertSQL.endsWith(")")) {
+            return null;
+        }
+        String into = insertSQL.substring(intoIndex);
+        StringBuilder sql = new StringBuilder(intoIndex + 25 + ((into.length() + 1) * rows));
+        // Any hint stays after the INSERT keyword.
+        sql.append(insertSQL, 0, intoIndex);
+        sql.append("ALL");
+        for (int row = 0; row < rows; row++) {
+            sql.append(" ");
+            sql.append(into);
+        }
+        sql.append(" SELECT * FROM DUAL");
+        return sql.toString();
+    }
+
     /**
      * ADVANCED:
      * Oracle db doesn't support identity.
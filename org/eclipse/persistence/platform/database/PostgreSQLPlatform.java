@@ -260,6 +260,34 @@ public class PostgreSQLPlatform extends DatabasePlatform {
         return true;
     }
 
+    /**
+     * INTERNAL: PostgreSQL supports multiple rows in the VALUES clause of an INSERT.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * INTERNAL: PostgreSQL supports comparing a value to any of the elements of a bound array, "= ANY (?)".
+     */
+    @Override
+    public boolean supportsINArrayParameters() {
+        return true;
+    }
+
+    /**
+     * INTERNAL: The driver looks up the array's element type by its lower case name.
+     */
+    @Override
+    public String getINArrayParameterTypeName(Class javaClass) {
+        String typeName = super.getINArrayParameterTypeName(javaClass);
+        if (typeName == null) {
+            return null;
+        }
+        return typeName.toLowerCase();
+    }
+
     /**
      * INTERNAL: Returns query used to read back the value generated by
      * Identity. This method is called when identity NativeSequence is
@@ -831,6 +831,33 @@ public class SQLServerPlatform extends org.eclipse.persistence.platform.database
         return true;
     }
 
+    /**
+     *  INTERNAL:
+     *  SQLServer supports up to 1000 rows in the VALUES clause of an INSERT.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     *  INTERNAL:
+     *  SQLServer allows 2100 parameters in a request, some are kept for the driver.
+     */
+    @Override
+    public int getMaxBindParameters() {
+        return 2000;
+    }
+
+    /**
+     *  INTERNAL:
+     *  SQLServer allows 1000 rows in the VALUES clause of an INSERT.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows() {
+        return 1000;
+    }
+
     /**
      * INTERNAL:
      */
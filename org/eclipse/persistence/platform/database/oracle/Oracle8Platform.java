@@ -15,6 +15,8 @@
 //     Vikram Bhatia - added method for releasing temporary LOBs after conversion
 package org.eclipse.persistence.platform.database.oracle;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
@@ -23,7 +25,9 @@ import java.sql.Ref;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Struct;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Map;
 
 import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
 import org.eclipse.persistence.internal.databaseaccess.FieldTypeDefinition;
@@ -55,6 +59,9 @@ public class Oracle8Platform extends OraclePlatform {
     /** The LOB value limits when the Locator is required for the writing */
     protected int lobValueLimits = 0;
 
+    /** The database collection type used to bind IN parameters of each java class as a single array. */
+    protected Map<Class, String> inArrayParameterTypeNames = new HashMap<Class, String>();
+
     /**
      * INTERNAL:
      */
@@ -81,6 +88,46 @@ public class Oracle8Platform extends OraclePlatform {
         Oracle8Platform oracle8Platform = (Oracle8Platform)platform;
         oracle8Platform.setShouldUseLocatorForLOBWrite(shouldUseLocatorForLOBWrite());
         oracle8Platform.setLobValueLimits(getLobValueLimits());
+        oracle8Platform.inArrayParameterTypeNames = new HashMap<Class, String>(this.inArrayParameterTypeNames);
+    }
+
+    /**
+     * PUBLIC:
+     * Set the database collection type used to bind IN parameters of the java class as a single array,
+     * i.e. a type created with "CREATE TYPE NUMBER_TABLE AS TABLE OF NUMBER" for Long values.
+     * The IN comparison then selects from the table of the array, "IN (SELECT COLUMN_VALUE FROM TABLE(?))".
+     * This is only used for IN parameters with at least the IN array parameter threshold number of values.
+     * @see #setINArrayParameterThreshold(int)
+     */
+    public void setINArrayParameterTypeName(Class javaClass, String collectionTypeName) {
+        this.inArrayParameterTypeNames.put(javaClass, collectionTypeName);
+    }
+
+    /**
+     * INTERNAL:
+     * Oracle binds arrays of the collection types that have been set.
+     */
+    @Override
+    public boolean supportsINArrayParameters() {
+        return !this.inArrayParameterTypeNames.isEmpty();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the database collection type set for the java class, the array is created from this type.
+     */
+    @Override
+    public String getINArrayParameterTypeName(Class javaClass) {
+        return this.inArrayParameterTypeNames.get(javaClass);
+    }
+
+    /**
+     * INTERNAL:
+     * Oracle compares the value to the rows of the table of the array.
+     */
+    @Override
+    public void writeINArrayParameter(Writer writer, boolean isNotIN) throws IOException {
+        writer.write(isNotIN ? " NOT IN (SELECT COLUMN_VALUE FROM TABLE(?))" : " IN (SELECT COLUMN_VALUE FROM TABLE(?))");
     }
 
     /**
@@ -39,6 +39,8 @@ public class BatchFetchPolicy implements Serializable, Cloneable {
     protected BatchFetchType type;
     /** Define the batch size for IN style batch fetching. */
     protected int size = 500;
+    /** Define if the IN batch size is adapted to the accesses of each batched relationship. */
+    protected boolean isAdaptive;
     /** Define the attributes to be batch fetched. */
     protected List<Expression> attributeExpressions;
     /** Define the mapping to be batch fetched (from mapping settings). */
@@ -133,6 +135,26 @@ public class BatchFetchPolicy implements Serializable, Cloneable {
         this.size = size;
     }
 
+    /**
+     * Return if the IN batch size is adapted to the accesses of each batched relationship.
+     */
+    public boolean isAdaptive() {
+        return isAdaptive;
+    }
+
+    /**
+     * Set if the IN batch size is adapted to the accesses of each batched relationship.
+     * Each batched mapping records how many of the source rows of its batches have their relationship accessed.
+     * Later batches of the mapping (for any adaptive query) read fewer rows if less than half of them are accessed,
+     * or more rows, up to the batch size, if nearly all of them are accessed.
+     * The batch size is the initial and maximum size.
+     * This is only relevant for the IN batch fetch type.
+     * @see org.eclipse.persistence.sessions.SessionProfiler#BatchFetchSize
+     */
+    public void setIsAdaptive(boolean isAdaptive) {
+        this.isAdaptive = isAdaptive;
+    }
+
     /**
      * INTERNAL:
      * PERF: Return the internally stored prepared mapping queries.
@@ -16,13 +16,20 @@ package org.eclipse.persistence.queries;
 
 import java.sql.*;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.*;
 import org.eclipse.persistence.expressions.*;
 import org.eclipse.persistence.internal.databaseaccess.*;
+import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
 import org.eclipse.persistence.internal.helper.*;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 
 /**
@@ -46,6 +53,9 @@ public abstract class Cursor implements Enumeration, Iterator, java.io.Serializa
     /** The fields expected in the result set. */
     protected transient Vector<DatabaseField> fields;
 
+    /** The index of the fields, shared by the rows. */
+    protected transient DatabaseFieldIndex fieldIndex;
+
     /** Cached size of the stream. */
     protected int size = -1;
 
@@ -88,6 +98,7 @@ public abstract class Cursor implements Enumeration, Iterator, java.io.Serializa
         this.executionSession = session.getExecutionSession(query);
         this.statement = call.getStatement();
         this.fields = call.getFields();
+        this.fieldIndex = call.getFieldIndex();
         this.resultSet = call.getResult();
         this.policy = policy;
         this.objectCollection = new Vector();
@@ -143,6 +154,25 @@ public abstract class Cursor implements Enumeration, Iterator, java.io.Serializa
         }
     }
 
+    /**
+     * PUBLIC:
+     * Return a sequential stream of the objects remaining in the cursor.
+     * Each object is built from the open result set when the stream advances to it.
+     * If the query releases streamed objects, the objects the stream has advanced past are released
+     * (see {@link #releaseStreamedObject(Object)}), so reading a large result through the stream uses constant memory.
+     * Otherwise objects read in a UnitOfWork remain registered.
+     * The cursor is closed when the stream reaches its end, fails, or is closed.
+     * The stream should be closed (i.e. try-with-resources) if it may not be read to its end.
+     */
+    public Stream<Object> stream() {
+        return StreamSupport.stream(new CursorSpliterator(this), false).onClose(new Runnable() {
+            @Override
+            public void run() {
+                close();
+            }
+        });
+    }
+
     /**
      * Close in case not closed.
      */
@@ -177,6 +207,17 @@ public abstract class Cursor implements Enumeration, Iterator, java.io.Serializa
         return fields;
     }
 
+    /**
+     * INTERNAL:
+     * Return the index of the fields for the stream, shared by the rows.
+     */
+    public DatabaseFieldIndex getFieldIndex() {
+        if ((this.fieldIndex == null) && (this.fields != null)) {
+            this.fieldIndex = new DatabaseFieldIndex(this.fields);
+        }
+        return fieldIndex;
+    }
+
     /**
      * INTERNAL:
      * Conforming instances found in memory when building the result.
@@ -324,6 +365,7 @@ public abstract class Cursor implements Enumeration, Iterator, java.io.Serializa
      */
     protected void setFields(Vector<DatabaseField> fields) {
         this.fields = fields;
+        this.fieldIndex = null;
     }
 
     /**
@@ -450,4 +492,97 @@ public abstract class Cursor implements Enumeration, Iterator, java.io.Serializa
             ((ObjectLevelReadQuery)this.query).getJoinedAttributeManager().clearDataResults();
         }
     }
+
+    /**
+     * INTERNAL:
+     * Release an object the stream of the cursor has advanced past.
+     * The joined rows read for 1-m joining are released.
+     * If the query releases streamed objects, an object read in a UnitOfWork is unregistered unless it was changed,
+     * new or deleted, and removed from the cache of the isolated client session if its descriptor is isolated.
+     * Objects in the shared cache are not removed, as its identity maps are bounded by their size and reference type.
+     * @see ReadAllQuery#setShouldReleaseStreamedObjects(boolean)
+     */
+    protected void releaseStreamedObject(Object object) {
+        if (!this.query.isObjectLevelReadQuery()) {
+            return;
+        }
+        if (((ObjectLevelReadQuery)this.query).hasJoining()) {
+            ((ObjectLevelReadQuery)this.query).getJoinedAttributeManager().clearDataResults();
+        }
+        if ((object == null) || !this.query.isReadAllQuery() || this.query.isReportQuery()
+                || !((ReadAllQuery)this.query).shouldReleaseStreamedObjects()) {
+            return;
+        }
+        AbstractSession session = this.session;
+        ClassDescriptor descriptor = session.getDescriptor(object);
+        if (descriptor == null) {
+            return;
+        }
+        if (session.isUnitOfWork()) {
+            UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)session;
+            if (!unitOfWork.getCloneMapping().containsKey(object) || unitOfWork.isCloneNewObject(object) || unitOfWork.isObjectDeleted(object)) {
+                return;
+            }
+            ObjectChangeSet changes = descriptor.getObjectChangePolicy().calculateChangesForExistingObject(
+                    object, new UnitOfWorkChangeSet(unitOfWork), unitOfWork, descriptor, false);
+            if ((changes != null) && changes.hasChanges()) {
+                return;
+            }
+            Object primaryKey = descriptor.getObjectBuilder().extractPrimaryKeyFromObject(object, unitOfWork, true);
+            unitOfWork.unregisterObject(object, DescriptorIterator.NoCascading);
+            // The original is held to avoid its garbage collection from weak caches while the clone is registered.
+            unitOfWork.getCloneToOriginals().remove(object);
+            session = unitOfWork.getParent();
+            if ((primaryKey != null) && session.isIsolatedClientSession() && descriptor.getCachePolicy().isIsolated()) {
+                session.getIdentityMapAccessorInstance().removeFromIdentityMap(primaryKey, descriptor.getJavaClass(), descriptor, null);
+            }
+        } else if (session.isIsolatedClientSession() && descriptor.getCachePolicy().isIsolated()) {
+            Object primaryKey = descriptor.getObjectBuilder().extractPrimaryKeyFromObject(object, session, true);
+            if (primaryKey != null) {
+                session.getIdentityMapAccessorInstance().removeFromIdentityMap(primaryKey, descriptor.getJavaClass(), descriptor, object);
+            }
+        }
+    }
+
+    /**
+     * Spliterator over the remaining objects of a cursor, used for its stream.
+     * The previous object is released before advancing to the next one,
+     * and the cursor is closed when there are no more objects or reading fails.
+     */
+    protected static class CursorSpliterator extends Spliterators.AbstractSpliterator<Object> {
+        protected final Cursor cursor;
+        protected Object previous;
+
+        protected CursorSpliterator(Cursor cursor) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            Object next;
+            try {
+                if (this.previous != null) {
+                    Object previous = this.previous;
+                    this.previous = null;
+                    this.cursor.releaseStreamedObject(previous);
+                }
+                if (!this.cursor.hasNext()) {
+                    this.cursor.close();
+                    return false;
+                }
+                next = this.cursor.next();
+            } catch (RuntimeException exception) {
+                try {
+                    this.cursor.close();
+                } catch (RuntimeException closeException) {
+                    // Ignore, the original exception is more relevant.
+                }
+                throw exception;
+            }
+            this.previous = next;
+            action.accept(next);
+            return true;
+        }
+    }
 }
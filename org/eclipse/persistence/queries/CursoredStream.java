@@ -387,6 +387,18 @@ public class CursoredStream extends Cursor {
         clear();
     }
 
+    /**
+     * INTERNAL:
+     * Release an object the stream of the cursor has advanced past,
+     * and the objects read in so far once a page of them has been passed.
+     */
+    protected void releaseStreamedObject(Object object) {
+        super.releaseStreamedObject(object);
+        if (this.position >= getPageSize()) {
+            clear();
+        }
+    }
+
     /**
      * PUBLIC:
      * Repositions this stream to the position at the time the
@@ -403,7 +415,7 @@ public class CursoredStream extends Cursor {
                 if (isClosed()) {
                     return null;
                 }
-                row = getAccessor().cursorRetrieveNextRow(this.fields, this.resultSet, this.executionSession);
+                row = getAccessor().cursorRetrieveNextRow(getFieldIndex(), this.resultSet, this.executionSession);
             } else {
                 row = this.nextRow;
                 this.nextRow = null;
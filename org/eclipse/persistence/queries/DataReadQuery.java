@@ -406,4 +406,18 @@ public class DataReadQuery extends ReadQuery {
         policy.setQuery(this);
         setContainerPolicy(policy);
     }
+
+    /**
+     * PUBLIC:
+     * Use a forward only, read only ScrollableCursor as the result collection.
+     * Rows are read from the open result set as the cursor advances, and are not kept by the cursor,
+     * so the result can be read in constant memory through {@link Cursor#stream()}.
+     * The JDBC fetch size of the query controls how many rows the driver reads at a time.
+     */
+    public void useStreamingCursor() {
+        ScrollableCursorPolicy policy = new ScrollableCursorPolicy();
+        policy.setResultSetType(ScrollableCursorPolicy.TYPE_FORWARD_ONLY);
+        policy.setResultSetConcurrency(ScrollableCursorPolicy.CONCUR_READ_ONLY);
+        useScrollableCursor(policy);
+    }
 }
@@ -229,6 +229,10 @@ public abstract class DatabaseQuery implements Cloneable, Serializable {
     // Session's shouldBindAllParameters() defines whether to bind or not.
     protected Boolean shouldBindAllParameters;
 
+    // Has False, Undefined or True value. In case of Undefined -
+    // Platform's shouldPadINParameters() defines whether to pad or not.
+    protected Boolean shouldPadINParameters;
+
     /**
      * Cache the prepared statement, this requires full parameter binding as
      * well.
@@ -1883,6 +1887,7 @@ public abstract class DatabaseQuery implements Cloneable, Serializable {
         this.redirector = query.redirector;
         this.sessionName = query.sessionName;
         this.shouldBindAllParameters = query.shouldBindAllParameters;
+        this.shouldPadINParameters = query.shouldPadINParameters;
         this.shouldCacheStatement = query.shouldCacheStatement;
         this.shouldMaintainCache = query.shouldMaintainCache;
         this.shouldPrepare = query.shouldPrepare;
@@ -2375,6 +2380,24 @@ public abstract class DatabaseQuery implements Cloneable, Serializable {
         this.shouldBindAllParameters = bindAllParams;
     }
 
+    /**
+     * INTERNAL: Returns the internal tri-state value of shouldPadINParameters,
+     * null if the platform's setting is used.
+     */
+    public Boolean getShouldPadINParameters() {
+        return this.shouldPadINParameters;
+    }
+
+    /**
+     * PUBLIC: Set if the values of bound IN parameters are padded to the next power of two by repeating the last value,
+     * so executions with different numbers of values share the same SQL and prepared statement.
+     * Null (the default) uses the platform's setting.
+     * @see org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform#setShouldPadINParameters(boolean)
+     */
+    public void setShouldPadINParameters(Boolean shouldPadINParameters) {
+        this.shouldPadINParameters = shouldPadINParameters;
+    }
+
     /**
      * PUBLIC: Cache the prepared statements, this requires full parameter
      * binding as well.
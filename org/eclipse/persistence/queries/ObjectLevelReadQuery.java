@@ -243,6 +243,9 @@ public abstract class ObjectLevelReadQuery extends ObjectBuildingQuery {
     /** Indicates whether the query should use SerializedObjectPolicy if descriptor has it.*/
     protected boolean shouldUseSerializedObjectPolicy;
 
+    /** Indicates whether the objects of a large result should be built by multiple threads. */
+    protected boolean shouldBuildObjectsInParallel;
+
     /**
      * INTERNAL:
      * Initialize the state of the query
@@ -445,6 +448,27 @@ public abstract class ObjectLevelReadQuery extends ObjectBuildingQuery {
         this.isReadOnly = isReadOnly;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the objects of a large result are built by multiple threads.
+     */
+    public boolean shouldBuildObjectsInParallel() {
+        return shouldBuildObjectsInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the objects of a large result should be built by multiple threads.
+     * The rows are partitioned across the server platform's threads, and the result keeps the row order.
+     * This only applies to objects built in a ServerSession or ClientSession not in a transaction,
+     * such as a read-only query, objects registered in a UnitOfWork are built by the calling thread.
+     * It is not used if the query uses joining, or the objects have batch fetched relationships.
+     * By default is false.
+     */
+    public void setShouldBuildObjectsInParallel(boolean shouldBuildObjectsInParallel) {
+        this.shouldBuildObjectsInParallel = shouldBuildObjectsInParallel;
+    }
+
     /**
      * PUBLIC:
      * Sets that this a pessimistic wait locking query.
@@ -2065,6 +2089,7 @@ public abstract class ObjectLevelReadQuery extends ObjectBuildingQuery {
             this.defaultBuilder = readQuery.defaultBuilder;
             this.distinctState = readQuery.distinctState;
             this.shouldUseSerializedObjectPolicy = readQuery.shouldUseSerializedObjectPolicy;
+            this.shouldBuildObjectsInParallel = readQuery.shouldBuildObjectsInParallel;
         }
     }
 
@@ -3439,6 +3464,21 @@ public abstract class ObjectLevelReadQuery extends ObjectBuildingQuery {
         setIsPrepared(false);
     }
 
+    /**
+     * PUBLIC:
+     * Set if the batch fetch size is adapted to the accesses of each batched relationship.
+     * This is only relevant for the IN batch fetch type.
+     * The batch fetch size is the initial and maximum size of each relationship's batches,
+     * later batches read fewer rows if most of a batch's relationships are not accessed,
+     * and more rows again if nearly all of them are accessed.
+     *
+     * @see #setBatchFetchType(BatchFetchType)
+     * @see #setBatchFetchSize(int)
+     */
+    public void setIsBatchFetchAdaptive(boolean isAdaptive) {
+        getBatchFetchPolicy().setIsAdaptive(isAdaptive);
+    }
+
     /**
      * INTERNAL:
      * Return temporary map of batched objects.
@@ -24,6 +24,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -80,6 +81,9 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
     protected List<Expression> orderSiblingsByExpressions;
     protected Direction direction;
 
+    /** Indicates whether the stream of a cursor result releases the objects it has advanced past. */
+    protected boolean shouldReleaseStreamedObjects;
+
     /**
      * Specifies the direction in which the hierarchy is traversed in a
      * hierarchical query.
@@ -594,15 +598,23 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
                     }
                 }
 
-                if (this.session.isUnitOfWork()) {
-                    result = registerResultInUnitOfWork(rows, (UnitOfWorkImpl)this.session, this.translationRow, true);//
-                } else {
-                    if (rows instanceof ThreadCursoredList) {
-                        result = this.containerPolicy.containerInstance();
+                try {
+                    if (this.session.isUnitOfWork()) {
+                        result = registerResultInUnitOfWork(rows, (UnitOfWorkImpl)this.session, this.translationRow, true);//
                     } else {
-                        result = this.containerPolicy.containerInstance(rows.size());
+                        if (rows instanceof ThreadCursoredList) {
+                            result = this.containerPolicy.containerInstance();
+                        } else {
+                            result = this.containerPolicy.containerInstance(rows.size());
+                        }
+                        this.descriptor.getObjectBuilder().buildObjectsInto(this, rows, result);
+                    }
+                } catch (RuntimeException exception) {
+                    // Stop the concurrent fetch of the rows, so it releases the statement and connection.
+                    if (rows instanceof ThreadCursoredList) {
+                        ((ThreadCursoredList)rows).cancel();
                     }
-                    this.descriptor.getObjectBuilder().buildObjectsInto(this, rows, result);
+                    throw exception;
                 }
 
                 if (sopObject != null) {
@@ -910,6 +922,46 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
         getQueryMechanism().prepareSelectAllRows();
     }
 
+    /**
+     * INTERNAL:
+     * Return if the clones can be built while the rows are still being fetched.
+     * The unit of work must not hold a transactional or exclusive connection, as the relationships read
+     * while building the clones would use the connection of the open result set.
+     * The query must not join or batch read, as these require all of the rows of the result.
+     */
+    protected boolean canRegisterThreadCursoredRows(UnitOfWorkImpl unitOfWork) {
+        if (hasJoining() || hasBatchReadAttributes() || ObjectBuilder.hasBatchFetchedMappings(this.descriptor)) {
+            return false;
+        }
+        AbstractSession parent = unitOfWork.getParent();
+        return !unitOfWork.isInTransaction() && !parent.isExclusiveIsolatedClientSession() && !parent.isExclusiveConnectionRequired();
+    }
+
+    /**
+     * INTERNAL:
+     * Build the registered clones from the rows as they are fetched concurrently.
+     */
+    protected Object registerThreadCursoredRowsInUnitOfWork(ThreadCursoredList rows, UnitOfWorkImpl unitOfWork) {
+        ContainerPolicy cp = this.containerPolicy;
+        Object clones = cp.containerInstance();
+        boolean quickAdd = (clones instanceof Collection) && !this.descriptor.getObjectBuilder().hasWrapperPolicy();
+        Enumeration rowsEnum = rows.elements();
+        while (rowsEnum.hasMoreElements()) {
+            AbstractRecord row = (AbstractRecord)rowsEnum.nextElement();
+
+            // null is placed in the row collection for 1-m joining to filter duplicate rows.
+            if (row != null) {
+                Object clone = buildObject(row);
+                if (quickAdd) {
+                    ((Collection)clones).add(clone);
+                } else {
+                    cp.addInto(clone, clones, unitOfWork, row, this, null, true);
+                }
+            }
+        }
+        return clones;
+    }
+
     /**
      * INTERNAL:
      * All objects queried via a UnitOfWork get registered here.  If the query
@@ -947,6 +999,11 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
         if (buildDirectlyFromRows) {
             List<AbstractRecord> rows = (List<AbstractRecord>)result;
             ContainerPolicy cp = this.containerPolicy;
+            // PERF: Build the clones while the rows are fetched concurrently, as the size waits for all of the rows.
+            if ((rows instanceof ThreadCursoredList) && !cp.shouldAddAll() && !this.descriptor.getCachePolicy().shouldPrefetchCacheKeys()
+                    && canRegisterThreadCursoredRows(unitOfWork)) {
+                return registerThreadCursoredRowsInUnitOfWork((ThreadCursoredList)rows, unitOfWork);
+            }
             int size = rows.size();
             Object clones = cp.containerInstance(size);
             if(cp.shouldAddAll()) {
@@ -1304,6 +1361,41 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
         setContainerPolicy(policy);
     }
 
+    /**
+     * PUBLIC:
+     * Use a forward only, read only ScrollableCursor as the result collection.
+     * Rows are read from the open result set as the cursor advances, and are not kept by the cursor.
+     * Objects read in a UnitOfWork remain registered, unless the query releases streamed objects.
+     * The JDBC fetch size of the query controls how many rows the driver reads at a time.
+     * @see #setShouldReleaseStreamedObjects(boolean)
+     */
+    public void useStreamingCursor() {
+        ScrollableCursorPolicy policy = new ScrollableCursorPolicy();
+        policy.setResultSetType(ScrollableCursorPolicy.TYPE_FORWARD_ONLY);
+        policy.setResultSetConcurrency(ScrollableCursorPolicy.CONCUR_READ_ONLY);
+        useScrollableCursor(policy);
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the stream of a cursor result releases the objects it has advanced past.
+     */
+    public boolean shouldReleaseStreamedObjects() {
+        return shouldReleaseStreamedObjects;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the stream of a cursor result should release the objects it has advanced past,
+     * so a large result can be read through {@link Cursor#stream()} in constant memory.
+     * An object read in a UnitOfWork is unregistered once the stream has passed it, unless it was changed, new or deleted,
+     * so any change made to it after that is not committed.
+     * By default is false, and the objects remain registered.
+     */
+    public void setShouldReleaseStreamedObjects(boolean shouldReleaseStreamedObjects) {
+        this.shouldReleaseStreamedObjects = shouldReleaseStreamedObjects;
+    }
+
     /**
      * INTERNAL:
      * Indicates whether the query can use ResultSet optimization.
@@ -43,6 +43,10 @@ import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.InvalidObject;
 import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCache;
 import org.eclipse.persistence.internal.indirection.ProxyIndirectionPolicy;
 import org.eclipse.persistence.internal.queries.DatasourceCallQueryMechanism;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
@@ -475,9 +479,17 @@ public class ReadObjectQuery extends ObjectLevelReadQuery {
         boolean useOptimization = false;
         if (sopObject == null) {
             useOptimization = usesResultSetAccessOptimization();
+            row = checkOffHeapCacheForRow(session);
         }
 
-        if (useOptimization) {
+        if (row != null) {
+            // The object was evicted from the shared cache, build it from its row kept off-heap.
+            if (session.isUnitOfWork()) {
+                result = registerResultInUnitOfWork(row, (UnitOfWorkImpl)session, this.translationRow, true);
+            } else {
+                result = buildObject(row);
+            }
+        } else if (useOptimization) {
             DatabaseCall call = ((DatasourceCallQueryMechanism)this.queryMechanism).selectResultSet();
             this.executionTime = System.currentTimeMillis();
             boolean exceptionOccured = false;
@@ -597,6 +609,66 @@ public class ReadObjectQuery extends ObjectLevelReadQuery {
         return result;
     }
 
+    /**
+     * INTERNAL:
+     * Return the row of the object from the off-heap tier of the shared cache, or null if the database must be accessed.
+     * The execution time is set to the time the row was read, so the cache invalidation applies to the object
+     * as if it had never left the cache.
+     */
+    protected AbstractRecord checkOffHeapCacheForRow(AbstractSession session) {
+        ClassDescriptor rootDescriptor = this.descriptor;
+        if (rootDescriptor.hasInheritance()) {
+            rootDescriptor = rootDescriptor.getInheritancePolicy().getRootParentDescriptor();
+        }
+        if ((rootDescriptor.getCachePolicy().getOffHeapCacheSize() <= 0) || !shouldMaintainCache() || shouldRefreshIdentityMapResult()
+                || shouldRetrieveBypassCache() || isLockQuery() || hasJoining() || hasPartialAttributeExpressions()
+                || hasNonDefaultFetchGroup() || hasAsOfClause() || session.isRemoteSession() || this.descriptor.shouldDisableCacheHits()) {
+            return null;
+        }
+        if (session.isUnitOfWork()) {
+            UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)session;
+            if (unitOfWork.shouldReadFromDB() || this.descriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWork()
+                    || (unitOfWork.wasTransactionBegunPrematurely() && this.descriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWorkEarlyTransaction())) {
+                return null;
+            }
+        }
+        Object primaryKey = this.selectionId;
+        if (primaryKey == null) {
+            ObjectBuilder builder = this.descriptor.getObjectBuilder();
+            if (this.selectionObject != null) {
+                primaryKey = builder.extractPrimaryKeyFromObject(this.selectionObject, session, true);
+            } else if ((getSelectionCriteria() != null) && (this.translationRow != null)) {
+                primaryKey = builder.extractPrimaryKeyFromExpression(true, getSelectionCriteria(), this.translationRow, session);
+            }
+            if (primaryKey == null) {
+                return null;
+            }
+        }
+        IdentityMap identityMap = session.getParentIdentityMapSession(this.descriptor, true, true).getIdentityMapAccessorInstance().getIdentityMap(this.descriptor, true);
+        if (!(identityMap instanceof FullIdentityMap)) {
+            return null;
+        }
+        OffHeapCache offHeapCache = ((FullIdentityMap)identityMap).getOffHeapCache();
+        if (offHeapCache == null) {
+            return null;
+        }
+        CacheKey cacheKey = offHeapCache.get(primaryKey);
+        if (cacheKey == null) {
+            return null;
+        }
+        AbstractRecord row = (AbstractRecord)cacheKey.getRecord();
+        if (this.descriptor.hasInheritance()) {
+            // The row may be of a class this query does not select.
+            Class concreteClass = this.descriptor.getInheritancePolicy().classFromRow(row, session);
+            if ((concreteClass != this.descriptor.getJavaClass())
+                    && (!this.descriptor.getInheritancePolicy().shouldReadSubclasses() || !this.descriptor.getJavaClass().isAssignableFrom(concreteClass))) {
+                return null;
+            }
+        }
+        this.executionTime = cacheKey.getReadTime();
+        return row;
+    }
+
     /**
      * INTERNAL:
      * Execute the query building the objects directly from the database result-set.
@@ -562,7 +562,7 @@ public class ScrollableCursor extends Cursor implements ListIterator {
             // if the end of the cursor has been reached, do not retrieve more rows
             if (!this.atEndOfCursor) {
                 if (this.nextRow == null) {
-                    row = getAccessor().cursorRetrieveNextRow(this.fields, this.resultSet, this.executionSession);
+                    row = getAccessor().cursorRetrieveNextRow(getFieldIndex(), this.resultSet, this.executionSession);
                 } else {
                     row = this.nextRow;
                     this.nextRow = null;
@@ -607,7 +607,7 @@ public class ScrollableCursor extends Cursor implements ListIterator {
             if (currentPosition <= (this.objectCollection.size() + 1)) {
                 // If at first of cursor, move cursor to beforeFirst.
                 if ((currentPosition == (this.objectCollection.size() + 1)) && (!isClosed())) {
-                    getAccessor().cursorRetrievePreviousRow(this.fields, this.resultSet, this.executionSession);
+                    getAccessor().cursorRetrievePreviousRow(getFieldIndex(), this.resultSet, this.executionSession);
                 }
                 if (currentPosition <= 1) {
                     // Cursor can not move back further than beforeFirst.
@@ -623,7 +623,7 @@ public class ScrollableCursor extends Cursor implements ListIterator {
             }
             AbstractRecord row = null;
             if (this.previousRow == null) {
-                row = getAccessor().cursorRetrievePreviousRow(this.fields, this.resultSet, this.executionSession);
+                row = getAccessor().cursorRetrievePreviousRow(getFieldIndex(), this.resultSet, this.executionSession);
             } else {
                 row = this.previousRow;
                 this.previousRow = null;
@@ -48,6 +48,7 @@ import org.eclipse.persistence.sessions.server.ConnectionPool;
  *      resetSequencing;
  * 3. The following methods cause change immediately:
  *      setPreallocationSize (next sequencing preallocation will use the set parameter's value).
+ *      setShouldPrefetch (next sequencing preallocation will be prefetched, or not).
  * <p>
  * <b>Responsibilities</b>:
  * <ul>
@@ -200,4 +201,23 @@ public interface SequencingControl {
      * @see Sequence
      */
     void initializePreallocated(String seqName);
+
+    /**
+     * PUBLIC:
+     * Return if the next block of preallocated sequencing values is allocated in the background
+     * before the preallocated values run out.
+     */
+    boolean shouldPrefetch();
+
+    /**
+     * PUBLIC:
+     * Set if the next block of preallocated sequencing values should be allocated in the background
+     * when a quarter of the current block is left, instead of by the inserting thread when it runs out.
+     * The preallocation size of table sequences grows with the rate values are used, up to 16 times
+     * the sequence's preallocation size, so a block lasts about a second.
+     * This is only used for sequences using a separate sequencing connection, or native sequencing
+     * in a ServerSession, as other sequences must be allocated in the inserting thread's transaction.
+     * By default is false.
+     */
+    void setShouldPrefetch(boolean shouldPrefetch);
 }
@@ -44,6 +44,7 @@ import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
@@ -850,6 +851,8 @@ public abstract class RuntimeServices {
      protected String getCacheTypeFor(Class identityMapClass) {
          if (identityMapClass == CacheIdentityMap.class) {
              return "Cache";
+         } else if (identityMapClass == ConcurrentCacheIdentityMap.class) {
+             return "ConcurrentCache";
          } else if (identityMapClass == FullIdentityMap.class) {
              return "Full";
          } else if (identityMapClass == HardCacheWeakIdentityMap.class) {
@@ -1008,6 +1008,15 @@ public class DatabaseLogin extends DatasourceLogin {
         getPlatform().setUsesJDBCBatchWriting(usesJDBCBatchWriting);
     }
 
+    /**
+     * PUBLIC: Set if a full JDBC batch should be executed by another thread while the next batch is
+     * being built, on the same connection and transaction. This requires JDBC batch writing.
+     * @see DatabasePlatform#setUsesPipelinedBatchWriting(boolean)
+     */
+    public void setUsesPipelinedBatchWriting(boolean usesPipelinedBatchWriting) {
+        getPlatform().setUsesPipelinedBatchWriting(usesPipelinedBatchWriting);
+    }
+
     /**
      * PUBLIC:
      * EclipseLink can be configured to use database specific sql grammar not JDBC specific.
@@ -1136,6 +1145,31 @@ public class DatabaseLogin extends DatasourceLogin {
         return getPlatform().usesJDBCBatchWriting();
     }
 
+    /**
+     * PUBLIC: Answers true if a full JDBC batch is executed by another thread while the next batch is being built.
+     * @see #setUsesPipelinedBatchWriting(boolean)
+     */
+    public boolean shouldUsePipelinedBatchWriting() {
+        return getPlatform().usesPipelinedBatchWriting();
+    }
+
+    /**
+     * PUBLIC: Set if a JDBC batch of inserts into the same table should be executed as multi-row
+     * INSERT statements, on platforms that support them. This requires JDBC batch writing.
+     * @see DatabasePlatform#setUsesMultiRowInsertBatchWriting(boolean)
+     */
+    public void setUsesMultiRowInsertBatchWriting(boolean usesMultiRowInsertBatchWriting) {
+        getPlatform().setUsesMultiRowInsertBatchWriting(usesMultiRowInsertBatchWriting);
+    }
+
+    /**
+     * PUBLIC: Answers true if a JDBC batch of inserts into the same table is executed as multi-row INSERT statements.
+     * @see #setUsesMultiRowInsertBatchWriting(boolean)
+     */
+    public boolean shouldUseMultiRowInsertBatchWriting() {
+        return getPlatform().usesMultiRowInsertBatchWriting();
+    }
+
     /**
      * PUBLIC:
      * EclipseLink can be configured to use a sequence table
@@ -56,6 +56,7 @@ import org.eclipse.persistence.core.sessions.CoreProject;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.MultitenantPolicy;
 import org.eclipse.persistence.descriptors.partitioning.PartitioningPolicy;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
@@ -209,6 +210,9 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** Force all queries and relationships to use deferred lock strategy during object building and L2 cache population. */
     protected boolean queryCacheForceDeferredLocks = false;
 
+    /** PERF: Generate accessors for get and set methods instead of invoking them through reflection. */
+    protected boolean shouldGenerateAttributeAccessors = false;
+
     /**
      * PUBLIC:
      * Create a new project.
@@ -281,6 +285,27 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
         this.queryCacheForceDeferredLocks = queryCacheForceDeferredLocks;
     }
 
+    /**
+     * PUBLIC:
+     * Return if accessors are generated for attributes mapped with get and set methods.
+     */
+    public boolean shouldGenerateAttributeAccessors() {
+        return shouldGenerateAttributeAccessors;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if accessors are generated for attributes mapped with get and set methods, when the descriptors are initialized.
+     * A generated accessor calls the methods directly, instead of through reflection.
+     * Accessors are only generated for public methods of public classes visible to EclipseLink's class loader,
+     * reflection is used for other methods.
+     * By default reflection is used.
+     * @see org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor#generateAccessors()
+     */
+    public void setShouldGenerateAttributeAccessors(boolean shouldGenerateAttributeAccessors) {
+        this.shouldGenerateAttributeAccessors = shouldGenerateAttributeAccessors;
+    }
+
     /**
      * PUBLIC:
      * Return the default setting for configuring if dates and calendars are mutable.
@@ -1448,6 +1473,10 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
      */
     public void setAllowExtendedCacheLogging(boolean allowExtendedCacheLogging) {
         this.allowExtendedCacheLogging = allowExtendedCacheLogging;
+        if (allowExtendedCacheLogging) {
+            // The creation thread of the cache keys is logged, so must be tracked.
+            ConcurrencyUtil.SINGLETON.setDeadLockDiagnosticEnabled(true);
+        }
     }
 
     /**
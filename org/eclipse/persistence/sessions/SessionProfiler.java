@@ -35,6 +35,10 @@ public interface SessionProfiler {
     public static final String LoginTime = "Info:LoginTime";
     public static final String RcmStatus = "Info:CacheCoordinationStatus";
     public static final String CacheSize = "Info:CacheSize";//TODO
+    public static final String StatementCacheHitRatio = "Info:StatementCacheHitRatio";
+    public static final String JPQLParseCacheHitRatio = "Info:JPQLParseCacheHitRatio";
+    public static final String QueryCacheHitRatio = "Info:QueryCacheHitRatio";
+    public static final String BatchFetchSize = "Info:BatchFetchSize:";
 
     public static final String ClientSessionCreated = "Counter:ClientSessionCreates";
     public static final String ClientSessionReleased = "Counter:ClientSessionReleases";
@@ -52,6 +56,20 @@ public interface SessionProfiler {
     public static final String CacheMisses = "Counter:CacheMisses";
     public static final String ChangeSetsProcessed = "Counter:ChangesProcessed";
     public static final String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
+    public static final String ConnectionPoolWaits = "Counter:ConnectionPoolWaits";
+    public static final String ConnectionPoolTimeouts = "Counter:ConnectionPoolTimeouts";
+    public static final String ConnectionLeaks = "Counter:ConnectionLeaks";
+    public static final String StatementCacheHits = "Counter:StatementCacheHits";
+    public static final String StatementCacheMisses = "Counter:StatementCacheMisses";
+    public static final String StatementCacheEvictions = "Counter:StatementCacheEvictions";
+    public static final String JPQLParseCacheHits = "Counter:JPQLParseCacheHits";
+    public static final String JPQLParseCacheMisses = "Counter:JPQLParseCacheMisses";
+    public static final String JPQLParseCacheEvictions = "Counter:JPQLParseCacheEvictions";
+    public static final String QueryCacheHits = "Counter:QueryCacheHits";
+    public static final String QueryCacheMisses = "Counter:QueryCacheMisses";
+    public static final String QueryCacheEvictions = "Counter:QueryCacheEvictions";
+    public static final String BatchFetchSizeIncreases = "Counter:BatchFetchSizeIncreases";
+    public static final String BatchFetchSizeDecreases = "Counter:BatchFetchSizeDecreases";
 
     public static final String DescriptorEvent = "Timer:DescriptorEvents";
     public static final String SessionEvent = "Timer:SessionEvents";
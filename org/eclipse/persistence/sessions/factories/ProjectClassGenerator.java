@@ -259,6 +259,8 @@ public class ProjectClassGenerator {
                 method.addLine("descriptor.useFullIdentityMap();");
             } else if (descriptor.shouldUseCacheIdentityMap()) {
                 method.addLine("descriptor.useCacheIdentityMap();");
+            } else if (descriptor.shouldUseConcurrentCacheIdentityMap()) {
+                method.addLine("descriptor.useConcurrentCacheIdentityMap();");
             } else if (descriptor.shouldUseSoftCacheWeakIdentityMap()) {
                 method.addLine("descriptor.useSoftCacheWeakIdentityMap();");
             } else if (descriptor.shouldUseHardCacheWeakIdentityMap()) {
@@ -0,0 +1,823 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A connection pool for high request rates.
+ * Connections are borrowed and returned without locking the pool.
+ * <p>
+ * <b>Responsibilities</b>:<ul>
+ * <li> Each thread first tries the connection it last used, then scans the shared list of connections,
+ * a connection is claimed by changing its state with a compare and set.
+ * <li> When the pool is exhausted the waiting threads are handed returned connections in the order they waited,
+ * if no connection is returned within the wait timeout a ConcurrencyException is thrown.
+ * <li> A background housekeeper validates and keeps alive idle connections, retires the connections
+ * idle longer than the idle timeout above the minimum, refills the pool to the minimum,
+ * and reports connections held longer than the leak detection threshold.
+ * <li> The number of connections in use, idle and waiting threads are reported to the session profiler.
+ * </ul>
+ * @see ConnectionPool
+ */
+public class ConcurrentConnectionPool extends ConnectionPool {
+    public static final long HOUSEKEEPING_INTERVAL = 1000 * 30; // 30 seconds.
+    public static final long IDLE_TIMEOUT = 1000 * 60 * 10; // 10 minutes.
+    public static final long KEEP_ALIVE_TIME = 1000 * 60 * 2; // 2 minutes.
+
+    /** Longest time a waiting thread sleeps before checking again if a connection can be built. */
+    protected static final long WAIT_SLICE = 1000;
+
+    /** All connections of the pool, the shared bag that borrowing threads scan. */
+    protected List<PooledConnection> connections;
+
+    /** Index of the connections by accessor for the return. */
+    protected Map<Accessor, PooledConnection> connectionsByAccessor;
+
+    /** Number of connections connected or being connected, never more than the max. */
+    protected AtomicInteger numberOfConnections;
+
+    /** The connection each thread last used, it is tried first on the next borrow. */
+    protected ThreadLocal<PooledConnection> lastUsedConnection;
+
+    /** The waiting threads in order, returned connections are handed to them directly. */
+    protected Queue<Waiter> waiters;
+
+    /** Number of threads waiting for a connection. */
+    protected AtomicInteger numberOfWaiters;
+
+    protected long housekeepingInterval;
+    protected long idleTimeout;
+    protected long keepAliveTime;
+    protected long leakDetectionThreshold;
+
+    /** The housekeeper of the current start up, null when the pool is shut down. */
+    protected volatile Housekeeper housekeeper;
+
+    protected AtomicLong acquireCount;
+    protected AtomicLong waitCount;
+    protected AtomicLong timeoutCount;
+    protected AtomicLong leakCount;
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool() {
+        this(null, null, null);
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, ServerSession owner) {
+        this(name, login, INITIAL_CONNECTIONS, MIN_CONNECTIONS, MAX_CONNECTIONS, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        this(name, login, Math.min(INITIAL_CONNECTIONS, minNumberOfConnections), minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int initialNumberOfConnections, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, initialNumberOfConnections, minNumberOfConnections, maxNumberOfConnections, owner);
+        this.waiters = new ConcurrentLinkedQueue<Waiter>();
+        this.numberOfWaiters = new AtomicInteger();
+        this.housekeepingInterval = HOUSEKEEPING_INTERVAL;
+        this.idleTimeout = IDLE_TIMEOUT;
+        this.keepAliveTime = KEEP_ALIVE_TIME;
+        this.acquireCount = new AtomicLong();
+        this.waitCount = new AtomicLong();
+        this.timeoutCount = new AtomicLong();
+        this.leakCount = new AtomicLong();
+    }
+
+    /**
+     * INTERNAL:
+     * Borrow a connection, waiting until one is returned if the pool is at its max.
+     */
+    @Override
+    public Accessor acquireConnection() throws ConcurrencyException {
+        // Check for dead database and fail-over.
+        if (this.isDead) {
+            return failover();
+        }
+        PooledConnection connection = borrowConnection();
+        if (this.checkConnections && (this.housekeeper == null)) {
+            // No housekeeper validates the idle connections, so validate them as they are borrowed.
+            connection = validateConnection(connection);
+        }
+        if (connection.accessor == null) {
+            // The database was found dead while building the connection.
+            return failover();
+        }
+        connection.borrowTime = System.currentTimeMillis();
+        connection.isLeakReported = false;
+        if (this.leakDetectionThreshold > 0) {
+            connection.borrower = Thread.currentThread();
+            connection.borrowTrace = new Exception();
+        }
+        this.lastUsedConnection.set(connection);
+        this.acquireCount.incrementAndGet();
+        if (this.owner.isInProfile()) {
+            updateProfile();
+        }
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection.accessor);
+        }
+        return connection.accessor;
+    }
+
+    /**
+     * Claim the last connection used by the thread, an available connection, or a new connection,
+     * waiting until one is returned if the pool is at its max.
+     * If the database is dead and fail-over pools are defined, the returned connection has no accessor.
+     */
+    protected PooledConnection borrowConnection() throws ConcurrencyException {
+        PooledConnection connection = this.lastUsedConnection.get();
+        if ((connection == null) || !connection.compareAndSetState(PooledConnection.AVAILABLE, PooledConnection.IN_USE)) {
+            connection = borrowAvailableConnection();
+            if (connection == null) {
+                connection = borrowNewConnection();
+                if (connection == null) {
+                    connection = waitForConnection();
+                }
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Validate the borrowed connection after a connection was found invalid, removing and replacing it if it is invalid,
+     * until a valid connection is borrowed, as the failure may have been specific to a connection or the database may have failed over.
+     */
+    protected PooledConnection validateConnection(PooledConnection connection) throws ConcurrencyException {
+        while (this.checkConnections && (connection.accessor != null)) {
+            if (!this.owner.getLogin().isConnectionHealthValidatedOnError() || isValid(connection.accessor)) {
+                // The connection is good, stop testing connections.
+                this.checkConnections = false;
+                break;
+            }
+            connection.state.set(PooledConnection.REMOVED);
+            removeConnection(connection);
+            connection = borrowConnection();
+        }
+        return connection;
+    }
+
+    /**
+     * Claim the first available connection of the pool, or return null if all are used.
+     */
+    protected PooledConnection borrowAvailableConnection() {
+        for (PooledConnection connection : this.connections) {
+            if (connection.compareAndSetState(PooledConnection.AVAILABLE, PooledConnection.IN_USE)) {
+                return connection;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Build a new connection in use if the pool is not at its max, otherwise return null.
+     * If the database is dead and fail-over pools are defined, the returned connection has no accessor.
+     */
+    protected PooledConnection borrowNewConnection() {
+        int size = this.numberOfConnections.get();
+        while (size < this.maxNumberOfConnections) {
+            if (this.numberOfConnections.compareAndSet(size, size + 1)) {
+                Accessor accessor = null;
+                try {
+                    accessor = buildConnection();
+                } catch (RuntimeException failed) {
+                    this.numberOfConnections.decrementAndGet();
+                    if (!this.failoverConnectionPools.isEmpty()) {
+                        this.isDead = true;
+                        this.timeOfDeath = System.currentTimeMillis();
+                        this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                        return new PooledConnection(null, PooledConnection.REMOVED);
+                    } else {
+                        throw failed;
+                    }
+                }
+                PooledConnection connection = new PooledConnection(accessor, PooledConnection.IN_USE);
+                this.connectionsByAccessor.put(accessor, connection);
+                this.connections.add(connection);
+                return connection;
+            }
+            size = this.numberOfConnections.get();
+        }
+        return null;
+    }
+
+    /**
+     * Wait for a connection to be handed off by a returning thread.
+     * Waiting threads are served in order, but a thread that has just returned
+     * its connection may borrow again before them.
+     */
+    protected PooledConnection waitForConnection() throws ConcurrencyException {
+        this.waitCount.incrementAndGet();
+        this.owner.incrementProfile(SessionProfiler.ConnectionPoolWaits);
+        long timeout = TimeUnit.MILLISECONDS.toNanos(this.waitTimeout);
+        long deadline = System.nanoTime() + timeout;
+        Waiter waiter = new Waiter(Thread.currentThread());
+        // Queue before scanning, so a concurrent return either is seen by the scan or is handed to this waiter.
+        this.waiters.add(waiter);
+        this.numberOfWaiters.incrementAndGet();
+        try {
+            while (true) {
+                PooledConnection connection = borrowAvailableConnection();
+                if (connection == null) {
+                    // A connection may have been retired or found invalid.
+                    connection = borrowNewConnection();
+                }
+                if (connection != null) {
+                    if (waiter.cancel()) {
+                        return connection;
+                    }
+                    // A connection was also handed to this waiter, keep it and return the other.
+                    if (connection.accessor != null) {
+                        makeAvailable(connection);
+                    }
+                    return waiter.connection.get();
+                }
+                long wait = TimeUnit.MILLISECONDS.toNanos(WAIT_SLICE);
+                if (timeout > 0) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        if (waiter.cancel()) {
+                            this.timeoutCount.incrementAndGet();
+                            this.owner.incrementProfile(SessionProfiler.ConnectionPoolTimeouts);
+                            throw ConcurrencyException.waitTimeoutOnConnectionPool(this.name, this.waitTimeout);
+                        }
+                        return waiter.connection.get();
+                    }
+                    wait = Math.min(wait, remaining);
+                }
+                LockSupport.parkNanos(this, wait);
+                connection = waiter.connection.get();
+                if (connection != null) {
+                    return connection;
+                }
+                if (Thread.interrupted()) {
+                    if (!waiter.cancel()) {
+                        makeAvailable(waiter.connection.get());
+                    }
+                    throw ConcurrencyException.waitFailureOnClientSession(new InterruptedException());
+                }
+            }
+        } finally {
+            if (waiter.connection.get() == Waiter.CANCELLED) {
+                // A waiter handed a connection was already polled from the queue.
+                this.waiters.remove(waiter);
+            }
+            this.numberOfWaiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connection to the pool, handing it to a waiting thread if there is one.
+     */
+    @Override
+    public void releaseConnection(Accessor accessor) throws DatabaseException {
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, accessor);
+        }
+        accessor.reset();
+        PooledConnection connection = this.connectionsByAccessor.get(accessor);
+        if (connection == null) {
+            // The pool was shut down while the connection was in use.
+            try {
+                accessor.disconnect(this.owner);
+            } catch (DatabaseException ex) {
+                // Ignore.
+            }
+            return;
+        }
+        connection.borrower = null;
+        connection.borrowTrace = null;
+        connection.lastAccessTime = System.currentTimeMillis();
+        if (!accessor.isValid()) {
+            // Validate the idle connections now, instead of on the next borrow.
+            if (connection.compareAndSetState(PooledConnection.IN_USE, PooledConnection.REMOVED)) {
+                removeConnection(connection);
+            }
+            setCheckConnections();
+        } else {
+            makeAvailable(connection);
+        }
+        if (this.owner.isInProfile()) {
+            updateProfile();
+        }
+    }
+
+    /**
+     * Hand the connection to the first waiting thread, or make it available if no thread is waiting.
+     * The connection must be claimed by the caller.
+     */
+    protected void makeAvailable(PooledConnection connection) {
+        connection.state.set(PooledConnection.IN_USE);
+        while (true) {
+            Waiter waiter = this.waiters.poll();
+            while (waiter != null) {
+                if (waiter.connection.compareAndSet(null, connection)) {
+                    LockSupport.unpark(waiter.thread);
+                    return;
+                }
+                waiter = this.waiters.poll();
+            }
+            connection.state.set(PooledConnection.AVAILABLE);
+            // A thread may have queued after the poll and scanned before the connection was available.
+            if (this.waiters.isEmpty() || !connection.compareAndSetState(PooledConnection.AVAILABLE, PooledConnection.IN_USE)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Disconnect and remove the connection, it must have been claimed with the REMOVED state.
+     */
+    protected void removeConnection(PooledConnection connection) {
+        this.connections.remove(connection);
+        this.connectionsByAccessor.remove(connection.accessor);
+        this.numberOfConnections.decrementAndGet();
+        try {
+            connection.accessor.disconnect(this.owner);
+        } catch (DatabaseException ex) {
+            // This is an invalid or retired connection so ignore.
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the connection responds to the platform's ping.
+     */
+    protected boolean isValid(Accessor accessor) {
+        return accessor.isValid() && !this.owner.getServerPlatform().wasFailureCommunicationBased(null, accessor, this.owner);
+    }
+
+    /**
+     * INTERNAL:
+     * Validate all idle connections on the next housekeeping, which is run now,
+     * or on the next borrows if the housekeeper is disabled.
+     */
+    @Override
+    public void setCheckConnections() {
+        this.checkConnections = true;
+        Housekeeper housekeeper = this.housekeeper;
+        if (housekeeper != null) {
+            housekeeper.wakeUp();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Validate, keep alive and retire the idle connections, report leaked connections
+     * and refill the pool to its minimum.
+     */
+    public void housekeep() {
+        boolean validateAll = this.checkConnections;
+        this.checkConnections = false;
+        long now = System.currentTimeMillis();
+        for (PooledConnection connection : this.connections) {
+            if (connection.state.get() == PooledConnection.IN_USE) {
+                if ((this.leakDetectionThreshold > 0) && !connection.isLeakReported && ((now - connection.borrowTime) > this.leakDetectionThreshold)) {
+                    reportLeak(connection, now);
+                }
+            } else if (connection.compareAndSetState(PooledConnection.AVAILABLE, PooledConnection.RESERVED)) {
+                long idle = now - connection.lastAccessTime;
+                if ((idle > this.idleTimeout) && (this.numberOfConnections.get() > this.minNumberOfConnections)) {
+                    connection.state.set(PooledConnection.REMOVED);
+                    removeConnection(connection);
+                } else if ((validateAll || (idle > this.keepAliveTime)) && !isValid(connection.accessor)) {
+                    connection.state.set(PooledConnection.REMOVED);
+                    removeConnection(connection);
+                } else {
+                    if (idle > this.keepAliveTime) {
+                        // The validation ping kept the connection alive.
+                        connection.lastAccessTime = now;
+                    }
+                    makeAvailable(connection);
+                }
+            }
+        }
+        while (this.isConnected && (this.numberOfConnections.get() < this.minNumberOfConnections)) {
+            try {
+                PooledConnection connection = borrowNewConnection();
+                if ((connection == null) || (connection.accessor == null)) {
+                    break;
+                }
+                connection.lastAccessTime = now;
+                makeAvailable(connection);
+            } catch (RuntimeException failed) {
+                this.owner.logThrowable(SessionLog.WARNING, SessionLog.CONNECTION, failed);
+                break;
+            }
+        }
+        if (this.owner.isInProfile()) {
+            updateProfile();
+        }
+    }
+
+    /**
+     * Log the connection held longer than the leak detection threshold, with where it was borrowed.
+     */
+    protected void reportLeak(PooledConnection connection, long now) {
+        connection.isLeakReported = true;
+        this.leakCount.incrementAndGet();
+        this.owner.incrementProfile(SessionProfiler.ConnectionLeaks);
+        if (this.owner.shouldLog(SessionLog.WARNING, SessionLog.CONNECTION)) {
+            Thread borrower = connection.borrower;
+            Object[] args = new Object[3];
+            args[0] = this.name;
+            args[1] = (borrower == null) ? null : borrower.getName();
+            args[2] = Long.valueOf(now - connection.borrowTime);
+            this.owner.log(SessionLog.WARNING, SessionLog.CONNECTION, "connection_leak_detected", args, connection.accessor);
+            Exception trace = connection.borrowTrace;
+            if (trace != null) {
+                this.owner.logThrowable(SessionLog.WARNING, SessionLog.CONNECTION, trace);
+            }
+        }
+    }
+
+    /**
+     * Update the number of connections in use, idle and of waiting threads in the session profiler.
+     */
+    protected void updateProfile() {
+        int used = 0;
+        int idle = 0;
+        for (PooledConnection connection : this.connections) {
+            if (connection.state.get() == PooledConnection.IN_USE) {
+                used++;
+            } else {
+                idle++;
+            }
+        }
+        this.owner.updateProfile(MONITOR_HEADER + this.name, Integer.valueOf(used));
+        this.owner.updateProfile(MONITOR_HEADER + this.name + ":Idle", Integer.valueOf(idle));
+        this.owner.updateProfile(MONITOR_HEADER + this.name + ":Waiting", Integer.valueOf(this.numberOfWaiters.get()));
+    }
+
+    /**
+     * INTERNAL:
+     * Return a snapshot of the connections currently available for use in the pool.
+     */
+    @Override
+    public List<Accessor> getConnectionsAvailable() {
+        return getConnections(PooledConnection.AVAILABLE);
+    }
+
+    /**
+     * Return a snapshot of the connections that are being used.
+     */
+    @Override
+    protected List<Accessor> getConnectionsUsed() {
+        return getConnections(PooledConnection.IN_USE);
+    }
+
+    /**
+     * Return the connections in the state.
+     */
+    protected List<Accessor> getConnections(int state) {
+        List<Accessor> accessors = new ArrayList<Accessor>();
+        for (PooledConnection connection : this.connections) {
+            if (connection.state.get() == state) {
+                accessors.add(connection.accessor);
+            }
+        }
+        return accessors;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of connections connected or being connected.
+     */
+    @Override
+    public int getTotalNumberOfConnections() {
+        return this.numberOfConnections.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Reset the connections on shutDown and when the pool is started.
+     */
+    @Override
+    public void resetConnections() {
+        super.resetConnections();
+        this.connections = new CopyOnWriteArrayList<PooledConnection>();
+        this.connectionsByAccessor = new ConcurrentHashMap<Accessor, PooledConnection>();
+        this.numberOfConnections = new AtomicInteger();
+        this.lastUsedConnection = new ThreadLocal<PooledConnection>();
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate the initial connections and start the housekeeper.
+     */
+    @Override
+    public void startUp() {
+        this.poolLock.lock();
+        try {
+            if (isConnected()) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            for (int index = getInitialNumberOfConnections(); index > 0; index--) {
+                PooledConnection connection = borrowNewConnection();
+                if ((connection == null) || (connection.accessor == null)) {
+                    break;
+                }
+                connection.lastAccessTime = now;
+                connection.state.set(PooledConnection.AVAILABLE);
+            }
+            setIsConnected(true);
+            if (this.housekeepingInterval > 0) {
+                Housekeeper housekeeper = new Housekeeper();
+                this.housekeeper = housekeeper;
+                // A dedicated daemon thread, as it runs for the life of the pool and must not keep the JVM alive.
+                Thread thread = new Thread(housekeeper, "EclipseLink ConnectionPool [" + this.name + "] housekeeper");
+                thread.setDaemon(true);
+                housekeeper.thread = thread;
+                thread.start();
+            }
+        } finally {
+            this.poolLock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Stop the housekeeper and disconnect all connections.
+     * Connections in use are disconnected when they are released.
+     */
+    @Override
+    public void shutDown() {
+        this.poolLock.lock();
+        try {
+            setIsConnected(false);
+            Housekeeper housekeeper = this.housekeeper;
+            this.housekeeper = null;
+            if (housekeeper != null) {
+                housekeeper.wakeUp();
+            }
+            for (PooledConnection connection : this.connections) {
+                if (connection.compareAndSetState(PooledConnection.AVAILABLE, PooledConnection.REMOVED)) {
+                    try {
+                        connection.accessor.disconnect(getOwner());
+                    } catch (DatabaseException exception) {
+                        // Ignore.
+                    }
+                }
+            }
+            resetConnections();
+        } finally {
+            this.poolLock.unlock();
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds between two runs of the housekeeper.
+     * The default is 30 seconds, a value of 0 disables the housekeeper.
+     */
+    public long getHousekeepingInterval() {
+        return housekeepingInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds between two runs of the housekeeper.
+     * The housekeeper validates and keeps alive the idle connections, retires the connections
+     * above the minimum that were idle longer than the idle timeout, refills the pool to its minimum
+     * and reports leaked connections.
+     * A value of 0 disables the housekeeper, so connections above the minimum are never retired.
+     */
+    public void setHousekeepingInterval(long housekeepingInterval) {
+        this.housekeepingInterval = housekeepingInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds a connection above the minimum can be idle before it is retired.
+     * The default is 10 minutes.
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds a connection above the minimum can be idle before it is retired.
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds after which an idle connection is validated,
+     * the validation ping also keeps the connection alive.
+     * The default is 2 minutes.
+     */
+    public long getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds after which an idle connection is validated.
+     */
+    public void setKeepAliveTime(long keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds a connection can be used before it is reported as leaked.
+     * The default is 0, which disables leak detection.
+     */
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds a connection can be used before it is reported as leaked.
+     * When enabled the stack of the borrowing thread is recorded on each borrow and logged with the report.
+     */
+    public void setLeakDetectionThreshold(long leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of connections borrowed since the pool was created.
+     */
+    public long getAcquireCount() {
+        return acquireCount.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of borrows that had to wait for a connection.
+     */
+    public long getWaitCount() {
+        return waitCount.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of borrows that timed out waiting for a connection.
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of connections reported as leaked.
+     */
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of threads currently waiting for a connection.
+     */
+    public int getNumberOfWaiters() {
+        return numberOfWaiters.get();
+    }
+
+    /**
+     * INTERNAL:
+     * A connection of the pool with its state.
+     */
+    protected static class PooledConnection {
+        public static final int AVAILABLE = 0;
+        public static final int IN_USE = 1;
+        /** Claimed by the housekeeper. */
+        public static final int RESERVED = 2;
+        /** Removed from the pool, it can never be borrowed again. */
+        public static final int REMOVED = 3;
+
+        protected final Accessor accessor;
+        protected final AtomicInteger state;
+        protected volatile long lastAccessTime;
+        protected volatile long borrowTime;
+        protected volatile Thread borrower;
+        protected volatile Exception borrowTrace;
+        protected volatile boolean isLeakReported;
+
+        protected PooledConnection(Accessor accessor, int state) {
+            this.accessor = accessor;
+            this.state = new AtomicInteger(state);
+        }
+
+        protected boolean compareAndSetState(int expected, int state) {
+            return this.state.compareAndSet(expected, state);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * A thread waiting for a connection, the returning thread sets the connection and unparks it.
+     */
+    protected static class Waiter {
+        protected static final PooledConnection CANCELLED = new PooledConnection(null, PooledConnection.REMOVED);
+
+        protected final Thread thread;
+        protected final AtomicReference<PooledConnection> connection;
+
+        protected Waiter(Thread thread) {
+            this.thread = thread;
+            this.connection = new AtomicReference<PooledConnection>();
+        }
+
+        /**
+         * Stop waiting, return false if a connection was handed to the waiter before.
+         */
+        protected boolean cancel() {
+            return this.connection.compareAndSet(null, CANCELLED);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Runs the housekeeping of the pool on its own daemon thread until the pool is shut down.
+     */
+    protected class Housekeeper implements Runnable {
+        protected volatile Thread thread;
+
+        public void run() {
+            long interval = TimeUnit.MILLISECONDS.toNanos(housekeepingInterval);
+            while (housekeeper == this) {
+                // Connections to check are validated without waiting for the interval.
+                if (!checkConnections) {
+                    LockSupport.parkNanos(this, interval);
+                }
+                if (housekeeper != this) {
+                    return;
+                }
+                try {
+                    housekeep();
+                } catch (RuntimeException failed) {
+                    owner.logThrowable(SessionLog.WARNING, SessionLog.CONNECTION, failed);
+                }
+            }
+        }
+
+        /**
+         * Run the housekeeping now, or stop if the pool was shut down.
+         */
+        public void wakeUp() {
+            Thread thread = this.thread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+}
@@ -15,6 +15,9 @@
 package org.eclipse.persistence.sessions.server;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.persistence.internal.databaseaccess.*;
 import org.eclipse.persistence.sessions.Login;
@@ -46,6 +49,13 @@ public class ConnectionPool {
     protected volatile long deadCheckTime;
     protected volatile boolean isDead;
     protected List<String> failoverConnectionPools;
+    /**
+     * Guards the pool state, a java.util.concurrent lock is used instead of the pool's monitor
+     * so a thread waiting for a connection does not pin its carrier when it is a virtual thread.
+     */
+    protected final ReentrantLock poolLock = new ReentrantLock();
+    /** Signaled when a connection is released to the pool. */
+    protected final Condition connectionReleased = this.poolLock.newCondition();
 
     public static final long DEAD_CHECK_TIME = 1000 * 60 * 10; // 10 minutes.
     public static final int MAX_CONNECTIONS = 32;
@@ -125,88 +135,98 @@ public class ConnectionPool {
      * INTERNAL:
      * Wait until a connection is available and allocate the connection for the client.
      */
-    public synchronized Accessor acquireConnection() throws ConcurrencyException {
-        // Check for dead database and fail-over.
-        if (this.isDead) {
-            return failover();
-        }
-        // PERF: Using direct variable access to minimize concurrency bottleneck.
-        while (this.connectionsAvailable.isEmpty()) {
-            if ((this.connectionsUsed.size() + this.connectionsAvailable.size()) < this.maxNumberOfConnections) {
-                Accessor connection = null;
+    public Accessor acquireConnection() throws ConcurrencyException {
+        this.poolLock.lock();
+        try {
+            // Check for dead database and fail-over.
+            if (this.isDead) {
+                return failover();
+            }
+            // PERF: Using direct variable access to minimize concurrency bottleneck.
+            while (this.connectionsAvailable.isEmpty()) {
+                if ((this.connectionsUsed.size() + this.connectionsAvailable.size()) < this.maxNumberOfConnections) {
+                    Accessor connection = null;
+                    try {
+                        connection = buildConnection();
+                    } catch (RuntimeException failed) {
+                        if (!this.failoverConnectionPools.isEmpty()) {
+                            this.isDead = true;
+                            this.timeOfDeath = System.currentTimeMillis();
+                            this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                            return acquireConnection();
+                        } else {
+                            throw failed;
+                        }
+                    }
+                    this.connectionsUsed.add(connection);
+                    if (this.owner.isInProfile()) {
+                        this.owner.updateProfile(MONITOR_HEADER + this.name, Integer.valueOf(this.connectionsUsed.size()));
+                    }
+                    if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+                        Object[] args = new Object[1];
+                        args[0] = this.name;
+                        this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
+                    }
+                    return connection;
+                }
                 try {
-                    connection = buildConnection();
-                } catch (RuntimeException failed) {
-                    if (!this.failoverConnectionPools.isEmpty()) {
-                        this.isDead = true;
-                        this.timeOfDeath = System.currentTimeMillis();
-                        this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
-                        return acquireConnection();
+                    // Signal is called when connections are released.
+                    if (this.waitTimeout == 0) {
+                        this.connectionReleased.await();
                     } else {
-                        throw failed;
+                        this.connectionReleased.await(this.waitTimeout, TimeUnit.MILLISECONDS);
                     }
+                } catch (InterruptedException exception) {
+                    throw ConcurrencyException.waitFailureOnClientSession(exception);
                 }
-                this.connectionsUsed.add(connection);
-                if (this.owner.isInProfile()) {
-                    this.owner.updateProfile(MONITOR_HEADER + this.name, Integer.valueOf(this.connectionsUsed.size()));
-                }
-                if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
-                    Object[] args = new Object[1];
-                    args[0] = this.name;
-                    this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
-                }
-                return connection;
-            }
-            try {
-                wait(this.waitTimeout);// Notify is called when connections are released.
-            } catch (InterruptedException exception) {
-                throw ConcurrencyException.waitFailureOnClientSession(exception);
             }
-        }
 
-        int connectionSize = this.connectionsAvailable.size();
-        // Always used the last connection to avoid shift list and to use "hot" connection.
-        Accessor connection = this.connectionsAvailable.remove(connectionSize-1);
-        if (this.checkConnections) {
-            // EclipseLink has encountered a problem with a connection where the database no longer responded
-            // We need to now ensure that the failure was specific to that connection or we need to empty
-            // the pool of dead connections in the case of a database failover.
-            while (connectionSize >= 0) {
-                if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
-                    try {
-                        //connection failed connect test
-                        connection.closeConnection();
-                    } catch (Exception ex){
-                        //ignore
-                    } finally {
-                        connection.releaseCustomizer();
-                    }
-                    if (this.connectionsAvailable.isEmpty()) {
-                        this.checkConnections = false;
-                        //we have emptied out all connections so let's have the connection pool build more
-                        return acquireConnection();
+            int connectionSize = this.connectionsAvailable.size();
+            // Always used the last connection to avoid shift list and to use "hot" connection.
+            Accessor connection = this.connectionsAvailable.remove(connectionSize-1);
+            if (this.checkConnections) {
+                // EclipseLink has encountered a problem with a connection where the database no longer responded
+                // We need to now ensure that the failure was specific to that connection or we need to empty
+                // the pool of dead connections in the case of a database failover.
+                while (connectionSize >= 0) {
+                    if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
+                        try {
+                            //connection failed connect test
+                            connection.closeConnection();
+                        } catch (Exception ex){
+                            //ignore
+                        } finally {
+                            connection.releaseCustomizer();
+                        }
+                        if (this.connectionsAvailable.isEmpty()) {
+                            this.checkConnections = false;
+                            //we have emptied out all connections so let's have the connection pool build more
+                            return acquireConnection();
+                        } else {
+                            //test next connection
+                            --connectionSize;
+                            connection = this.connectionsAvailable.remove(connectionSize-1);
+                        }
                     } else {
-                        //test next connection
-                        --connectionSize;
-                        connection = this.connectionsAvailable.remove(connectionSize-1);
+                        //connection was good use it.  And make sure we stop testing connections
+                        this.checkConnections = false;
+                        break;
                     }
-                } else {
-                    //connection was good use it.  And make sure we stop testing connections
-                    this.checkConnections = false;
-                    break;
                 }
             }
+            this.connectionsUsed.add(connection);
+            if (this.owner.isInProfile()) {
+                this.owner.updateProfile(MONITOR_HEADER + this.name, Integer.valueOf(this.connectionsUsed.size()));
+            }
+            if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+                Object[] args = new Object[1];
+                args[0] = this.name;
+                this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
+            }
+            return connection;
+        } finally {
+            this.poolLock.unlock();
         }
-        this.connectionsUsed.add(connection);
-        if (this.owner.isInProfile()) {
-            this.owner.updateProfile(MONITOR_HEADER + this.name, Integer.valueOf(this.connectionsUsed.size()));
-        }
-        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
-            Object[] args = new Object[1];
-            args[0] = this.name;
-            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
-        }
-        return connection;
     }
 
     /**
@@ -323,34 +343,39 @@ public class ConnectionPool {
      * INTERNAL:
      * Add the connection as single that a new connection is available.
      */
-    public synchronized void releaseConnection(Accessor connection) throws DatabaseException {
-        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
-            Object[] args = new Object[1];
-            args[0] = this.name;
-            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
-        }
-        connection.reset();
+    public void releaseConnection(Accessor connection) throws DatabaseException {
+        this.poolLock.lock();
+        try {
+            if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+                Object[] args = new Object[1];
+                args[0] = this.name;
+                this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
+            }
+            connection.reset();
 
-        this.connectionsUsed.remove(connection);
+            this.connectionsUsed.remove(connection);
 
-        if (!connection.isValid()) {
-            this.checkConnections = true;
-            try {
-                connection.disconnect(this.owner);
-            } catch (DatabaseException ex) {
-                //this is an invalid connection so expect an exception.
-            }
-        } else {
-            if ((this.connectionsUsed.size() + this.connectionsAvailable.size()) < this.minNumberOfConnections) {
-                this.connectionsAvailable.add(connection);
+            if (!connection.isValid()) {
+                this.checkConnections = true;
+                try {
+                    connection.disconnect(this.owner);
+                } catch (DatabaseException ex) {
+                    //this is an invalid connection so expect an exception.
+                }
             } else {
-                connection.disconnect(getOwner());
+                if ((this.connectionsUsed.size() + this.connectionsAvailable.size()) < this.minNumberOfConnections) {
+                    this.connectionsAvailable.add(connection);
+                } else {
+                    connection.disconnect(getOwner());
+                }
             }
+            if (this.owner.isInProfile()) {
+                this.owner.updateProfile(MONITOR_HEADER + this.name, Integer.valueOf(this.connectionsUsed.size()));
+            }
+            this.connectionReleased.signal();
+        } finally {
+            this.poolLock.unlock();
         }
-        if (this.owner.isInProfile()) {
-            this.owner.updateProfile(MONITOR_HEADER + this.name, Integer.valueOf(this.connectionsUsed.size()));
-        }
-        notify();
     }
 
     /**
@@ -474,40 +499,50 @@ public class ConnectionPool {
      * INTERNAL:
      * Disconnect all connections.
      */
-    public synchronized void shutDown() {
-        setIsConnected(false);
+    public void shutDown() {
+        this.poolLock.lock();
+        try {
+            setIsConnected(false);
 
-        for (Iterator iterator = getConnectionsAvailable().iterator(); iterator.hasNext();) {
-            try {
-                ((Accessor)iterator.next()).disconnect(getOwner());
-            } catch (DatabaseException exception) {
-                // Ignore.
+            for (Iterator iterator = getConnectionsAvailable().iterator(); iterator.hasNext();) {
+                try {
+                    ((Accessor)iterator.next()).disconnect(getOwner());
+                } catch (DatabaseException exception) {
+                    // Ignore.
+                }
             }
-        }
 
-        for (Iterator iterator = getConnectionsUsed().iterator(); iterator.hasNext();) {
-            try {
-                ((Accessor)iterator.next()).disconnect(getOwner());
-            } catch (DatabaseException exception) {
-                // Ignore.
+            for (Iterator iterator = getConnectionsUsed().iterator(); iterator.hasNext();) {
+                try {
+                    ((Accessor)iterator.next()).disconnect(getOwner());
+                } catch (DatabaseException exception) {
+                    // Ignore.
+                }
             }
+            resetConnections();
+        } finally {
+            this.poolLock.unlock();
         }
-        resetConnections();
     }
 
     /**
      * INTERNAL:
      * Allocate the minimum connections.
      */
-    public synchronized void startUp() {
-        if (isConnected()) {
-            return;
-        }
-        for (int index = getInitialNumberOfConnections(); index > 0; index--) {
-            getConnectionsAvailable().add(buildConnection());
-        }
+    public void startUp() {
+        this.poolLock.lock();
+        try {
+            if (isConnected()) {
+                return;
+            }
+            for (int index = getInitialNumberOfConnections(); index > 0; index--) {
+                getConnectionsAvailable().add(buildConnection());
+            }
 
-        setIsConnected(true);
+            setIsConnected(true);
+        } finally {
+            this.poolLock.unlock();
+        }
     }
 
     /**
@@ -134,9 +134,14 @@ public class ExternalConnectionPool extends ConnectionPool {
      * INTERNAL:
      * This mehtod is a no-op for external pools.
      */
-    public synchronized void shutDown() {
-        //do nothing
-        setIsConnected(false);
+    public void shutDown() {
+        this.poolLock.lock();
+        try {
+            //do nothing
+            setIsConnected(false);
+        } finally {
+            this.poolLock.unlock();
+        }
     }
 
     /**
@@ -144,8 +149,13 @@ public class ExternalConnectionPool extends ConnectionPool {
      * Build the default connection.
      * This validates that connect will work and sets up the parent accessor to clone.
      */
-    public synchronized void startUp() {
-        setCachedConnection(buildConnection());
-        setIsConnected(true);
+    public void startUp() {
+        this.poolLock.lock();
+        try {
+            setCachedConnection(buildConnection());
+            setIsConnected(true);
+        } finally {
+            this.poolLock.unlock();
+        }
     }
 }
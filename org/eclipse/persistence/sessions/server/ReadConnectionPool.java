@@ -64,75 +64,80 @@ public class ReadConnectionPool extends ConnectionPool {
      * INTERNAL:
      * Wait until a connection is available and allocate the connection for the client.
      */
-    public synchronized Accessor acquireConnection() throws ConcurrencyException {
-        // Check for dead database and fail-over.
-        if (this.isDead) {
-            return failover();
-        }
-        Accessor leastBusyConnection = null;
+    public Accessor acquireConnection() throws ConcurrencyException {
+        this.poolLock.lock();
+        try {
+            // Check for dead database and fail-over.
+            if (this.isDead) {
+                return failover();
+            }
+            Accessor leastBusyConnection = null;
 
-        // Search for an unused connection, also find the least busy in case all are used.
-        int size = this.connectionsAvailable.size();
-        for (int index = 0; index < size; index++) {
-            Accessor connection = this.connectionsAvailable.get(index);
-            //if the pool has encountered a connection failure on one of the accessors lets test the others.
-            if (this.checkConnections){
-                if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)){
-                    this.connectionsAvailable.remove(index);
-                    try {
-                        //connection failed connect test
-                        connection.closeConnection();
-                    } catch (Exception ex){
-                        //ignore
-                    } finally {
-                        connection.releaseCustomizer();
+            // Search for an unused connection, also find the least busy in case all are used.
+            int size = this.connectionsAvailable.size();
+            for (int index = 0; index < size; index++) {
+                Accessor connection = this.connectionsAvailable.get(index);
+                //if the pool has encountered a connection failure on one of the accessors lets test the others.
+                if (this.checkConnections){
+                    if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)){
+                        this.connectionsAvailable.remove(index);
+                        try {
+                            //connection failed connect test
+                            connection.closeConnection();
+                        } catch (Exception ex){
+                            //ignore
+                        } finally {
+                            connection.releaseCustomizer();
+                        }
+                        //reset index as we just removed a connection and should check at the same index again
+                        --index;
+                        //reset size as there are one less connection in the pool now.
+                        --size;
+                        continue; //skip back to beginning of loop
+                    } else {
+                        this.checkConnections = false;
                     }
-                    //reset index as we just removed a connection and should check at the same index again
-                    --index;
-                    //reset size as there are one less connection in the pool now.
-                    --size;
-                    continue; //skip back to beginning of loop
-                } else {
-                    this.checkConnections = false;
+                }
+                if (connection.getCallCount() == 0) {
+                    leastBusyConnection = connection;
+                    break;
+                }
+                if ((leastBusyConnection == null) || (leastBusyConnection.getCallCount() > connection.getCallCount())) {
+                    leastBusyConnection = connection;
                 }
             }
-            if (connection.getCallCount() == 0) {
-                leastBusyConnection = connection;
-                break;
-            }
-            if ((leastBusyConnection == null) || (leastBusyConnection.getCallCount() > connection.getCallCount())) {
-                leastBusyConnection = connection;
-            }
-        }
 
-        // If still not at max, add a new connection.
-        if (((leastBusyConnection == null) || (leastBusyConnection.getCallCount() != 0))
-                    && (this.connectionsAvailable.size() + this.connectionsUsed.size()) < this.maxNumberOfConnections) {
-            Accessor connection = null;
-            try {
-                connection = buildConnection();
-            } catch (RuntimeException failed) {
-                if (!this.failoverConnectionPools.isEmpty()) {
-                    this.isDead = true;
-                    this.timeOfDeath = System.currentTimeMillis();
-                    this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
-                    return acquireConnection();
-                } else {
-                    throw failed;
+            // If still not at max, add a new connection.
+            if (((leastBusyConnection == null) || (leastBusyConnection.getCallCount() != 0))
+                        && (this.connectionsAvailable.size() + this.connectionsUsed.size()) < this.maxNumberOfConnections) {
+                Accessor connection = null;
+                try {
+                    connection = buildConnection();
+                } catch (RuntimeException failed) {
+                    if (!this.failoverConnectionPools.isEmpty()) {
+                        this.isDead = true;
+                        this.timeOfDeath = System.currentTimeMillis();
+                        this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                        return acquireConnection();
+                    } else {
+                        throw failed;
+                    }
                 }
+                this.connectionsAvailable.add(connection);
+                leastBusyConnection = connection;
             }
-            this.connectionsAvailable.add(connection);
-            leastBusyConnection = connection;
-        }
 
-        // Use the least busy connection.
-        leastBusyConnection.incrementCallCount(getOwner());
-        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
-            Object[] args = new Object[1];
-            args[0] = this.name;
-            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, leastBusyConnection);
+            // Use the least busy connection.
+            leastBusyConnection.incrementCallCount(getOwner());
+            if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+                Object[] args = new Object[1];
+                args[0] = this.name;
+                this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, leastBusyConnection);
+            }
+            return leastBusyConnection;
+        } finally {
+            this.poolLock.unlock();
         }
-        return leastBusyConnection;
     }
 
     /**
@@ -147,21 +152,26 @@ public class ReadConnectionPool extends ConnectionPool {
      * INTERNAL:
      * Because connections are not exclusive nothing is required.
      */
-    public synchronized void releaseConnection(Accessor connection) throws DatabaseException {
-        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
-            Object[] args = new Object[1];
-            args[0] = this.name;
-            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
-        }
-        connection.decrementCallCount();
-        if (!connection.isValid()){
-            this.checkConnections = true;
-            this.connectionsAvailable.remove(connection);
-            try{
-                connection.disconnect(getOwner());
-            }catch (Exception ex){
-                //ignore
+    public void releaseConnection(Accessor connection) throws DatabaseException {
+        this.poolLock.lock();
+        try {
+            if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+                Object[] args = new Object[1];
+                args[0] = this.name;
+                this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
+            }
+            connection.decrementCallCount();
+            if (!connection.isValid()){
+                this.checkConnections = true;
+                this.connectionsAvailable.remove(connection);
+                try{
+                    connection.disconnect(getOwner());
+                }catch (Exception ex){
+                    //ignore
+                }
             }
+        } finally {
+            this.poolLock.unlock();
         }
     }
 }
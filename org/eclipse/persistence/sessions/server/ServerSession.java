@@ -26,6 +26,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.ConcurrencyException;
@@ -80,6 +82,13 @@ public class ServerSession extends DatabaseSessionImpl implements Server {
     protected ConnectionPolicy defaultConnectionPolicy;
     protected int numberOfNonPooledConnectionsUsed;
     protected int maxNumberOfNonPooledConnections;
+    /**
+     * Guards the non-pooled connection count, a java.util.concurrent lock is used instead of the session's monitor
+     * so a thread waiting for a connection does not pin its carrier when it is a virtual thread.
+     */
+    protected final ReentrantLock nonPooledConnectionLock = new ReentrantLock();
+    /** Signaled when a non-pooled connection is released. */
+    protected final Condition nonPooledConnectionReleased = this.nonPooledConnectionLock.newCondition();
 
     public static final int NO_MAX = -1;
     public static final String DEFAULT_POOL = "default";
@@ -271,15 +280,18 @@ public class ServerSession extends DatabaseSessionImpl implements Server {
             clientSession.addWriteConnection(pool.getName(), accessor);
         } else {
             if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                synchronized (this) {
+                this.nonPooledConnectionLock.lock();
+                try {
                     while (this.numberOfNonPooledConnectionsUsed >= this.maxNumberOfNonPooledConnections) {
                         try {
-                            wait();// Notify is called when connections are released.
+                            this.nonPooledConnectionReleased.await();// Signal is called when connections are released.
                         } catch (InterruptedException exception) {
                             throw ConcurrencyException.waitFailureOnServerSession(exception);
                         }
                     }
                     this.numberOfNonPooledConnectionsUsed++;
+                } finally {
+                    this.nonPooledConnectionLock.unlock();
                 }
             }
             try {
@@ -290,9 +302,12 @@ public class ServerSession extends DatabaseSessionImpl implements Server {
                 // A DatabaseException was thrown, undo the numberOfNonPooledConnectionsUsed counter increment otherwise
                 // the counter will be out of synch with the actual number of connections.
                 if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                    synchronized (this) {
+                    this.nonPooledConnectionLock.lock();
+                    try {
                         this.numberOfNonPooledConnectionsUsed--;
-                        notify();
+                        this.nonPooledConnectionReleased.signal();
+                    } finally {
+                        this.nonPooledConnectionLock.unlock();
                     }
                 }
                 throw dbe;
@@ -836,9 +851,12 @@ public class ServerSession extends DatabaseSessionImpl implements Server {
                     }
                     } finally {
                     if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                        synchronized (this) {
+                        this.nonPooledConnectionLock.lock();
+                        try {
                             this.numberOfNonPooledConnectionsUsed--;
-                            notify();
+                            this.nonPooledConnectionReleased.signal();
+                        } finally {
+                            this.nonPooledConnectionLock.unlock();
                         }
                     }
                 }
@@ -879,9 +897,12 @@ public class ServerSession extends DatabaseSessionImpl implements Server {
             }
             clientSession.setWriteConnections(null);
             if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                synchronized (this) {
+                this.nonPooledConnectionLock.lock();
+                try {
                     this.numberOfNonPooledConnectionsUsed--;
-                    notify();
+                    this.nonPooledConnectionReleased.signal();
+                } finally {
+                    this.nonPooledConnectionLock.unlock();
                 }
             }
         }
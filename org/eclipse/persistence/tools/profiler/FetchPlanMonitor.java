@@ -0,0 +1,512 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.io.Serializable;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p><b>Purpose</b>: Detect N+1 lazy loading, and suggest fetch plan changes for the queries causing it.
+ * <p>
+ * Each object read query executed by a session (that is not itself a lazy load) is a root query execution.
+ * The lazy relationships of the objects it reads are tagged with the execution, and each time one of them executes
+ * a query to load the relationship, the load and its time are recorded against the root query and the relationship path.
+ * The objects read by a lazy load are tagged with the same execution, so nested loads are recorded with their full path
+ * (i.e. "manager.address").
+ * An execution that loads the same relationship path {@link #getThreshold()} or more times is an N+1 execution.
+ * <p>
+ * For each root query and relationship path with N+1 executions the report suggests a join fetch for a to-one relationship,
+ * batch fetching for a to-many relationship, or a load group for a nested relationship.
+ * <p>
+ * The monitor is used through a PerformanceMonitor, it is enabled through the System property
+ * "org.eclipse.persistence.fetchplanmonitor=true" or {@link PerformanceMonitor#setFetchPlanMonitor(FetchPlanMonitor)},
+ * and its report is included when the PerformanceMonitor dumps its results.
+ *
+ * @see PerformanceMonitor
+ */
+public class FetchPlanMonitor implements Serializable {
+
+    /** The number of loads of a relationship by the same root query execution that are an N+1 pattern. */
+    protected int threshold;
+
+    /** The statistics of each root query and relationship path, keyed by query name and path. */
+    protected ConcurrentHashMap<String, LazyLoadStatistics> statistics;
+
+    /** The origin of the objects built by the current thread, null if not in a root query execution or lazy load. */
+    protected transient ThreadLocal<Origin> currentOrigin;
+
+    /**
+     * PUBLIC:
+     * Create a new monitor.
+     */
+    public FetchPlanMonitor() {
+        this.threshold = 5;
+        this.statistics = new ConcurrentHashMap<>();
+        this.currentOrigin = new ThreadLocal<>();
+    }
+
+    /**
+     * Return if the monitor is enabled through the System property "org.eclipse.persistence.fetchplanmonitor".
+     */
+    public static boolean shouldMonitor() {
+        String property = PrivilegedAccessHelper.getSystemProperty("org.eclipse.persistence.fetchplanmonitor");
+        return (property != null) && property.toUpperCase().equals("TRUE");
+    }
+
+    /**
+     * INTERNAL:
+     * Return the monitor of the session's profiler, or null if the session is not monitoring fetch plans.
+     */
+    public static FetchPlanMonitor getMonitor(AbstractSession session) {
+        if ((session == null) || !session.isInProfile()) {
+            return null;
+        }
+        SessionProfiler profiler = session.getProfiler();
+        if (profiler instanceof PerformanceMonitor) {
+            return ((PerformanceMonitor)profiler).getFetchPlanMonitor();
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the origin to tag a lazy relationship created by the session's current thread with,
+     * or null if the session is not monitoring fetch plans, or not in a root query execution or lazy load.
+     */
+    public static Origin getCurrentOrigin(AbstractSession session) {
+        FetchPlanMonitor monitor = getMonitor(session);
+        if (monitor == null) {
+            return null;
+        }
+        return monitor.currentOrigin.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Start the execution of the query, return the current thread's previous origin to restore once executed.
+     * The query is a root query execution if it reads objects and the thread is not in a root query execution or lazy load.
+     */
+    public Origin startQuery(DatabaseQuery query) {
+        Origin previous = this.currentOrigin.get();
+        if ((previous == null) && query.isObjectLevelReadQuery()) {
+            this.currentOrigin.set(new Origin(this, new Execution(query.getMonitorName())));
+        }
+        return previous;
+    }
+
+    /**
+     * INTERNAL:
+     * End the execution of the query, restoring the current thread's previous origin.
+     * If the query was a root query execution it is no longer active.
+     */
+    public void endQuery(Origin previous) {
+        if (previous == null) {
+            Origin root = this.currentOrigin.get();
+            if (root != null) {
+                root.getExecution().setIsActive(false);
+            }
+        }
+        setCurrentOrigin(previous);
+    }
+
+    /**
+     * INTERNAL:
+     * Start the load of the relationship of an object read with the origin, return the current thread's previous origin
+     * to restore once loaded.
+     * If the thread is in a root query execution or lazy load the relationship is loaded as part of it,
+     * otherwise with the relationship's origin if its root query execution is still active.
+     * An object read by a root query execution can be in the shared cache and loaded long after by unrelated code,
+     * so once the execution has ended its loads are only recorded through the unit of work relationships of its clones.
+     * The objects read by the load have the relationship's path.
+     */
+    public Origin startLazyLoad(Origin origin, DatabaseMapping mapping) {
+        Origin previous = this.currentOrigin.get();
+        if ((previous != null) && previous.isInstantiating() && previous.getMapping().getAttributeName().equals(mapping.getAttributeName())) {
+            // Loaded for the unit of work relationship being instantiated, the mappings differ for inherited mappings.
+            this.currentOrigin.set(new Origin(this, previous.getExecution(), mapping, previous.getPath(), false));
+            return previous;
+        }
+        if (previous != null) {
+            origin = previous;
+        } else if ((origin != null) && !origin.getExecution().isActive()) {
+            origin = null;
+        }
+        if (origin != null) {
+            this.currentOrigin.set(origin.buildLoadOrigin(mapping, false));
+        }
+        return previous;
+    }
+
+    /**
+     * INTERNAL:
+     * End the load of the relationship, recording it, and restoring the current thread's previous origin.
+     * Nothing is recorded if the relationship had no origin.
+     */
+    public void endLazyLoad(Origin previous, long time) {
+        Origin load = this.currentOrigin.get();
+        setCurrentOrigin(previous);
+        if ((load == null) || (load == previous)) {
+            return;
+        }
+        int loads = load.getExecution().recordLoad(load.getPath());
+        String key = load.getExecution().getQueryName() + "\t" + load.getPath();
+        LazyLoadStatistics statistic = this.statistics.get(key);
+        if (statistic == null) {
+            statistic = new LazyLoadStatistics(load.getExecution().getQueryName(), load.getPath(), load.getMapping());
+            LazyLoadStatistics existing = this.statistics.putIfAbsent(key, statistic);
+            if (existing != null) {
+                statistic = existing;
+            }
+        }
+        statistic.recordLoad(loads, this.threshold, time);
+    }
+
+    /**
+     * INTERNAL:
+     * Start the instantiation of a unit of work relationship of an object read with the origin,
+     * return the current thread's previous origin to restore once instantiated.
+     * The relationship is loaded by the value holder it wraps, which may have been tagged by an earlier root query execution
+     * that read the object into the shared cache, so is loaded with the unit of work relationship's origin.
+     * The clones of the objects loaded have the relationship's path.
+     */
+    public Origin startInstantiation(Origin origin, DatabaseMapping mapping) {
+        Origin previous = this.currentOrigin.get();
+        if (previous != null) {
+            origin = previous;
+        }
+        this.currentOrigin.set(origin.buildLoadOrigin(mapping, true));
+        return previous;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the thread's current origin, tagging the lazy relationships it creates.
+     */
+    public void setCurrentOrigin(Origin origin) {
+        if (origin == null) {
+            this.currentOrigin.remove();
+        } else {
+            this.currentOrigin.set(origin);
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of loads of a relationship by the same root query execution that are an N+1 pattern.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of loads of a relationship by the same root query execution that are an N+1 pattern.
+     * The default is 5.
+     */
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the statistics of each root query and relationship path, in order of total load time.
+     */
+    public List<LazyLoadStatistics> getStatistics() {
+        List<LazyLoadStatistics> statistics = new ArrayList<>(this.statistics.values());
+        Collections.sort(statistics, new Comparator<LazyLoadStatistics>() {
+            @Override
+            public int compare(LazyLoadStatistics first, LazyLoadStatistics second) {
+                return Long.compare(second.getTotalTime(), first.getTotalTime());
+            }
+        });
+        return statistics;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the statistics of the root query and relationship paths with N+1 executions, in order of total load time.
+     */
+    public List<LazyLoadStatistics> getNPlusOneStatistics() {
+        List<LazyLoadStatistics> statistics = getStatistics();
+        List<LazyLoadStatistics> nPlusOneStatistics = new ArrayList<>(statistics.size());
+        for (LazyLoadStatistics statistic : statistics) {
+            if (statistic.getNPlusOneExecutions() > 0) {
+                nPlusOneStatistics.add(statistic);
+            }
+        }
+        return nPlusOneStatistics;
+    }
+
+    /**
+     * PUBLIC:
+     * Clear the statistics.
+     */
+    public void clear() {
+        this.statistics.clear();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the report of the root query and relationship paths with N+1 executions, and the suggested fetch plan changes.
+     */
+    public String buildReport() {
+        StringWriter writer = new StringWriter();
+        writer.write("\nFetch Plan Monitor:");
+        writer.write(String.valueOf(System.currentTimeMillis()));
+        writer.write("\nQuery\tRelationship\tExecutions\tN+1 Executions\tLoads\tMax Loads\tTime (ns)\tSuggestion\n");
+        for (LazyLoadStatistics statistic : getNPlusOneStatistics()) {
+            writer.write(statistic.getQueryName());
+            writer.write("\t");
+            writer.write(statistic.getPath());
+            writer.write("\t");
+            writer.write(String.valueOf(statistic.getExecutions()));
+            writer.write("\t");
+            writer.write(String.valueOf(statistic.getNPlusOneExecutions()));
+            writer.write("\t");
+            writer.write(String.valueOf(statistic.getLoads()));
+            writer.write("\t");
+            writer.write(String.valueOf(statistic.getMaxLoads()));
+            writer.write("\t");
+            writer.write(String.valueOf(statistic.getTotalTime()));
+            writer.write("\t");
+            writer.write(statistic.getSuggestion());
+            writer.write("\n");
+        }
+        return writer.toString();
+    }
+
+    private void readObject(java.io.ObjectInputStream stream) throws java.io.IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.currentOrigin = new ThreadLocal<>();
+    }
+
+    /**
+     * INTERNAL:
+     * A root query execution, shared by the origins of the objects it reads, directly or through lazy loads.
+     * Records the number of loads of each relationship path.
+     */
+    public static class Execution {
+        protected final String queryName;
+        protected final Map<String, Integer> loads;
+        /** If the root query is still executing. */
+        protected volatile boolean isActive;
+
+        public Execution(String queryName) {
+            this.queryName = queryName;
+            this.loads = new HashMap<>();
+            this.isActive = true;
+        }
+
+        public String getQueryName() {
+            return queryName;
+        }
+
+        /**
+         * Return if the root query is still executing.
+         */
+        public boolean isActive() {
+            return isActive;
+        }
+
+        public void setIsActive(boolean isActive) {
+            this.isActive = isActive;
+        }
+
+        /**
+         * Record a load of the relationship path, return the number of loads of the path.
+         */
+        public synchronized int recordLoad(String path) {
+            Integer count = this.loads.get(path);
+            int loads = (count == null) ? 1 : count.intValue() + 1;
+            this.loads.put(path, Integer.valueOf(loads));
+            return loads;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * The root query execution and relationship path that read an object,
+     * the lazy relationships of the object are tagged with its origin.
+     */
+    public static class Origin {
+        protected final FetchPlanMonitor monitor;
+        protected final Execution execution;
+        /** The relationship being loaded, null for the root query execution. */
+        protected final DatabaseMapping mapping;
+        protected final String path;
+        /** If the unit of work relationship is being instantiated, and the load is not yet recorded. */
+        protected final boolean isInstantiating;
+
+        public Origin(FetchPlanMonitor monitor, Execution execution) {
+            this(monitor, execution, null, null, false);
+        }
+
+        protected Origin(FetchPlanMonitor monitor, Execution execution, DatabaseMapping mapping, String path, boolean isInstantiating) {
+            this.monitor = monitor;
+            this.execution = execution;
+            this.mapping = mapping;
+            this.path = path;
+            this.isInstantiating = isInstantiating;
+        }
+
+        /**
+         * Return the origin of the objects read by loading the relationship of an object of this origin.
+         */
+        public Origin buildLoadOrigin(DatabaseMapping mapping, boolean isInstantiating) {
+            String path = mapping.getAttributeName();
+            if (this.path != null) {
+                path = this.path + "." + path;
+            }
+            return new Origin(this.monitor, this.execution, mapping, path, isInstantiating);
+        }
+
+        public FetchPlanMonitor getMonitor() {
+            return monitor;
+        }
+
+        public Execution getExecution() {
+            return execution;
+        }
+
+        public DatabaseMapping getMapping() {
+            return mapping;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public boolean isInstantiating() {
+            return isInstantiating;
+        }
+    }
+
+    /**
+     * <p><b>Purpose</b>: The lazy loads of a relationship path of the objects read by a root query.
+     */
+    public static class LazyLoadStatistics implements Serializable {
+        protected final String queryName;
+        protected final String path;
+        protected final boolean isCollection;
+        /** The number of root query executions that loaded the relationship. */
+        protected long executions;
+        /** The number of root query executions that loaded the relationship the threshold or more times. */
+        protected long nPlusOneExecutions;
+        protected long loads;
+        protected long maxLoads;
+        protected long totalTime;
+
+        public LazyLoadStatistics(String queryName, String path, DatabaseMapping mapping) {
+            this.queryName = queryName;
+            this.path = path;
+            this.isCollection = mapping.isCollectionMapping();
+        }
+
+        /**
+         * INTERNAL:
+         * Record a load, the number of loads of the relationship by its root query execution, and its time.
+         */
+        public synchronized void recordLoad(int executionLoads, int threshold, long time) {
+            if (executionLoads == 1) {
+                this.executions++;
+            }
+            if (executionLoads == threshold) {
+                this.nPlusOneExecutions++;
+            }
+            if (executionLoads > this.maxLoads) {
+                this.maxLoads = executionLoads;
+            }
+            this.loads++;
+            this.totalTime += time;
+        }
+
+        /**
+         * Return the suggested fetch plan change for the root query.
+         * A nested relationship should be loaded with a load group, a to-many relationship batch fetched,
+         * and a to-one relationship join fetched.
+         */
+        public String getSuggestion() {
+            if (this.path.indexOf('.') != -1) {
+                return "LoadGroup with attribute " + this.path;
+            } else if (this.isCollection) {
+                return "BATCH FETCH " + this.path + " (eclipselink.batch)";
+            } else {
+                return "JOIN FETCH " + this.path + " (eclipselink.left-join-fetch)";
+            }
+        }
+
+        /**
+         * Return the name of the root query.
+         */
+        public String getQueryName() {
+            return queryName;
+        }
+
+        /**
+         * Return the relationship path from the root query's objects.
+         */
+        public String getPath() {
+            return path;
+        }
+
+        public boolean isCollection() {
+            return isCollection;
+        }
+
+        public synchronized long getExecutions() {
+            return executions;
+        }
+
+        public synchronized long getNPlusOneExecutions() {
+            return nPlusOneExecutions;
+        }
+
+        public synchronized long getLoads() {
+            return loads;
+        }
+
+        /**
+         * Return the most loads by a root query execution.
+         */
+        public synchronized long getMaxLoads() {
+            return maxLoads;
+        }
+
+        /**
+         * Return the total time of the loads in nanoseconds.
+         */
+        public synchronized long getTotalTime() {
+            return totalTime;
+        }
+
+        @Override
+        public String toString() {
+            return "LazyLoadStatistics(" + this.queryName + ", " + this.path + ", loads=" + getLoads() + ", N+1 executions=" + getNPlusOneExecutions() + ")";
+        }
+    }
+}
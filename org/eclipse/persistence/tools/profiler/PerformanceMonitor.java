@@ -19,6 +19,8 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.io.*;
 
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
 import org.eclipse.persistence.queries.*;
 import org.eclipse.persistence.sessions.Record;
 import org.eclipse.persistence.sessions.SessionProfiler;
@@ -41,6 +43,8 @@ public class PerformanceMonitor implements Serializable, Cloneable, SessionProfi
     protected long lastDumpTime;
     protected long dumpTime;
     protected int profileWeight;
+    /** Detects N+1 lazy loading of the queries executed, null if not monitoring fetch plans. */
+    protected FetchPlanMonitor fetchPlanMonitor;
 
     /**
      * PUBLIC:
@@ -53,6 +57,24 @@ public class PerformanceMonitor implements Serializable, Cloneable, SessionProfi
         this.lastDumpTime = System.currentTimeMillis();
         this.dumpTime = 60000; // 1 minute
         this.profileWeight = SessionProfiler.ALL;
+        if (FetchPlanMonitor.shouldMonitor()) {
+            this.fetchPlanMonitor = new FetchPlanMonitor();
+        }
+    }
+
+    /**
+     * Return the monitor detecting N+1 lazy loading of the queries executed, null if not monitoring fetch plans.
+     */
+    public FetchPlanMonitor getFetchPlanMonitor() {
+        return fetchPlanMonitor;
+    }
+
+    /**
+     * Set the monitor to detect N+1 lazy loading of the queries executed, null to not monitor fetch plans.
+     * Its report of suggested fetch plan changes is logged with the monitor results.
+     */
+    public void setFetchPlanMonitor(FetchPlanMonitor fetchPlanMonitor) {
+        this.fetchPlanMonitor = fetchPlanMonitor;
     }
 
     /**
@@ -91,6 +113,7 @@ public class PerformanceMonitor implements Serializable, Cloneable, SessionProfi
      */
     public void dumpResults() {
         this.lastDumpTime = System.currentTimeMillis();
+        updateCacheStatistics();
         StringWriter writer = new StringWriter();
         writer.write("\nPerformance Monitor:");
         writer.write(String.valueOf(this.lastDumpTime));
@@ -111,6 +134,9 @@ public class PerformanceMonitor implements Serializable, Cloneable, SessionProfi
             }
             writer.write("\n");
         }
+        if (this.fetchPlanMonitor != null) {
+            writer.write(this.fetchPlanMonitor.buildReport());
+        }
         try {
             this.session.getLog().write(writer.toString());
             this.session.getLog().flush();
@@ -119,6 +145,45 @@ public class PerformanceMonitor implements Serializable, Cloneable, SessionProfi
         }
     }
 
+    /**
+     * Update the hit, miss and eviction counts of the JPQL parse cache and the descriptor query caches,
+     * and the hit ratio of these and the statement cache.
+     */
+    protected void updateCacheStatistics() {
+        if (this.session != null) {
+            ConcurrentFixedCache parseCache = this.session.getProject().getJPQLParseCache();
+            this.operationTimings.put(SessionProfiler.JPQLParseCacheHits, Long.valueOf(parseCache.getHits()));
+            this.operationTimings.put(SessionProfiler.JPQLParseCacheMisses, Long.valueOf(parseCache.getMisses()));
+            this.operationTimings.put(SessionProfiler.JPQLParseCacheEvictions, Long.valueOf(parseCache.getEvictions()));
+            long[] statistics = new long[3];
+            for (ClassDescriptor descriptor : this.session.getDescriptors().values()) {
+                long[] descriptorStatistics = descriptor.getQueryManager().getQueryCacheStatistics();
+                for (int index = 0; index < statistics.length; index++) {
+                    statistics[index] += descriptorStatistics[index];
+                }
+            }
+            this.operationTimings.put(SessionProfiler.QueryCacheHits, Long.valueOf(statistics[0]));
+            this.operationTimings.put(SessionProfiler.QueryCacheMisses, Long.valueOf(statistics[1]));
+            this.operationTimings.put(SessionProfiler.QueryCacheEvictions, Long.valueOf(statistics[2]));
+        }
+        updateHitRatio(SessionProfiler.StatementCacheHits, SessionProfiler.StatementCacheMisses, SessionProfiler.StatementCacheHitRatio);
+        updateHitRatio(SessionProfiler.JPQLParseCacheHits, SessionProfiler.JPQLParseCacheMisses, SessionProfiler.JPQLParseCacheHitRatio);
+        updateHitRatio(SessionProfiler.QueryCacheHits, SessionProfiler.QueryCacheMisses, SessionProfiler.QueryCacheHitRatio);
+    }
+
+    /**
+     * Compute the hit ratio from the hit and miss counters.
+     */
+    protected void updateHitRatio(String hitsName, String missesName, String ratioName) {
+        Long hits = (Long)this.operationTimings.get(hitsName);
+        Long misses = (Long)this.operationTimings.get(missesName);
+        long total = ((hits == null) ? 0 : hits.longValue()) + ((misses == null) ? 0 : misses.longValue());
+        if (total > 0) {
+            double ratio = ((hits == null) ? 0 : hits.longValue()) / (double)total;
+            this.operationTimings.put(ratioName, NumberFormat.getPercentInstance().format(ratio));
+        }
+    }
+
     /**
      * INTERNAL:
      * End the operation timing.
@@ -189,6 +254,23 @@ public class PerformanceMonitor implements Serializable, Cloneable, SessionProfi
      * Monitoring is done on the endOperation only.
      */
     public Object profileExecutionOfQuery(DatabaseQuery query, Record row, AbstractSession session) {
+        FetchPlanMonitor fetchPlanMonitor = this.fetchPlanMonitor;
+        if (fetchPlanMonitor == null) {
+            return executeQuery(query, row, session);
+        }
+        FetchPlanMonitor.Origin previousOrigin = fetchPlanMonitor.startQuery(query);
+        try {
+            return executeQuery(query, row, session);
+        } finally {
+            fetchPlanMonitor.endQuery(previousOrigin);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the query, monitoring its time and executions.
+     */
+    protected Object executeQuery(DatabaseQuery query, Record row, AbstractSession session) {
         if (this.profileWeight < SessionProfiler.HEAVY) {
             return session.internalExecuteQuery(query, (AbstractRecord)row);
         }